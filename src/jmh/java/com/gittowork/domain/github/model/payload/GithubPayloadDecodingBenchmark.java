@@ -0,0 +1,73 @@
+package com.gittowork.domain.github.model.payload;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GitHub issue 목록 한 페이지(100개)를 typed payload로 바로 decode 하는 방식과,
+ * 이전처럼 List&lt;Map&gt;으로 decode 하는 방식을 비교하는 benchmark.
+ * <p>
+ * 응답에는 실제 API와 같이 사용하지 않는 필드(reactions, *_url 등)를 포함한다.
+ * 할당량은 ./gradlew jmh -Pjmh.profilers=gc 로 함께 측정한다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GithubPayloadDecodingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(issueJson(i));
+        }
+        page = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<GithubIssuePayload> typedPayload() throws IOException {
+        return objectMapper.readValue(page, new TypeReference<List<GithubIssuePayload>>() {});
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> mapTree() throws IOException {
+        return objectMapper.readValue(page, new TypeReference<List<Map<String, Object>>>() {});
+    }
+
+    private static String issueJson(int index) {
+        String user = """
+                {"login":"octocat","id":583231,"node_id":"MDQ6VXNlcjU4MzIzMQ==","avatar_url":"https://avatars.githubusercontent.com/u/583231",
+                 "url":"https://api.github.com/users/octocat","html_url":"https://github.com/octocat","type":"User","site_admin":false}""";
+        return """
+                {"url":"https://api.github.com/repos/octocat/hello/issues/%1$d","repository_url":"https://api.github.com/repos/octocat/hello",
+                 "labels_url":"https://api.github.com/repos/octocat/hello/issues/%1$d/labels{/name}",
+                 "comments_url":"https://api.github.com/repos/octocat/hello/issues/%1$d/comments",
+                 "html_url":"https://github.com/octocat/hello/issues/%1$d","id":%2$d,"node_id":"I_kwDOAbcdef%1$d","number":%1$d,
+                 "title":"Issue %1$d","user":%3$s,
+                 "labels":[{"id":%4$d,"node_id":"LA_kwDO","url":"https://api.github.com/repos/octocat/hello/labels/bug",
+                            "name":"bug","color":"d73a4a","default":true,"description":"Something isn't working"}],
+                 "state":"open","locked":false,"assignee":%3$s,"assignees":[%3$s],"milestone":null,"comments":%1$d,
+                 "created_at":"2024-01-01T00:00:00Z","updated_at":"2024-01-02T00:00:00Z","closed_at":null,
+                 "author_association":"OWNER","body":"Body of issue %1$d",
+                 "reactions":{"url":"https://api.github.com/repos/octocat/hello/issues/%1$d/reactions","total_count":0,"+1":0,"-1":0},
+                 "timeline_url":"https://api.github.com/repos/octocat/hello/issues/%1$d/timeline","state_reason":null}"""
+                .formatted(index, 2_000_000_000L + index, user, 5_000_000_000L + index);
+    }
+}
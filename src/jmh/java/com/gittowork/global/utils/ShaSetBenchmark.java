@@ -0,0 +1,71 @@
+package com.gittowork.global.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋 동기화의 중복 확인에서 사용하는 ShaSet과 HashSet&lt;String&gt;을 비교하는 benchmark.
+ * <p>
+ * 저장된 SHA를 모두 추가한 뒤 같은 수의 SHA(절반은 저장된 값)를 조회한다.
+ * 할당량은 ./gradlew jmh -Pjmh.profilers=gc 로 함께 측정한다.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShaSetBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private String[] stored;
+    private String[] lookups;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        stored = randomShas(random, size);
+        lookups = new String[size];
+        for (int i = 0; i < size; i++) {
+            lookups[i] = i % 2 == 0 ? stored[random.nextInt(size)] : randomShas(random, 1)[0];
+        }
+    }
+
+    @Benchmark
+    public void shaSet(Blackhole blackhole) {
+        ShaSet shas = new ShaSet();
+        for (String sha : stored) {
+            shas.add(sha);
+        }
+        for (String sha : lookups) {
+            blackhole.consume(shas.contains(sha));
+        }
+    }
+
+    @Benchmark
+    public void hashSet(Blackhole blackhole) {
+        Set<String> shas = new HashSet<>();
+        for (String sha : stored) {
+            shas.add(sha);
+        }
+        for (String sha : lookups) {
+            blackhole.consume(shas.contains(sha));
+        }
+    }
+
+    private static String[] randomShas(Random random, int count) {
+        String[] shas = new String[count];
+        byte[] bytes = new byte[20];
+        for (int i = 0; i < count; i++) {
+            random.nextBytes(bytes);
+            shas[i] = HexFormat.of().formatHex(bytes);
+        }
+        return shas;
+    }
+}
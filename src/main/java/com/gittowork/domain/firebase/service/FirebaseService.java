@@ -7,6 +7,8 @@ import com.gittowork.domain.user.entity.User;
 import com.gittowork.domain.user.repository.UserRepository;
 import com.gittowork.global.exception.auth.UserNotFoundException;
 import com.gittowork.global.dto.response.MessageOnlyResponse;
+import com.gittowork.global.service.resilience.OutboundCallGuard;
+import com.gittowork.global.service.resilience.OutboundDependency;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
@@ -33,6 +35,7 @@ public class FirebaseService {
 
     private final UserAlertLogRepository userAlertLogRepository;
     private final UserRepository userRepository;
+    private final OutboundCallGuard outboundCallGuard;
 
     /**
      * 사용자의 FCM 토큰을 DB에 저장 또는 업데이트합니다.
@@ -68,13 +71,11 @@ public class FirebaseService {
      * @throws FirebaseMessagingException FCM 전송 중 오류가 발생할 때 던져집니다.
      */
     public void sendCoverLetterMessage(User user, String title, String message, String alertType) throws FirebaseMessagingException {
-        FirebaseMessaging.getInstance().send(
-                Message.builder()
-                        .putData("title", title)
-                        .putData("body", message)
-                        .setToken(user.getFcmToken())
-                        .build()
-        );
+        send(Message.builder()
+                .putData("title", title)
+                .putData("body", message)
+                .setToken(user.getFcmToken())
+                .build());
 
         userAlertLogRepository.save(
                 UserAlertLog.builder()
@@ -98,14 +99,12 @@ public class FirebaseService {
      * @throws FirebaseMessagingException FCM 전송 중 오류가 발생할 때 던져집니다.
      */
     public void sendGithubAnalysisMessage(User user, String title, String message, String alertType, String selectedRepositoryId) throws FirebaseMessagingException {
-        FirebaseMessaging.getInstance().send(
-                Message.builder()
-                        .putData("title", title)
-                        .putData("body", message)
-                        .putData("selectedRepositoryId", selectedRepositoryId)
-                        .setToken(user.getFcmToken())
-                        .build()
-        );
+        send(Message.builder()
+                .putData("title", title)
+                .putData("body", message)
+                .putData("selectedRepositoryId", selectedRepositoryId)
+                .setToken(user.getFcmToken())
+                .build());
 
         userAlertLogRepository.save(
                 UserAlertLog.builder()
@@ -116,4 +115,15 @@ public class FirebaseService {
                         .build()
         );
     }
+
+    /**
+     * FCM 메시지를 FCM 전용 bulkhead와 circuit breaker 안에서 전송합니다.
+     * 중복 알림을 막기 위해 재시도하지 않습니다.
+     *
+     * @param message 전송할 메시지
+     * @throws FirebaseMessagingException FCM 전송 중 오류가 발생할 때 던져집니다.
+     */
+    private void send(Message message) throws FirebaseMessagingException {
+        outboundCallGuard.callChecked(OutboundDependency.FCM, () -> FirebaseMessaging.getInstance().send(message));
+    }
 }
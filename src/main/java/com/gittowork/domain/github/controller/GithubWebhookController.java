@@ -0,0 +1,44 @@
+package com.gittowork.domain.github.controller;
+
+import com.gittowork.domain.github.service.GithubWebhookService;
+import com.gittowork.global.dto.response.ApiResponse;
+import com.gittowork.global.dto.response.MessageOnlyResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * GitHub webhook(push, issues, pull_request, repository)을 수신하는 컨트롤러입니다.
+ * 요청은 JWT 대신 X-Hub-Signature-256 서명으로 검증합니다.
+ */
+@RestController
+@RequestMapping(value = "/github/webhook", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Github Webhook", description = "GitHub webhook 수신 API")
+@RequiredArgsConstructor
+public class GithubWebhookController {
+
+    private final GithubWebhookService githubWebhookService;
+
+    @Operation(summary = "GitHub webhook 수신", description = "서명을 검증한 뒤 이벤트를 내부 queue에 등록하여 저장된 GitHub 데이터에 반영합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "등록 성공",
+                    content = @Content(schema = @Schema(implementation = MessageOnlyResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "서명 검증 실패", content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<MessageOnlyResponse> receiveWebhook(
+            @RequestHeader("X-GitHub-Event") String event,
+            @RequestHeader(value = "X-GitHub-Delivery", required = false) String deliveryId,
+            @RequestHeader(value = "X-Hub-Signature-256", required = false) String signature,
+            @RequestBody byte[] body) {
+        boolean accepted = githubWebhookService.receive(event, deliveryId, signature, body);
+        return ApiResponse.success(HttpStatus.ACCEPTED,
+                new MessageOnlyResponse(accepted ? "Webhook이 등록되었습니다." : "처리할 이벤트가 없습니다."));
+    }
+}
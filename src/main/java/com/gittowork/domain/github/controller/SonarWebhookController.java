@@ -0,0 +1,42 @@
+package com.gittowork.domain.github.controller;
+
+import com.gittowork.domain.github.service.SonarWebhookService;
+import com.gittowork.global.dto.response.ApiResponse;
+import com.gittowork.global.dto.response.MessageOnlyResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * SonarQube 분석 완료 webhook을 수신하는 컨트롤러입니다.
+ * 요청은 JWT 대신 X-Sonar-Webhook-HMAC-SHA256 서명으로 검증합니다.
+ */
+@RestController
+@RequestMapping(value = "/sonar/webhook", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Sonar Webhook", description = "SonarQube webhook 수신 API")
+@RequiredArgsConstructor
+public class SonarWebhookController {
+
+    private final SonarWebhookService sonarWebhookService;
+
+    @Operation(summary = "SonarQube webhook 수신", description = "서명을 검증한 뒤 완료를 기다리던 SonarQube 분석 작업을 이어서 진행합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수신 성공",
+                    content = @Content(schema = @Schema(implementation = MessageOnlyResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "서명 검증 실패", content = @Content)
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<MessageOnlyResponse> receiveWebhook(
+            @RequestHeader(value = "X-Sonar-Webhook-HMAC-SHA256", required = false) String signature,
+            @RequestBody byte[] body) {
+        boolean completed = sonarWebhookService.receive(signature, body);
+        return ApiResponse.success(HttpStatus.OK,
+                new MessageOnlyResponse(completed ? "분석 완료가 반영되었습니다." : "기다리는 분석이 없습니다."));
+    }
+}
@@ -0,0 +1,75 @@
+package com.gittowork.domain.github.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기 / 실행 중인 GitHub 분석 작업. 작업이 끝나면(성공 / 실패 모두) 삭제된다.
+ * repository 조합(selectedRepositoriesId)마다 하나만 존재할 수 있다.
+ */
+@Entity
+@Table(name = "analysis_job",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_analysis_job_selected_repositories", columnNames = "selected_repositories_id")
+        },
+        indexes = {
+                @Index(name = "idx_analysis_job_status_enqueued_at", columnList = "status, enqueued_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalysisJob {
+
+    public enum Status {
+        QUEUED, RUNNING
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "analysis_job_id", nullable = false)
+    private Integer id;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Size(max = 100)
+    @NotNull
+    @Column(name = "github_name", nullable = false, length = 100)
+    private String githubName;
+
+    @Size(max = 255)
+    @NotNull
+    @Column(name = "selected_repositories_id", nullable = false, length = 255)
+    private String selectedRepositoriesId;
+
+    /**
+     * 분석 대상 repoId 목록. (쉼표로 구분)
+     */
+    @NotNull
+    @Lob
+    @Column(name = "repo_ids", nullable = false)
+    private String repoIds;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @NotNull
+    @Column(name = "enqueued_at", nullable = false)
+    private LocalDateTime enqueuedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+}
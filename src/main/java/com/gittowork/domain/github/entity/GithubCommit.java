@@ -3,11 +3,23 @@ package com.gittowork.domain.github.entity;
 import com.gittowork.domain.github.model.commit.Commit;
 import org.springframework.data.annotation.Id;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * repository의 커밋을 최대 BUCKET_SIZE개씩 나누어 저장하는 bucket Document.
+ * <p>
+ * 하나의 repository는 bucket 번호가 증가하는 여러 Document로 구성된다.
+ * bucket / count 필드가 없는 Document는 bucket 도입 이전에 저장된 것으로, 읽기에는 포함되지만 더 이상 추가 기록하지 않는다.
+ * 따라서 (userId, repoId, bucket) unique 인덱스는 bucket 필드가 있는 Document에만 적용된다.
+ * </p>
+ */
 @Document(collection = "github_commit")
+@CompoundIndex(name = "idx_commit_user_repo_bucket", def = "{'userId': 1, 'repoId': 1, 'bucket': 1}", unique = true,
+        partialFilter = "{'bucket': {'$exists': true}}")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,6 +27,8 @@ import java.util.List;
 @Builder
 public class GithubCommit {
 
+    public static final int BUCKET_SIZE = 500;
+
     @Id
     private String githubCommitId;
 
@@ -22,5 +36,13 @@ public class GithubCommit {
 
     private int repoId;
 
+    private Integer bucket;
+
+    private Integer count;
+
+    private LocalDateTime firstCommitDate;
+
+    private LocalDateTime lastCommitDate;
+
     private List<Commit> commits;
 }
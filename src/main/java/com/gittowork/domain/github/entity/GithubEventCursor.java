@@ -0,0 +1,31 @@
+package com.gittowork.domain.github.entity;
+
+import org.springframework.data.annotation.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "github_event_cursor")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubEventCursor {
+
+    @Id
+    private String githubEventCursorId;
+
+    @Indexed(unique = true)
+    private int userId;
+
+    private String lastEventId;
+
+    private LocalDateTime lastEventAt;
+
+    private LocalDateTime nextPollAt;
+
+    private LocalDateTime polledAt;
+}
@@ -0,0 +1,79 @@
+package com.gittowork.domain.github.entity;
+
+import com.gittowork.domain.github.model.repository.Repository;
+import org.springframework.data.annotation.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "github_ingestion_task")
+@CompoundIndex(name = "idx_ingestion_task_status_enqueued", def = "{'status': 1, 'enqueuedAt': 1}")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubIngestionTask {
+
+    public enum Type {
+        /**
+         * repository 목록(GRAPHQL 모드는 language, issue / pull request / commit 수 포함)을 저장하고 repository별 작업을 등록한다.
+         */
+        REPOSITORIES,
+        /**
+         * repository 하나의 commit, language, issue, pull request를 저장한다.
+         */
+        REPOSITORY,
+        /**
+         * 사용자의 신규 GitHub 이벤트를 확인한다.
+         */
+        EVENTS
+    }
+
+    public enum Priority {
+        /**
+         * onboarding 화면에서 결과를 기다리고 있는 사용자의 작업.
+         */
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, FAILED
+    }
+
+    @Id
+    private String githubIngestionTaskId;
+
+    private int userId;
+
+    private String githubName;
+
+    private Type type;
+
+    /**
+     * REPOSITORY 작업의 대상 repository. (그 외 작업은 null)
+     */
+    private Repository repository;
+
+    private Priority priority;
+
+    private Status status;
+
+    private int attempts;
+
+    private String lastError;
+
+    private LocalDateTime enqueuedAt;
+
+    private LocalDateTime startedAt;
+
+    /**
+     * maxAttempts를 넘겨 FAILED가 된 시각. TTL 인덱스로 7일 뒤 삭제되며, 그 외 상태의 작업은 null이므로 삭제되지 않는다.
+     */
+    @Indexed(name = "idx_ingestion_task_failed_at", expireAfter = "7d")
+    private LocalDateTime failedAt;
+}
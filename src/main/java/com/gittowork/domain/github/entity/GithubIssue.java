@@ -4,11 +4,13 @@ import com.gittowork.domain.github.model.issue.IssueLabel;
 import com.gittowork.domain.github.model.issue.IssueUser;
 import org.springframework.data.annotation.Id;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
 
 @Document(collection = "github_issue")
+@CompoundIndex(name = "idx_issue_repo_issue", def = "{'repoId': 1, 'issueId': 1}", unique = true)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,9 +4,11 @@ import com.gittowork.domain.github.model.pullrequest.PullRequestBranch;
 import com.gittowork.domain.github.model.pullrequest.PullRequestUser;
 import org.springframework.data.annotation.Id;
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "github_pull_requests")
+@CompoundIndex(name = "idx_pull_request_repo_pr", def = "{'repoId': 1, 'prId': 1}", unique = true)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,33 @@
+package com.gittowork.domain.github.entity;
+
+import org.springframework.data.annotation.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "github_repository_stats")
+@CompoundIndex(name = "idx_repository_stats_user_repo", def = "{'userId': 1, 'repoId': 1}", unique = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubRepositoryStats {
+
+    @Id
+    private String githubRepositoryStatsId;
+
+    private int userId;
+
+    private int repoId;
+
+    private int commitCount;
+
+    private int issueCount;
+
+    private int prCount;
+
+    private LocalDateTime syncedAt;
+}
@@ -0,0 +1,44 @@
+package com.gittowork.domain.github.entity;
+
+import org.springframework.data.annotation.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Document(collection = "github_resync_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubResyncCheckpoint {
+
+    @Id
+    private String githubResyncCheckpointId;
+
+    /**
+     * 진행 중인 재동기화 시간대가 시작된 날짜.
+     */
+    private LocalDate nightDate;
+
+    /**
+     * 마지막으로 큐에 등록한 사용자 id. 다음 배치는 이 id 다음 사용자부터 시작한다.
+     */
+    private int lastUserId;
+
+    /**
+     * 이번 시간대에 GitHub로 실제 보낸 요청 수.
+     */
+    private long spentRequests;
+
+    private int queuedUsers;
+
+    /**
+     * 전체 활성 사용자를 한 바퀴 모두 등록했는지 여부. 다음 시간대에 처음 사용자부터 다시 시작한다.
+     */
+    private boolean passCompleted;
+
+    private LocalDateTime updatedAt;
+}
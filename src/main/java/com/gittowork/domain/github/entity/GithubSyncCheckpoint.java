@@ -0,0 +1,31 @@
+package com.gittowork.domain.github.entity;
+
+import org.springframework.data.annotation.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "github_sync_checkpoint")
+@CompoundIndex(name = "idx_sync_checkpoint_user_repo", def = "{'userId': 1, 'repoId': 1}", unique = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubSyncCheckpoint {
+
+    @Id
+    private String githubSyncCheckpointId;
+
+    private int userId;
+
+    private int repoId;
+
+    private LocalDateTime lastCommitDate;
+
+    private String headSha;
+
+    private LocalDateTime syncedAt;
+}
@@ -0,0 +1,40 @@
+package com.gittowork.domain.github.entity;
+
+import org.springframework.data.annotation.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * repository HEAD 커밋 기준의 코드 분석(PMD / SonarQube) 결과.
+ * HEAD가 바뀌지 않은 repository는 스캐너를 다시 실행하지 않고 이 결과를 재사용한다.
+ */
+@Document(collection = "repository_analysis_cache")
+@CompoundIndex(name = "idx_analysis_cache_repo_head", def = "{'repoId': 1, 'headSha': 1}", unique = true)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RepositoryAnalysisCache {
+
+    @Id
+    private String repositoryAnalysisCacheId;
+
+    private int repoId;
+
+    private String headSha;
+
+    private int score;
+
+    private String insights;
+
+    private Map<String, Integer> languages;
+
+    private Map<String, String> projectMeasures;
+
+    private LocalDateTime analyzedAt;
+}
@@ -22,4 +22,8 @@ public class Commit {
     private Map<String, String> author;
 
     private List<String> filesChanged;
+
+    private Integer additions;
+
+    private Integer deletions;
 }
@@ -15,6 +15,10 @@ public class Event {
 
     private String repo;
 
+    private String refType;
+
+    private Boolean publicEvent;
+
     private LocalDateTime createdAt;
 
 }
@@ -8,7 +8,7 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class IssueLabel {
-    private int id;
+    private long id;
     private String name;
     private String color;
     private String description;
@@ -0,0 +1,29 @@
+package com.gittowork.domain.github.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GithubIssuePayload {
+    private long id;
+    private int number;
+    private String url;
+    private String commentsUrl;
+    private String title;
+    private String body;
+    private GithubUserPayload user;
+    private List<GithubLabelPayload> labels;
+    private GithubUserPayload assignee;
+    private List<GithubUserPayload> assignees;
+    private int comments;
+}
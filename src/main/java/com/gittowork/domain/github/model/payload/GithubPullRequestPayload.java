@@ -0,0 +1,57 @@
+package com.gittowork.domain.github.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GithubPullRequestPayload {
+    private long id;
+    private int number;
+    private String url;
+    private String htmlUrl;
+    private String diffUrl;
+    private String patchUrl;
+    private String title;
+    private String body;
+    private int comments;
+    private int reviewComments;
+    private int commits;
+    private GithubUserPayload user;
+    private Branch head;
+    private Branch base;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class Branch {
+        private String label;
+        private String ref;
+        private String sha;
+        private GithubUserPayload user;
+        private RepoRef repo;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class RepoRef {
+        private int id;
+        private String fullName;
+    }
+}
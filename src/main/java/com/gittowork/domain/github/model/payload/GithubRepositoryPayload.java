@@ -0,0 +1,33 @@
+package com.gittowork.domain.github.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GithubRepositoryPayload {
+    private int id;
+    private String name;
+    private String fullName;
+    private String language;
+    private int stargazersCount;
+    private int forksCount;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+    private OffsetDateTime pushedAt;
+    private String description;
+    private String defaultBranch;
+    private GithubUserPayload owner;
+    @JsonProperty("private")
+    private boolean privateRepository;
+}
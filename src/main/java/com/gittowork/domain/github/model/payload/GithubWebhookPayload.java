@@ -0,0 +1,63 @@
+package com.gittowork.domain.github.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * GitHub webhook(push, issues, pull_request, repository) 요청 body payload.
+ * 이벤트 종류에 따라 사용되는 필드만 채워진다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GithubWebhookPayload {
+    private String action;
+    private String ref;
+    private String before;
+    private String after;
+    private boolean forced;
+    private GithubRepositoryPayload repository;
+    private List<PushCommit> commits;
+    private GithubIssuePayload issue;
+    private GithubPullRequestPayload pullRequest;
+    private GithubUserPayload sender;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class PushCommit {
+        private String id;
+        private String message;
+        private OffsetDateTime timestamp;
+        private boolean distinct;
+        private PushAuthor author;
+        private List<String> added;
+        private List<String> removed;
+        private List<String> modified;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PushAuthor {
+        private String name;
+        private String email;
+        private String username;
+    }
+}
@@ -0,0 +1,29 @@
+package com.gittowork.domain.github.model.sonar;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SonarWebhookPayload {
+
+    private String taskId;
+
+    private String status;
+
+    private Project project;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Project {
+        private String key;
+    }
+}
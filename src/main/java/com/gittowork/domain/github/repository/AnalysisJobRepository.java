@@ -0,0 +1,23 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.AnalysisJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Integer> {
+    List<AnalysisJob> findAllByStatusOrderByEnqueuedAtAsc(AnalysisJob.Status status);
+
+    boolean existsBySelectedRepositoriesId(String selectedRepositoriesId);
+
+    @Transactional
+    @Modifying
+    @Query("update AnalysisJob j set j.status = :queued where j.status = :running")
+    int requeueRunningJobs(@Param("running") AnalysisJob.Status running, @Param("queued") AnalysisJob.Status queued);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -30,4 +31,12 @@ public interface AnalysisStatusRepository extends JpaRepository<AnalysisStatus,
     @Query("update AnalysisStatus a set a.status = :status where a.user.id = :userId and a.selectedRepositoriesId = :selectedRepositoriesId")
     @Modifying
     void updateStatusByUserIdAndSelectedRepositoriesId(Integer userId, @Size(max = 255) @NotNull String selectedRepositoriesId, AnalysisStatus.Status status);
+
+    @Transactional
+    @Modifying
+    @Query("update AnalysisStatus a set a.status = :failed " +
+            " where a.status = :analyzing " +
+            "   and a.selectedRepositoriesId not in (select j.selectedRepositoriesId from AnalysisJob j)")
+    int failOrphanedAnalyses(@Param("analyzing") AnalysisStatus.Status analyzing,
+                             @Param("failed") AnalysisStatus.Status failed);
 }
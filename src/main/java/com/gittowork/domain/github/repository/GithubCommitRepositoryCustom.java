@@ -0,0 +1,17 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.model.commit.Commit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface GithubCommitRepositoryCustom {
+
+    void appendCommits(int userId, int repoId, List<Commit> commits);
+
+    Stream<Commit> streamCommits(int userId, int repoId);
+
+    Set<String> findExistingShas(int userId, int repoId, Collection<String> shas);
+}
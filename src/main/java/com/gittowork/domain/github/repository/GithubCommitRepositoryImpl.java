@@ -0,0 +1,171 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubCommit;
+import com.gittowork.domain.github.model.commit.Commit;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class GithubCommitRepositoryImpl implements GithubCommitRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 1. 메서드 설명: 커밋 목록을 repository의 bucket Document에 나누어 추가한다.
+     * 2. 로직:
+     *    - 여유가 있는 마지막 bucket이 있으면 남은 공간만큼 $push($each), $inc(count), $min / $max(커밋 날짜)로 한 번에 추가한다.
+     *      (count를 조건으로 걸어 동시에 다른 작업이 같은 bucket에 추가한 경우에는 다시 시도한다.)
+     *    - 여유가 있는 bucket이 없으면 다음 번호의 bucket Document를 최대 BUCKET_SIZE개의 커밋으로 새로 생성한다.
+     * 3. param:
+     *      userId  - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repoId  - repository 식별자.
+     *      commits - 추가할 커밋 목록.
+     * 4. return: 없음.
+     */
+    @Override
+    public void appendCommits(int userId, int repoId, List<Commit> commits) {
+        int offset = 0;
+        while (offset < commits.size()) {
+            GithubCommit openBucket = findOpenBucket(userId, repoId);
+            if (openBucket == null) {
+                List<Commit> chunk = commits.subList(offset, Math.min(commits.size(), offset + GithubCommit.BUCKET_SIZE));
+                GithubCommit newBucket = GithubCommit.builder()
+                        .userId(userId)
+                        .repoId(repoId)
+                        .bucket(nextBucketNumber(userId, repoId))
+                        .count(chunk.size())
+                        .firstCommitDate(minCommitDate(chunk))
+                        .lastCommitDate(maxCommitDate(chunk))
+                        .commits(new ArrayList<>(chunk))
+                        .build();
+                try {
+                    mongoTemplate.insert(newBucket);
+                    offset += chunk.size();
+                } catch (DuplicateKeyException e) {
+                    // 다른 작업이 같은 번호의 bucket을 먼저 생성했으므로 다시 조회한다.
+                }
+                continue;
+            }
+
+            int space = GithubCommit.BUCKET_SIZE - openBucket.getCount();
+            List<Commit> chunk = commits.subList(offset, Math.min(commits.size(), offset + space));
+            Query query = Query.query(Criteria.where("_id").is(openBucket.getGithubCommitId())
+                    .and("count").is(openBucket.getCount()));
+            Update update = new Update()
+                    .push("commits").each(chunk.toArray())
+                    .inc("count", chunk.size());
+            Optional.ofNullable(minCommitDate(chunk)).ifPresent(date -> update.min("firstCommitDate", date));
+            Optional.ofNullable(maxCommitDate(chunk)).ifPresent(date -> update.max("lastCommitDate", date));
+            if (mongoTemplate.updateFirst(query, update, GithubCommit.class).getModifiedCount() > 0) {
+                offset += chunk.size();
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: repository의 모든 커밋을 bucket 순서대로 cursor로 읽는 Stream을 반환한다.
+     * 2. 로직:
+     *    - userId와 repoId에 해당하는 bucket Document를 bucket 번호 순으로 조회하여 커밋 단위로 펼친다.
+     *    - 반환된 Stream은 DB cursor를 점유하므로 사용 후 반드시 close 해야 한다.
+     * 3. param:
+     *      userId - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repoId - repository 식별자.
+     * 4. return: 커밋 Stream.
+     */
+    @Override
+    public Stream<Commit> streamCommits(int userId, int repoId) {
+        Query query = repositoryQuery(userId, repoId).with(Sort.by(Sort.Direction.ASC, "bucket"));
+        return mongoTemplate.stream(query, GithubCommit.class)
+                .flatMap(bucket -> bucket.getCommits() == null ? Stream.empty() : bucket.getCommits().stream());
+    }
+
+    /**
+     * 1. 메서드 설명: 주어진 SHA 중 repository에 이미 저장된 SHA만 조회한다.
+     * 2. 로직:
+     *    - 해당 SHA를 포함한 repository의 bucket만 찾은 뒤, 커밋을 펼쳐 주어진 SHA만 남기고 SHA 필드만 반환한다.
+     *      (repository의 전체 SHA를 읽지 않으므로 webhook이나 커밋 목록 한 페이지처럼 일부 커밋을 확인할 때 사용한다.)
+     * 3. param:
+     *      userId - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repoId - repository 식별자.
+     *      shas   - 확인할 커밋 SHA 목록.
+     * 4. return: 이미 저장된 SHA 집합.
+     */
+    @Override
+    public Set<String> findExistingShas(int userId, int repoId, Collection<String> shas) {
+        if (shas.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("userId").is(userId)
+                        .and("repoId").is(repoId)
+                        .and("commits.commitSha").in(shas)),
+                Aggregation.unwind("commits"),
+                Aggregation.match(Criteria.where("commits.commitSha").in(shas)),
+                Aggregation.project().and("commits.commitSha").as("sha")
+        );
+        return mongoTemplate.aggregate(aggregation, GithubCommit.class, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(document -> document.getString("sha"))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private GithubCommit findOpenBucket(int userId, int repoId) {
+        Query query = Query.query(Criteria.where("userId").is(userId)
+                        .and("repoId").is(repoId)
+                        .and("count").lt(GithubCommit.BUCKET_SIZE))
+                .with(Sort.by(Sort.Direction.DESC, "bucket"));
+        query.fields().include("count", "bucket");
+        return mongoTemplate.findOne(query, GithubCommit.class);
+    }
+
+    private int nextBucketNumber(int userId, int repoId) {
+        Query query = Query.query(Criteria.where("userId").is(userId)
+                        .and("repoId").is(repoId)
+                        .and("bucket").ne(null))
+                .with(Sort.by(Sort.Direction.DESC, "bucket"));
+        query.fields().include("bucket");
+        GithubCommit last = mongoTemplate.findOne(query, GithubCommit.class);
+        return last == null ? 0 : last.getBucket() + 1;
+    }
+
+    private Query repositoryQuery(int userId, int repoId) {
+        return Query.query(Criteria.where("userId").is(userId).and("repoId").is(repoId));
+    }
+
+    private LocalDateTime minCommitDate(List<Commit> commits) {
+        return commits.stream()
+                .map(Commit::getCommitDate)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    private LocalDateTime maxCommitDate(List<Commit> commits) {
+        return commits.stream()
+                .map(Commit::getCommitDate)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+}
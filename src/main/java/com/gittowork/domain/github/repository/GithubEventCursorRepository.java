@@ -0,0 +1,12 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubEventCursor;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GithubEventCursorRepository extends MongoRepository<GithubEventCursor, String> {
+    Optional<GithubEventCursor> findByUserId(int userId);
+}
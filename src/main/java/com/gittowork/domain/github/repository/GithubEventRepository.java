@@ -2,17 +2,27 @@ package com.gittowork.domain.github.repository;
 
 import com.gittowork.domain.github.entity.GithubEvent;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GithubEventRepository extends MongoRepository<GithubEvent, String> {
 
-    Collection<GithubEvent> findAllByUserId(int userId);
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ '_id': 1 }")
+    List<GithubEvent> findIdsByGithubEventIdIn(Collection<String> githubEventIds);
 
     Optional<GithubEvent> findTopByUserIdAndEvents_RepoOrderByEventsCreatedAtDesc(int userId, String eventRepository);
 
     Optional<GithubEvent> findTopByUserIdOrderByEventsCreatedAtDesc(int userId);
+
+    boolean existsByUserIdAndEvents_RepoInAndEvents_EventTypeInAndEvents_CreatedAtAfter(
+            int userId, Collection<String> eventRepositories, Collection<String> eventTypes, LocalDateTime createdAt);
+
+    List<GithubEvent> findAllByUserIdAndEvents_EventTypeAndEvents_RefTypeAndEvents_PublicEventTrue(
+            int userId, String eventType, String refType);
 }
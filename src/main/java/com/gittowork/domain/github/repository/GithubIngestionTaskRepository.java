@@ -0,0 +1,21 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubIngestionTask;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GithubIngestionTaskRepository extends MongoRepository<GithubIngestionTask, String> {
+    List<GithubIngestionTask> findAllByStatusOrderByEnqueuedAtAsc(GithubIngestionTask.Status status);
+
+    /**
+     * 실행 도중 애플리케이션이 종료되어 RUNNING으로 남은 작업을 다시 대기 상태로 되돌린다.
+     */
+    @Query("{ 'status': 'RUNNING' }")
+    @Update("{ '$set': { 'status': 'QUEUED' } }")
+    long requeueRunningTasks();
+}
@@ -2,8 +2,10 @@ package com.gittowork.domain.github.repository;
 
 import com.gittowork.domain.github.entity.GithubIssue;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +14,11 @@ public interface GithubIssueRepository extends MongoRepository<GithubIssue, Stri
     Optional<List<GithubIssue>> findAllByRepoId(int repoId);
 
     boolean existsByIssueId(long issueId);
+
+    Optional<GithubIssue> findByRepoIdAndIssueId(int repoId, long issueId);
+
+    void deleteByRepoIdAndIssueId(int repoId, long issueId);
+
+    @Query(value = "{ 'repoId': ?0, 'issueId': { $in: ?1 } }", fields = "{ 'issueId': 1 }")
+    List<GithubIssue> findIssueIdsByRepoIdAndIssueIdIn(int repoId, Collection<Long> issueIds);
 }
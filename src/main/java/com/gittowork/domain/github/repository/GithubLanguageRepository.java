@@ -4,9 +4,13 @@ import com.gittowork.domain.github.entity.GithubLanguage;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface GithubLanguageRepository extends MongoRepository<GithubLanguage, Integer> {
     Optional<GithubLanguage> findByUserIdAndRepoId(int userId, int repoId);
+
+    List<GithubLanguage> findAllByUserIdAndRepoIdIn(int userId, Collection<Integer> repoIds);
 }
@@ -2,8 +2,10 @@ package com.gittowork.domain.github.repository;
 
 import com.gittowork.domain.github.entity.GithubPullRequest;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +14,9 @@ public interface GithubPullRequestRepository extends MongoRepository<GithubPullR
     Optional<List<GithubPullRequest>> findAllByRepoId(int repoId);
 
     boolean existsByPrId(int prId);
+
+    Optional<GithubPullRequest> findByRepoIdAndPrId(int repoId, int prId);
+
+    @Query(value = "{ 'repoId': ?0, 'prId': { $in: ?1 } }", fields = "{ 'prId': 1 }")
+    List<GithubPullRequest> findPrIdsByRepoIdAndPrIdIn(int repoId, Collection<Integer> prIds);
 }
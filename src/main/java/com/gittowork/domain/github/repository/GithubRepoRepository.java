@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GithubRepoRepository extends MongoRepository<GithubRepository, Long> {
+public interface GithubRepoRepository extends MongoRepository<GithubRepository, Long>, GithubRepoRepositoryCustom {
 
     Optional<GithubRepository> findByUserId(int userId);
 
@@ -0,0 +1,15 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.model.repository.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface GithubRepoRepositoryCustom {
+
+    void applyRepositoryChanges(int userId, List<Repository> added, Map<Integer, Map<String, Object>> changedFields);
+
+    void removeRepository(int userId, int repoId);
+
+    boolean containsRepository(int userId, int repoId);
+}
@@ -0,0 +1,91 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubRepository;
+import com.gittowork.domain.github.model.repository.Repository;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class GithubRepoRepositoryImpl implements GithubRepoRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 1. 메서드 설명: 사용자의 GithubRepository Document에 신규 repository를 추가하고, 변경된 repository의 필드만 갱신한다.
+     * 2. 로직:
+     *    - 한 번의 ordered bulk 요청으로 다음을 순서대로 수행한다.
+     *         * userId의 Document가 없으면 빈 repositories로 생성한다. (upsert + $setOnInsert)
+     *         * 신규 repository는 같은 repoId가 아직 없을 때만 $push한다. (동시에 실행된 동기화와의 중복 추가 방지)
+     *         * 변경된 repository는 repoId로 배열 원소를 찾아 바뀐 필드만 $set한다. ("repositories.$.{field}")
+     *    - 추가 / 변경할 repository가 없으면 요청을 보내지 않는다.
+     * 3. param:
+     *      userId        - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      added         - 새로 추가할 repository 목록.
+     *      changedFields - repoId → 변경된 필드 이름과 새 값.
+     * 4. return: 없음.
+     */
+    @Override
+    public void applyRepositoryChanges(int userId, List<Repository> added, Map<Integer, Map<String, Object>> changedFields) {
+        if (added.isEmpty() && changedFields.isEmpty()) {
+            return;
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, GithubRepository.class);
+        if (!added.isEmpty()) {
+            operations.upsert(Query.query(Criteria.where("userId").is(userId)),
+                    new Update().setOnInsert("repositories", new ArrayList<>()));
+            for (Repository repository : added) {
+                operations.updateOne(
+                        Query.query(Criteria.where("userId").is(userId).and("repositories.repoId").ne(repository.getRepoId())),
+                        new Update().push("repositories", repository));
+            }
+        }
+        changedFields.forEach((repoId, fields) -> {
+            Update update = new Update();
+            fields.forEach((field, value) -> update.set("repositories.$." + field, value));
+            operations.updateOne(
+                    Query.query(Criteria.where("userId").is(userId).and("repositories.repoId").is(repoId)),
+                    update);
+        });
+        operations.execute();
+    }
+
+    /**
+     * 1. 메서드 설명: 사용자의 GithubRepository Document에서 repoId에 해당하는 repository를 제거한다.
+     * 2. 로직:
+     *    - Document 전체를 다시 저장하지 않고 $pull로 배열 원소만 제거한다.
+     * 3. param:
+     *      userId - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repoId - 제거할 repository ID.
+     * 4. return: 없음.
+     */
+    @Override
+    public void removeRepository(int userId, int repoId) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("userId").is(userId)),
+                new Update().pull("repositories", new Document("repoId", repoId)),
+                GithubRepository.class);
+    }
+
+    /**
+     * 1. 메서드 설명: 사용자의 GithubRepository Document에 repoId에 해당하는 repository가 저장되어 있는지 확인한다.
+     * 2. 로직:
+     *    - repository 목록을 불러오지 않고 exists 쿼리로 확인한다.
+     * 3. param:
+     *      userId - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repoId - 확인할 repository ID.
+     * 4. return: 저장되어 있으면 true.
+     */
+    @Override
+    public boolean containsRepository(int userId, int repoId) {
+        return mongoTemplate.exists(Query.query(Criteria.where("userId").is(userId).and("repositories.repoId").is(repoId)),
+                GithubRepository.class);
+    }
+}
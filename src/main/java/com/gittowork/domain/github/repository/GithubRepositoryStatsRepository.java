@@ -0,0 +1,16 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubRepositoryStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GithubRepositoryStatsRepository extends MongoRepository<GithubRepositoryStats, String> {
+    Optional<GithubRepositoryStats> findByUserIdAndRepoId(int userId, int repoId);
+
+    List<GithubRepositoryStats> findAllByUserIdAndRepoIdIn(int userId, Collection<Integer> repoIds);
+}
@@ -0,0 +1,9 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubResyncCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GithubResyncCheckpointRepository extends MongoRepository<GithubResyncCheckpoint, String> {
+}
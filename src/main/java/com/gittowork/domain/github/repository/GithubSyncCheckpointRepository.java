@@ -0,0 +1,12 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubSyncCheckpoint;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GithubSyncCheckpointRepository extends MongoRepository<GithubSyncCheckpoint, String> {
+    Optional<GithubSyncCheckpoint> findByUserIdAndRepoId(int userId, int repoId);
+}
@@ -0,0 +1,14 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.RepositoryAnalysisCache;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RepositoryAnalysisCacheRepository extends MongoRepository<RepositoryAnalysisCache, String> {
+    Optional<RepositoryAnalysisCache> findFirstByRepoIdAndHeadShaOrderByAnalyzedAtDesc(int repoId, String headSha);
+
+    void deleteByRepoIdAndHeadShaNot(int repoId, String headSha);
+}
@@ -2,6 +2,7 @@ package com.gittowork.domain.github.repository;
 
 import com.gittowork.domain.github.entity.SelectedRepository;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -12,9 +13,15 @@ import java.util.Optional;
 public interface SelectedRepoRepository extends MongoRepository<SelectedRepository, String> {
     List<SelectedRepository> findAllByUserId(int userId);
 
-    Optional<SelectedRepository> findByUserIdAndRepositories(int userId, List<com.gittowork.domain.github.model.repository.Repository> repositories);
+    /**
+     * repository 메타데이터(이름, star 수 등)는 동기화 때마다 바뀔 수 있으므로 조합은 repoId만으로 찾는다.
+     * repoIds를 모두 포함하고 repository 수가 같은 조합, 즉 같은 repository 조합을 조회한다.
+     */
+    @Query("{ 'userId': ?0, 'repositories.repoId': { $all: ?1 }, 'repositories': { $size: ?2 } }")
+    Optional<SelectedRepository> findByUserIdAndRepoIds(int userId, Collection<Integer> repoIds, int size);
 
     Optional<SelectedRepository> findByUserIdAndSelectedRepositoryId(int userId, String selectedRepoIdStr);
 
-    boolean existsByUserIdAndRepositoriesIn(int userId, List<com.gittowork.domain.github.model.repository.Repository> repositories);
+    @Query(value = "{ 'userId': ?0, 'repositories.repoId': { $in: ?1 } }", exists = true)
+    boolean existsByUserIdAndRepoIdIn(int userId, Collection<Integer> repoIds);
 }
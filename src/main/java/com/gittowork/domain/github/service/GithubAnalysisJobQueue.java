@@ -0,0 +1,311 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.entity.AnalysisJob;
+import com.gittowork.domain.github.entity.AnalysisStatus;
+import com.gittowork.domain.github.repository.AnalysisJobRepository;
+import com.gittowork.domain.github.repository.AnalysisStatusRepository;
+import com.gittowork.global.exception.github.AnalysisQueueFullException;
+import com.gittowork.global.properties.GithubAnalysisProperties;
+import com.gittowork.global.service.github.RepositoryAnalysisRunner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * repository 조합 분석을 정해진 수의 worker로 실행하는 영속 작업 큐.
+ * <p>
+ * 분석 요청은 analysis_job 테이블에 저장된 뒤 worker pool에서 등록 순서대로 실행되며, 작업이 끝나면 삭제된다.
+ * 같은 조합(selectedRepositoriesId)의 작업이 이미 대기 / 실행 중이면 새로 등록하지 않고,
+ * 대기 / 실행 중인 작업이 capacity에 도달하면 새 요청을 AnalysisQueueFullException으로 거절한다.
+ * 애플리케이션이 재시작되면 실행 중이던 작업을 다시 대기시켜 이어서 실행한다. (단일 인스턴스 실행을 전제로 한다.)
+ * 분석은 CompletableFuture로 진행되므로 worker 스레드는 작업을 시작만 하고 바로 반환되며,
+ * 동시에 진행되는 작업 수는 workers로 제한하고 작업이 끝나면 다음 대기 작업을 시작한다.
+ * 대기 작업 수는 github.analysis.queue.depth, 대기 시간은 github.analysis.queue.wait, 실행 시간은 github.analysis.job 지표로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GithubAnalysisJobQueue {
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AnalysisStatusRepository analysisStatusRepository;
+    private final GithubAnalysisService githubAnalysisService;
+    private final GithubAnalysisProperties.Queue settings;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor workerExecutor;
+    private final int workers;
+
+    // 대기 / 실행 중인 작업의 selectedRepositoriesId. (중복 확인과 capacity 판단에 사용한다.)
+    private final Set<String> activeCombinations = ConcurrentHashMap.newKeySet();
+    private final Queue<AnalysisJob> pendingJobs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+
+    private volatile boolean stopped;
+
+    public GithubAnalysisJobQueue(AnalysisJobRepository analysisJobRepository,
+                                  AnalysisStatusRepository analysisStatusRepository,
+                                  GithubAnalysisService githubAnalysisService,
+                                  GithubAnalysisProperties githubAnalysisProperties,
+                                  MeterRegistry meterRegistry) {
+        this.analysisJobRepository = analysisJobRepository;
+        this.analysisStatusRepository = analysisStatusRepository;
+        this.githubAnalysisService = githubAnalysisService;
+        this.settings = githubAnalysisProperties.getQueue();
+        this.meterRegistry = meterRegistry;
+
+        this.workers = Math.max(1, settings.getWorkers());
+        this.workerExecutor = new ThreadPoolTaskExecutor();
+        this.workerExecutor.setCorePoolSize(workers);
+        this.workerExecutor.setMaxPoolSize(workers);
+        this.workerExecutor.setThreadNamePrefix("github-analysis-job-");
+        this.workerExecutor.setWaitForTasksToCompleteOnShutdown(false);
+        this.workerExecutor.initialize();
+
+        Gauge.builder("github.analysis.queue.depth", pendingJobs, Queue::size)
+                .description("실행을 기다리는 GitHub 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("github.analysis.queue.running", runningJobs, AtomicInteger::get)
+                .description("실행 중인 GitHub 분석 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 메서드 설명: 애플리케이션이 준비되면 중단된 작업을 복구하고 대기 중인 작업을 실행한다.
+     * 2. 로직:
+     *    - 이전 실행에서 RUNNING으로 남은 작업을 QUEUED로 되돌린다.
+     *    - 작업 없이 ANALYZING으로 남은 분석 상태는 FAIL로 바꿔 사용자가 다시 요청할 수 있게 한다.
+     *    - QUEUED 작업을 등록 순서대로 worker에 넘긴다. (애플리케이션 준비 전에 등록된 작업은 건너뛴다.)
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int recovered = analysisJobRepository.requeueRunningJobs(AnalysisJob.Status.RUNNING, AnalysisJob.Status.QUEUED);
+        int orphaned = analysisStatusRepository.failOrphanedAnalyses(AnalysisStatus.Status.ANALYZING, AnalysisStatus.Status.FAIL);
+        List<AnalysisJob> queued = analysisJobRepository.findAllByStatusOrderByEnqueuedAtAsc(AnalysisJob.Status.QUEUED);
+        int loaded = 0;
+        for (AnalysisJob job : queued) {
+            if (activeCombinations.add(job.getSelectedRepositoriesId())) {
+                dispatch(job);
+                loaded++;
+            }
+        }
+        log.info("Github analysis queue started with {} queued jobs ({} interrupted jobs recovered, {} orphaned analyses failed)",
+                loaded, recovered, orphaned);
+    }
+
+    /**
+     * 1. 메서드 설명: repository 조합 분석 작업을 등록한다.
+     * 2. 로직:
+     *    - 같은 조합의 작업이 이미 대기 / 실행 중이면 등록하지 않는다.
+     *    - 대기 / 실행 중인 작업 수가 capacity 이상이면 AnalysisQueueFullException을 발생시킨다.
+     *    - 작업을 저장하고, 호출한 쪽의 트랜잭션이 있으면 commit 된 뒤에 worker에 넘긴다. (rollback 되면 등록을 취소한다.)
+     * 3. param:
+     *      userId                 - 로컬 사용자 식별자.
+     *      githubName             - GitHub 사용자 이름.
+     *      selectedRepositoriesId - 분석할 repository 조합 ID.
+     *      repoIds                - 분석할 repoId 배열.
+     * 4. return: 새로 등록했으면 true, 같은 조합의 작업이 이미 있으면 false.
+     */
+    public boolean submit(int userId, String githubName, String selectedRepositoriesId, int[] repoIds) {
+        synchronized (activeCombinations) {
+            if (activeCombinations.contains(selectedRepositoriesId)
+                    || analysisJobRepository.existsBySelectedRepositoriesId(selectedRepositoriesId)) {
+                return false;
+            }
+            if (activeCombinations.size() >= settings.getCapacity()) {
+                throw new AnalysisQueueFullException("Github analysis queue is full. Please try again later.");
+            }
+            activeCombinations.add(selectedRepositoriesId);
+        }
+
+        AnalysisJob job;
+        try {
+            job = analysisJobRepository.save(AnalysisJob.builder()
+                    .userId(userId)
+                    .githubName(githubName)
+                    .selectedRepositoriesId(selectedRepositoriesId)
+                    .repoIds(Arrays.stream(repoIds).mapToObj(String::valueOf).collect(Collectors.joining(",")))
+                    .status(AnalysisJob.Status.QUEUED)
+                    .enqueuedAt(LocalDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 조합의 작업을 먼저 저장했다.
+            activeCombinations.remove(selectedRepositoriesId);
+            return false;
+        } catch (RuntimeException e) {
+            activeCombinations.remove(selectedRepositoriesId);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        dispatch(job);
+                    } else {
+                        activeCombinations.remove(selectedRepositoriesId);
+                    }
+                }
+            });
+        } else {
+            dispatch(job);
+        }
+        return true;
+    }
+
+    private void dispatch(AnalysisJob job) {
+        pendingJobs.add(job);
+        drain();
+    }
+
+    /**
+     * 1. 메서드 설명: 진행 중인 작업 수가 workers보다 적으면 대기 작업을 등록 순서대로 worker에 넘긴다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    private synchronized void drain() {
+        while (!stopped && runningJobs.get() < workers) {
+            AnalysisJob job = pendingJobs.poll();
+            if (job == null) {
+                return;
+            }
+            runningJobs.incrementAndGet();
+            workerExecutor.execute(() -> execute(job));
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 분석 작업 하나를 시작하고, 분석이 끝나면 작업을 삭제한다.
+     * 2. 로직:
+     *    - 작업을 RUNNING으로 저장한 뒤 GithubAnalysisService.githubAnalysisByRepository()를 시작하고,
+     *      반환된 future가 완료되면 finish()에서 정리한다. (SonarQube 결과를 기다리는 동안 worker 스레드를 점유하지 않는다.)
+     *    - 분석이 실패하면 GithubAnalysisService가 분석 상태를 FAIL로 바꾸므로 재시도하지 않고 작업을 삭제한다.
+     *      분석을 시작하기 전에 실패하면(작업 저장, 분석 시작 중 예외) 여기서 분석 상태를 FAIL로 바꾼다.
+     *      (애플리케이션 종료로 중단된 작업은 삭제하지 않고 다음 실행에서 다시 실행한다.)
+     *    - 서버 재시작으로 maxAttempts번 중단된 작업은 실행하지 않고 분석 상태를 FAIL로 바꾼다.
+     * 3. param:
+     *      job - 실행할 작업.
+     * 4. return: 없음.
+     */
+    private void execute(AnalysisJob job) {
+        Timer.builder("github.analysis.queue.wait")
+                .description("GitHub 분석 작업이 등록된 뒤 실행되기까지 기다린 시간")
+                .register(meterRegistry)
+                .record(Duration.between(job.getEnqueuedAt(), LocalDateTime.now()));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<Void> analysis;
+        try {
+            if (job.getAttempts() >= Math.max(1, settings.getMaxAttempts())) {
+                log.error("Dropped Github analysis of {} after {} interrupted attempts",
+                        job.getSelectedRepositoriesId(), job.getAttempts());
+                markFailed(job);
+                finish(job, sample, "dropped");
+                return;
+            }
+            job.setStatus(AnalysisJob.Status.RUNNING);
+            job.setStartedAt(LocalDateTime.now());
+            job.setAttempts(job.getAttempts() + 1);
+            analysisJobRepository.save(job);
+            // 중단 후 복구된 작업은 이전 실행이 FAIL로 바꿔 두었을 수 있다.
+            analysisStatusRepository.findBySelectedRepositoriesId(job.getSelectedRepositoriesId())
+                    .filter(analysisStatus -> analysisStatus.getStatus() != AnalysisStatus.Status.ANALYZING)
+                    .ifPresent(analysisStatus -> {
+                        analysisStatus.setStatus(AnalysisStatus.Status.ANALYZING);
+                        analysisStatusRepository.save(analysisStatus);
+                    });
+
+            analysis = githubAnalysisService.githubAnalysisByRepository(repoIds(job), job.getGithubName());
+        } catch (Exception e) {
+            log.error("Github analysis of {} failed: {}", job.getSelectedRepositoriesId(), e.getMessage());
+            markFailed(job);
+            finish(job, sample, "failure");
+            return;
+        }
+
+        analysis.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                log.error("Github analysis of {} failed: {}", job.getSelectedRepositoriesId(),
+                        RepositoryAnalysisRunner.unwrap(throwable).getMessage());
+                finish(job, sample, "failure");
+            } else {
+                finish(job, sample, "success");
+            }
+        });
+    }
+
+    // 분석 상태를 FAIL로 바꾼다. 저장에 실패해도 작업 정리는 계속한다.
+    private void markFailed(AnalysisJob job) {
+        try {
+            analysisStatusRepository.findBySelectedRepositoriesId(job.getSelectedRepositoriesId())
+                    .ifPresent(analysisStatus -> {
+                        analysisStatus.setStatus(AnalysisStatus.Status.FAIL);
+                        analysisStatusRepository.save(analysisStatus);
+                    });
+        } catch (RuntimeException e) {
+            log.error("Failed to mark Github analysis of {} as failed: {}", job.getSelectedRepositoriesId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 끝난 작업의 실행 시간을 기록하고 작업을 삭제한 뒤 다음 대기 작업을 시작한다.
+     * 3. param:
+     *      job     - 끝난 작업.
+     *      sample  - 작업 시작 시점의 Timer.Sample.
+     *      outcome - success / failure / dropped.
+     * 4. return: 없음.
+     */
+    private void finish(AnalysisJob job, Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("github.analysis.job")
+                .tag("outcome", outcome)
+                .description("GitHub 분석 작업 실행 시간")
+                .register(meterRegistry));
+        // 종료 중 중단된 작업은 남겨 두어 다음 실행에서 복구한다.
+        if (!stopped) {
+            try {
+                analysisJobRepository.deleteById(job.getId());
+            } catch (RuntimeException e) {
+                log.error("Failed to delete Github analysis job {}: {}", job.getId(), e.getMessage());
+            }
+            activeCombinations.remove(job.getSelectedRepositoriesId());
+        }
+        runningJobs.decrementAndGet();
+        drain();
+    }
+
+    private static int[] repoIds(AnalysisJob job) {
+        return Arrays.stream(job.getRepoIds().split(","))
+                .filter(id -> !id.isBlank())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopped = true;
+        workerExecutor.shutdown();
+    }
+}
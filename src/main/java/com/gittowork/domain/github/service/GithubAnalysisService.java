@@ -20,21 +20,29 @@ import com.gittowork.global.exception.github.GithubAnalysisException;
 import com.gittowork.global.exception.github.GithubAnalysisNotFoundException;
 import com.gittowork.global.exception.github.GithubRepositoryNotFoundException;
 import com.gittowork.global.exception.github.SonarAnalysisException;
+import com.gittowork.global.properties.GithubApiProperties;
+import com.gittowork.global.service.git.CloneLease;
+import com.gittowork.global.service.git.GitRepositoryService;
 import com.gittowork.global.service.github.GithubRestApiService;
+import com.gittowork.global.service.github.RepositoryAnalysisRunner;
+import com.gittowork.global.service.github.GithubIngestionQueue;
 import com.gittowork.global.service.openai.GptService;
+import com.gittowork.global.service.resilience.OutboundCallGuard;
+import com.gittowork.global.service.resilience.OutboundDependency;
+import com.gittowork.global.service.sonar.SonarTaskTracker;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.errors.GitAPIException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.BufferedReader;
@@ -49,7 +57,7 @@ import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -78,7 +86,16 @@ public class GithubAnalysisService {
     private final GithubCommitRepository githubCommitRepository;
     private final GithubPullRequestRepository githubPullRequestRepository;
     private final GithubIssueRepository githubIssueRepository;
+    @Qualifier("sonarRestTemplate")
     private final RestTemplate restTemplate;
+    private final GitRepositoryService gitRepositoryService;
+    private final GithubIngestionQueue githubIngestionQueue;
+    private final GithubRepositoryStatsRepository githubRepositoryStatsRepository;
+    private final GithubApiProperties githubApiProperties;
+    private final OutboundCallGuard outboundCallGuard;
+    private final RepositoryAnalysisRunner repositoryAnalysisRunner;
+    private final SonarTaskTracker sonarTaskTracker;
+    private final RepositoryAnalysisCacheRepository repositoryAnalysisCacheRepository;
 
     private static final String USER_NOT_FOUND = "User not found";
 
@@ -89,57 +106,48 @@ public class GithubAnalysisService {
     private static final String SEVERITY_INFO = "INFO";
 
     /**
-     * 1. 메서드 설명: 비동기로 선택된 repository에 대해 GitHub 분석을 수행하는 API.
+     * 1. 메서드 설명: 선택된 repository에 대해 GitHub 분석을 시작하는 API. (GithubAnalysisJobQueue의 worker에서 호출된다.)
      * 2. 로직:
      *    - username을 기반으로 User 엔티티를 조회하여 userId를 확보한다.
-     *    - 확보한 userId와 선택된 repository 배열을 사용하여 분석 로직을 수행한다.
+     *    - 확보한 userId와 선택된 repository 배열을 사용하여 분석 로직을 수행하고, 분석이 끝나면 완료 알림을 전송한다.
      * 3. param:
      *      int[] selectedRepositories - 분석 대상 repository의 repoId 배열.
      *      String userName - 현재 인증된 사용자의 username.
-     * 4. return: 없음 (비동기 작업 수행).
+     * 4. return: 분석과 알림 전송이 끝나면 완료되는 CompletableFuture.
      */
-    @Async
-    public void githubAnalysisByRepository(int[] selectedRepositories, String userName) {
+    public CompletableFuture<Void> githubAnalysisByRepository(int[] selectedRepositories, String userName) {
         User user = userRepository.findByGithubName(userName)
                 .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-        String selectedRepositoryId = analysisSelectedRepositories(user.getId(), selectedRepositories);
-
-        try {
-            firebaseService.sendGithubAnalysisMessage(
-                    user,
-                    "Github 분석 완료",
-                    user.getGithubName() + "님, Github 분석이 완료되었습니다. \n 지금 바로 확인하세요!",
-                    "GithubAnalysis",
-                    selectedRepositoryId);
-        } catch (FirebaseMessagingException e) {
-            throw new FirebaseMessageException("Firebase message send failed");
-        }
+        return analysisSelectedRepositories(user.getId(), selectedRepositories)
+                .thenAccept(selectedRepositoryId -> {
+                    try {
+                        firebaseService.sendGithubAnalysisMessage(
+                                user,
+                                "Github 분석 완료",
+                                user.getGithubName() + "님, Github 분석이 완료되었습니다. \n 지금 바로 확인하세요!",
+                                "GithubAnalysis",
+                                selectedRepositoryId);
+                    } catch (FirebaseMessagingException e) {
+                        throw new FirebaseMessageException("Firebase message send failed");
+                    }
+                });
     }
 
     /**
-     * 1. 메서드 설명: GitHub API를 통해 사용자 관련 repository, commit, language, issue, pull request 정보를 비동기적으로 조회 및 저장한다.
+     * 1. 메서드 설명: 사용자 관련 repository, commit, language, issue, pull request, event 정보의 동기화를 GithubIngestionQueue에 등록한다.
      * 2. 로직:
-     *    - githubRestApiService의 각 메서드를 호출하여 관련 정보를 조회 후 데이터베이스에 저장한다.
+     *    - 동기화는 repository 목록 작업으로 시작하여 repository별 작업으로 나뉘며, worker가 사용자 간 round-robin으로 실행한다.
+     *    - access token은 작업 실행 시점에 사용자 정보에서 조회한다.
+     *    - github.api.fetch-mode가 GRAPHQL이면 repository 목록 작업에서 language, issue / pull request / commit 수를 함께 저장한다.
      * 3. param:
-     *      String accessToken - GitHub API 접근에 사용되는 access token.
      *      String userName - GitHub 사용자 이름.
      *      int userId - 로컬 사용자 식별자.
+     *      GithubIngestionTask.Priority priority - onboarding 화면에서 기다리는 사용자는 INTERACTIVE, 그 외는 BACKGROUND.
      * 4. return: 없음.
      */
-    @Async
-    public void saveUserGithubRepositoryInfo(String accessToken, String userName, int userId) {
-        var userGithubRepository = githubRestApiService.saveUserGithubRepository(accessToken, userName, userId);
-        githubRestApiService.saveUserGithubCommits(accessToken, userName, userId);
-        githubRestApiService.saveUserRepositoryLanguage(accessToken, userName, userId);
-        githubRestApiService.saveGithubIssues(accessToken, userName, userId);
-        githubRestApiService.saveGithubPullRequests(accessToken, userName, userId);
-        githubRestApiService.checkNewGithubEvents(
-                accessToken,
-                userName,
-                userId,
-                userGithubRepository.getRepositories().stream().map(Repository::getRepoName).collect(Collectors.toList())
-        );
-        log.info("{}: Github repository info saved", userName);
+    public void saveUserGithubRepositoryInfo(String userName, int userId, GithubIngestionTask.Priority priority) {
+        githubIngestionQueue.enqueueUserSync(userId, userName, priority);
+        log.info("{}: Github repository sync queued ({})", userName, priority);
     }
 
     /**
@@ -147,17 +155,19 @@ public class GithubAnalysisService {
      *    분석 도중 예외 발생 시 해당 AnalysisStatus를 fail 상태로 업데이트한다.
      * 2. 로직:
      *    - userId에 해당하는 모든 repository를 조회한 후, 전달받은 selectedRepositoryIds에 해당하는 repository들을 필터링한다.
-     *    - 각 repository에 대해 processRepository()를 호출하여 개별 분석 결과를 생성하고, 통계값(언어 비율, 점수, 활동 지표)을 누적한다.
+     *    - RepositoryAnalysisRunner를 통해 각 repository에 대해 processRepository()를 동시에 호출하여 개별 분석 결과를 생성한다.
+     *      (PMD / sonar-scanner 실행은 서버 전체의 스캐너 slot 수로 제한된다.)
+     *    - 모든 분석이 끝나면 개별 결과의 통계값(언어 비율, 점수, 활동 지표)을 호출 스레드에서 합산한다.
      *    - 누적된 통계값을 기반으로 전체 언어 비율과 평균 점수(ActivityMetrics 포함)를 계산한다.
      *    - 계산된 결과를 바탕으로 GPT 서비스를 이용한 추가 분석을 수행하고, 최종 분석 결과(GithubAnalysisResult)를 생성하여 저장한다.
-     *    - 분석이 정상적으로 완료되면, 해당 AnalysisStatus를 complete 상태로 업데이트하며, 도중 Exception이 발생하면 catch 블록에서
-     *      AnalysisStatus를 fail 상태로 업데이트한 후 예외를 재전파한다.
+     *    - 분석이 정상적으로 완료되면, 해당 AnalysisStatus를 complete 상태로 업데이트하며, 도중 Exception이 발생하면
+     *      AnalysisStatus를 fail 상태로 업데이트한 후 같은 예외로 future를 완료한다.
      * 3. param:
      *      int userId - 로컬 사용자 식별자.
      *      int[] selectedRepositoryIds - 분석 대상 repository들의 repoId 배열.
-     * 4. return: 없음.
+     * 4. return: 분석이 끝나면 selectedRepositoriesId로 완료되는 CompletableFuture.
      */
-    private String analysisSelectedRepositories(int userId, int[] selectedRepositoryIds) {
+    private CompletableFuture<String> analysisSelectedRepositories(int userId, int[] selectedRepositoryIds) {
         GithubRepository githubRepository = githubRepoRepository.findByUserId(userId)
                 .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"));
 
@@ -169,76 +179,112 @@ public class GithubAnalysisService {
                 .filter(repo -> selectedRepoIdSet.contains(repo.getRepoId()))
                 .collect(Collectors.toList());
 
-        SelectedRepository selectedRepository = selectedRepoRepository.findByUserIdAndRepositories(userId, selectedRepositories)
+        SelectedRepository selectedRepository = selectedRepoRepository.findByUserIdAndRepoIds(userId, selectedRepoIdSet, selectedRepoIdSet.size())
                 .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"));
 
-        Map<String, Integer> totalLanguageRatio = new HashMap<>();
-        AtomicInteger totalOverallScore = new AtomicInteger(0);
-        AtomicInteger totalStars = new AtomicInteger(0);
-        AtomicInteger totalCommits = new AtomicInteger(0);
-        AtomicInteger totalPRs = new AtomicInteger(0);
-        AtomicInteger totalIssues = new AtomicInteger(0);
+        CompletableFuture<List<RepositoryResult>> repositoryResults = repositoryAnalysisRunner.mapAsync(selectedRepositories,
+                repo -> processRepository(userId, repo));
+        return repositoryAnalysisRunner.thenOnWorker(repositoryResults,
+                        results -> completeAnalysis(userId, selectedRepository, selectedRepositories, results))
+                .whenComplete((selectedRepositoriesId, throwable) -> {
+                    if (throwable != null) {
+                        markAnalysisFailed(userId, selectedRepository);
+                    }
+                });
+    }
 
-        try {
-            List<RepositoryResult> repositoryResults = selectedRepository.getRepositories().stream()
-                    .map(repo -> processRepository(repo, totalLanguageRatio, totalOverallScore, totalStars, totalCommits, totalPRs, totalIssues))
-                    .collect(Collectors.toList());
-
-            int totalLines = totalLanguageRatio.values().stream().mapToInt(Integer::intValue).sum();
-            Map<String, Double> languagePercentages = totalLanguageRatio.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            entry -> totalLines > 0 ? (entry.getValue() * 100.0 / totalLines) : 0.0
-                    ));
-
-            int overallScoreMean = selectedRepository.getRepositories().isEmpty() ? 0 :
-                    totalOverallScore.get() / selectedRepository.getRepositories().size();
-
-            ActivityMetrics activityMetrics = ActivityMetrics.builder()
-                    .totalStars(totalStars.get())
-                    .totalCommits(totalCommits.get())
-                    .totalPRs(totalPRs.get())
-                    .totalIssues(totalIssues.get())
-                    .build();
-
-            GithubAnalysisResult githubAnalysisResult = GithubAnalysisResult.builder()
-                    .userId(userId)
-                    .analysisDate(LocalDateTime.now())
-                    .selectedRepositoriesId(selectedRepository.getSelectedRepositoryId())
-                    .selectedRepositories(selectedRepository.getRepositories())
-                    .languageRatios(languagePercentages)
-                    .repositories(repositoryResults)
-                    .overallScore(overallScoreMean)
-                    .primaryRole(null)
-                    .roleScores(0)
-                    .activityMetrics(activityMetrics)
-                    .aiAnalysis(null)
-                    .build();
-
-            GithubAnalysisResult updatedResult  = getGptAnalysis(githubAnalysisResult);
-
-            githubAnalysisResultRepository.save(updatedResult);
-
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-
-            AnalysisStatus analysisStatus = analysisStatusRepository.findByUserAndSelectedRepositoriesId(user, selectedRepository.getSelectedRepositoryId())
-                    .orElseThrow(() -> new GithubAnalysisNotFoundException("Github analysis status not found"));
-
-            analysisStatus.setStatus(AnalysisStatus.Status.COMPLETE);
-            analysisStatusRepository.save(analysisStatus);
-
-            return analysisStatus.getSelectedRepositoriesId();
-
-        } catch (Exception e) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
-            AnalysisStatus analysisStatus = analysisStatusRepository.findByUserAndSelectedRepositoriesId(user, selectedRepository.getSelectedRepositoryId())
-                    .orElseThrow(() -> new GithubAnalysisNotFoundException("Github analysis status not found"));
-            analysisStatus.setStatus(AnalysisStatus.Status.FAIL);
-            analysisStatusRepository.save(analysisStatus);
-            throw e;
+    /**
+     * 1. 메서드 설명: repository별 분석 결과를 합산하여 GithubAnalysisResult를 저장하고 AnalysisStatus를 complete 상태로 업데이트한다.
+     * 2. 로직:
+     *    - 개별 결과의 통계값(언어 비율, 점수, 활동 지표)을 합산하여 전체 언어 비율과 평균 점수(ActivityMetrics 포함)를 계산한다.
+     *    - GPT 서비스를 이용한 추가 분석을 수행하고, 최종 분석 결과(GithubAnalysisResult)를 저장한다.
+     * 3. param:
+     *      int userId - 로컬 사용자 식별자.
+     *      SelectedRepository selectedRepository - 분석 대상 repository 조합.
+     *      List<Repository> selectedRepositories - 분석 대상 repository 목록.
+     *      List<RepositoryResult> repositoryResults - repository별 분석 결과.
+     * 4. return: selectedRepositoriesId.
+     */
+    private String completeAnalysis(int userId,
+                                    SelectedRepository selectedRepository,
+                                    List<Repository> selectedRepositories,
+                                    List<RepositoryResult> repositoryResults) {
+        Map<String, Integer> totalLanguageRatio = new HashMap<>();
+        int totalOverallScore = 0;
+        int totalStars = 0;
+        int totalCommits = 0;
+        int totalPRs = 0;
+        int totalIssues = 0;
+        for (RepositoryResult result : repositoryResults) {
+            result.getLanguages().forEach((lang, count) -> totalLanguageRatio.merge(lang, count, Integer::sum));
+            totalOverallScore += result.getScore();
+            totalStars += result.getStats().getStargazersCount();
+            totalCommits += result.getStats().getCommitCount();
+            totalPRs += result.getStats().getPrCount();
+            totalIssues += result.getStats().getIssueCount();
         }
+
+        int totalLines = totalLanguageRatio.values().stream().mapToInt(Integer::intValue).sum();
+        Map<String, Double> languagePercentages = totalLanguageRatio.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> totalLines > 0 ? (entry.getValue() * 100.0 / totalLines) : 0.0
+                ));
+
+        int overallScoreMean = selectedRepositories.isEmpty() ? 0 :
+                totalOverallScore / selectedRepositories.size();
+
+        ActivityMetrics activityMetrics = ActivityMetrics.builder()
+                .totalStars(totalStars)
+                .totalCommits(totalCommits)
+                .totalPRs(totalPRs)
+                .totalIssues(totalIssues)
+                .build();
+
+        GithubAnalysisResult githubAnalysisResult = GithubAnalysisResult.builder()
+                .userId(userId)
+                .analysisDate(LocalDateTime.now())
+                .selectedRepositoriesId(selectedRepository.getSelectedRepositoryId())
+                .selectedRepositories(selectedRepositories)
+                .languageRatios(languagePercentages)
+                .repositories(repositoryResults)
+                .overallScore(overallScoreMean)
+                .primaryRole(null)
+                .roleScores(0)
+                .activityMetrics(activityMetrics)
+                .aiAnalysis(null)
+                .build();
+
+        GithubAnalysisResult updatedResult  = getGptAnalysis(githubAnalysisResult);
+
+        githubAnalysisResultRepository.save(updatedResult);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
+
+        AnalysisStatus analysisStatus = analysisStatusRepository.findByUserAndSelectedRepositoriesId(user, selectedRepository.getSelectedRepositoryId())
+                .orElseThrow(() -> new GithubAnalysisNotFoundException("Github analysis status not found"));
+
+        analysisStatus.setStatus(AnalysisStatus.Status.COMPLETE);
+        analysisStatusRepository.save(analysisStatus);
+
+        return analysisStatus.getSelectedRepositoriesId();
+    }
+
+    /**
+     * 1. 메서드 설명: 분석 도중 예외가 발생한 repository 조합의 AnalysisStatus를 fail 상태로 업데이트한다.
+     * 3. param:
+     *      int userId - 로컬 사용자 식별자.
+     *      SelectedRepository selectedRepository - 분석 대상 repository 조합.
+     * 4. return: 없음.
+     */
+    private void markAnalysisFailed(int userId, SelectedRepository selectedRepository) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(USER_NOT_FOUND));
+        AnalysisStatus analysisStatus = analysisStatusRepository.findByUserAndSelectedRepositoriesId(user, selectedRepository.getSelectedRepositoryId())
+                .orElseThrow(() -> new GithubAnalysisNotFoundException("Github analysis status not found"));
+        analysisStatus.setStatus(AnalysisStatus.Status.FAIL);
+        analysisStatusRepository.save(analysisStatus);
     }
 
     /**
@@ -267,33 +313,143 @@ public class GithubAnalysisService {
     /**
      * 1. 메서드 설명: 단일 repository에 대해 SonarQube 분석과 GitHub 커밋/PR/Issue 정보를 조회하여 RepositoryResult를 생성한다.
      * 2. 로직:
-     *    - repository를 클론하고 projectKey를 추출한 후, SonarQube 분석을 위한 스캐너를 실행한다.
-     *    - 분석 결과를 pollAndParseAnalysisResult()로 받아오고, GitHub 관련 통계(커밋, PR, Issue, 언어 분포)를 계산하여 RepositoryResult를 생성한다.
+     *    - repository를 클론(또는 fetch)하고 projectKey와 HEAD 커밋 SHA를 추출한다.
+     *    - repoId + HEAD SHA로 저장된 코드 분석 결과가 있으면 재사용하고, 없으면 runCodeAnalysis()로 스캐너를 실행한 뒤 결과를 저장한다.
+     *    - GitHub 관련 통계(커밋, PR, Issue)는 캐시 여부와 관계없이 매번 계산하여 RepositoryResult에 설정한다.
+     *    - GRAPHQL 모드에서는 PR / Issue 수를 GithubRepositoryStats의 totalCount로 사용하고, 없으면 저장된 Document 수로 계산한다.
+     *    - RepositoryAnalysisRunner의 worker 스레드에서 동시에 실행되므로 공유 상태를 변경하지 않고 결과만 반환한다.
+     *    - 클론 사용권은 스캐너 실행이 끝나면 SonarQube compute engine 작업을 기다리기 전에 반납한다. (캐시를 재사용하면 바로 반납한다.)
      * 3. param:
+     *      int userId - 로컬 사용자 식별자.
      *      Repository repository - 분석 대상 repository.
-     *      Map<String, Integer> totalLanguageRatio - 전체 언어 분포 누적 Map.
-     *      AtomicInteger totalOverallScore - 전체 점수 누적 변수.
-     *      AtomicInteger totalStars - 전체 star 수 누적 변수.
-     *      AtomicInteger totalCommits - 전체 commit 수 누적 변수.
-     *      AtomicInteger totalPRs - 전체 pull request 수 누적 변수.
-     *      AtomicInteger totalIssues - 전체 issue 수 누적 변수.
-     * 4. return: RepositoryResult 객체.
+     * 4. return: RepositoryResult로 완료되는 CompletableFuture.
      */
-    private RepositoryResult processRepository(Repository repository,
-                                               Map<String, Integer> totalLanguageRatio,
-                                               AtomicInteger totalOverallScore,
-                                               AtomicInteger totalStars,
-                                               AtomicInteger totalCommits,
-                                               AtomicInteger totalPRs,
-                                               AtomicInteger totalIssues) {
+    private CompletableFuture<RepositoryResult> processRepository(int userId, Repository repository) {
         String repositoryPathUrl = "https://github.com/" + repository.getFullName() + ".git";
+        CloneLease cloneLease = gitRepositoryService.cloneRepository(repository.getFullName());
         try {
-            File localRepo = cloneRepository(repositoryPathUrl);
-            String projectKey = extractProjectKey(repositoryPathUrl);
+            File localRepo = cloneLease.directory();
+            String projectKey = gitRepositoryService.projectKey(repositoryPathUrl);
+            String headSha = gitRepositoryService.headSha(localRepo);
+
+            CompletableFuture<RepositoryResult> codeAnalysis;
+            RepositoryResult cached = findCachedAnalysis(repository.getRepoId(), headSha).orElse(null);
+            if (cached == null) {
+                codeAnalysis = runCodeAnalysis(repository, projectKey, cloneLease, repositoryPathUrl)
+                        .thenApply(result -> {
+                            cacheAnalysis(repository.getRepoId(), headSha, result);
+                            return result;
+                        });
+            } else {
+                cloneLease.close();
+                log.info("Reusing analysis of {} at {}", repository.getFullName(), headSha);
+                codeAnalysis = CompletableFuture.completedFuture(cached);
+            }
+
+            return codeAnalysis.thenApply(result -> addRepositoryStats(userId, repository, result));
+        } catch (InterruptedException e) {
+            cloneLease.close();
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while analyzing repository: {}", repositoryPathUrl, e);
+            throw new SonarAnalysisException("SonarQube analysis failed due to interruption: " + e.getMessage());
+        } catch (IOException e) {
+            cloneLease.close();
+            log.error("IOException while analyzing repository: {}", repositoryPathUrl, e);
+            throw new SonarAnalysisException("SonarQube analysis failed: " + e.getMessage());
+        } catch (RuntimeException e) {
+            cloneLease.close();
+            throw e;
+        }
+    }
 
-            ProcessBuilder processBuilder = getProcessBuilder(repository, projectKey, localRepo);
+    /**
+     * 1. 메서드 설명: 코드 분석 결과에 GitHub 관련 통계(커밋, PR, Issue)와 커밋 빈도를 설정한다.
+     * 3. param:
+     *      int userId - 로컬 사용자 식별자.
+     *      Repository repository - 분석 대상 repository.
+     *      RepositoryResult result - 코드 분석 결과.
+     * 4. return: 통계가 채워진 RepositoryResult 객체.
+     */
+    private RepositoryResult addRepositoryStats(int userId, Repository repository, RepositoryResult result) {
+        CommitSummary commitSummary = summarizeCommits(userId, repository.getRepoId());
+        int commitCount = commitSummary.count;
+        int prCount;
+        int issueCount;
+        Optional<GithubRepositoryStats> repositoryStats = githubApiProperties.getFetchMode() == GithubApiProperties.FetchMode.GRAPHQL
+                ? githubRepositoryStatsRepository.findByUserIdAndRepoId(userId, repository.getRepoId())
+                : Optional.empty();
+        if (repositoryStats.isPresent()) {
+            prCount = repositoryStats.get().getPrCount();
+            issueCount = repositoryStats.get().getIssueCount();
+        } else {
+            prCount = githubPullRequestRepository.findAllByRepoId(repository.getRepoId())
+                    .orElseThrow(() -> new GithubRepositoryNotFoundException("Github pull requests not found"))
+                    .size();
+            issueCount = githubIssueRepository.findAllByRepoId(repository.getRepoId())
+                    .orElseThrow(() -> new GithubRepositoryNotFoundException("Github issues not found"))
+                    .size();
+        }
+
+        Stats stats = Stats.builder()
+                .stargazersCount(repository.getStargazersCount())
+                .commitCount(commitCount)
+                .prCount(prCount)
+                .issueCount(issueCount)
+                .build();
+        result.setStats(stats);
+
+        int daysDifference = (int) ChronoUnit.DAYS.between(commitSummary.oldestDate, commitSummary.latestDate);
+        double commitFrequency = daysDifference > 0 ? (double) commitCount / daysDifference : commitCount;
+        result.setCommitFrequency(commitFrequency);
+        return result;
+    }
+
+    /**
+     * 1. 메서드 설명: 로컬 클론에 대해 PMD / sonar-scanner를 실행하고 SonarQube 분석 결과를 RepositoryResult로 반환한다.
+     * 2. 로직:
+     *    - 스캐너 프로세스는 RepositoryAnalysisRunner의 스캐너 slot을 얻은 뒤 실행하며, 같은 repository의 스캐너는 차례로 실행된다.
+     *    - 스캐너의 작업 디렉토리(sonar.working.directory)는 실행마다 임시 디렉토리로 분리하고, 실행이 끝나면 삭제한다.
+     *    - 종료 코드가 0이 아니면 SonarAnalysisException을 발생시킨다.
+     *    - Java 라인 수를 로컬 클론에서 계산한 뒤 클론 사용권을 반납한다.
+     *    - 스캐너가 남긴 report-task.txt의 ceTaskId로 compute engine 작업 완료를 SonarTaskTracker에서 기다린 뒤,
+     *      worker 스레드에서 측정값을 조회한다. 기다리는 동안 스레드는 점유하지 않는다.
+     * 3. param:
+     *      Repository repository - 분석 대상 repository.
+     *      String projectKey - SonarQube 프로젝트 키.
+     *      CloneLease cloneLease - 로컬 클론의 사용권 (스캐너 실행이 끝나면 반납한다).
+     *      String repositoryPathUrl - repository URL (로그 / 예외 메시지용).
+     * 4. return: 통계(Stats)가 채워지지 않은 RepositoryResult로 완료되는 CompletableFuture.
+     */
+    private CompletableFuture<RepositoryResult> runCodeAnalysis(Repository repository, String projectKey, CloneLease cloneLease, String repositoryPathUrl)
+            throws InterruptedException, IOException {
+        File localRepo = cloneLease.directory();
+        Path workingDirectory = Files.createTempDirectory("sonar-work-");
+        String ceTaskId;
+        try {
+            ProcessBuilder processBuilder = getProcessBuilder(repository, projectKey, localRepo, workingDirectory);
             processBuilder.directory(localRepo);
+            int exitCode = runScanner(projectKey, processBuilder);
+            if (exitCode != 0) {
+                log.info("Github analysis exited with exit code: {}", exitCode);
+                throw new SonarAnalysisException("SonarQube analysis failed for project: " + repositoryPathUrl);
+            }
+            ceTaskId = readCeTaskId(workingDirectory);
+        } finally {
+            FileSystemUtils.deleteRecursively(workingDirectory);
+        }
+        double javaLoc = calculateJavaNcloc(localRepo);
+        cloneLease.close();
 
+        if (ceTaskId == null) {
+            log.warn("No compute engine task id found for {}, fetching measures right away", repositoryPathUrl);
+            return CompletableFuture.completedFuture(pollAndParseAnalysisResult(projectKey, repository.getRepoId(), javaLoc));
+        }
+        return repositoryAnalysisRunner.thenOnWorker(sonarTaskTracker.awaitCompletion(ceTaskId),
+                ignored -> pollAndParseAnalysisResult(projectKey, repository.getRepoId(), javaLoc));
+    }
+
+    private int runScanner(String projectKey, ProcessBuilder processBuilder) throws InterruptedException, IOException {
+        return repositoryAnalysisRunner.withScannerSlot(projectKey, () -> {
             Process process = processBuilder.start();
 
             Thread stdoutThread = new Thread(() -> {
@@ -313,61 +469,125 @@ public class GithubAnalysisService {
             stdoutThread.start();
             stderrThread.start();
 
-            int exitCode = process.waitFor();
+            int processExitCode = process.waitFor();
             stdoutThread.join();
             stderrThread.join();
+            return processExitCode;
+        });
+    }
 
-            if (exitCode != 0) {
-                log.info("Github analysis exited with exit code: {}", exitCode);
-                throw new SonarAnalysisException("SonarQube analysis failed for project: " + repositoryPathUrl);
-            }
+    /**
+     * 1. 메서드 설명: sonar-scanner가 남긴 report-task.txt에서 compute engine 작업 ID를 읽는다.
+     * 3. param:
+     *      Path workingDirectory - 이번 스캐너 실행의 작업 디렉토리 (sonar.working.directory).
+     * 4. return: ceTaskId. 파일이 없거나 읽을 수 없으면 null.
+     */
+    private String readCeTaskId(Path workingDirectory) {
+        Path reportTask = workingDirectory.resolve("report-task.txt");
+        if (!Files.isRegularFile(reportTask)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (BufferedReader reader = Files.newBufferedReader(reportTask, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            log.warn("Failed to read {}: {}", reportTask, e.getMessage());
+            return null;
+        }
+        return properties.getProperty("ceTaskId");
+    }
 
-            RepositoryResult result = pollAndParseAnalysisResult(projectKey, repository.getRepoId());
-
-            GithubCommit githubCommit = githubCommitRepository.findByRepoId(repository.getRepoId())
-                    .orElseThrow(() -> new GithubRepositoryNotFoundException("Github commit repository not found"));
-            List<GithubPullRequest> githubPullRequests = githubPullRequestRepository.findAllByRepoId(repository.getRepoId())
-                    .orElseThrow(() -> new GithubRepositoryNotFoundException("Github pull requests not found"));
-            List<GithubIssue> githubIssues = githubIssueRepository.findAllByRepoId(repository.getRepoId())
-                    .orElseThrow(() -> new GithubRepositoryNotFoundException("Github issues not found"));
-
-            int commitCount = Optional.ofNullable(githubCommit.getCommits()).map(List::size).orElse(0);
-            int prCount = githubPullRequests.size();
-            int issueCount = githubIssues.size();
-
-            Stats stats = Stats.builder()
-                    .stargazersCount(repository.getStargazersCount())
-                    .commitCount(commitCount)
-                    .prCount(prCount)
-                    .issueCount(issueCount)
-                    .build();
-            result.setStats(stats);
-
-            List<Commit> commits = githubCommit.getCommits();
-            commits.sort(Comparator.comparing(Commit::getCommitDate).reversed());
-            LocalDateTime latestDate = commits.get(0).getCommitDate();
-            LocalDateTime oldestDate = commits.get(commits.size() - 1).getCommitDate();
-            int daysDifference = (int) ChronoUnit.DAYS.between(oldestDate, latestDate);
-            double commitFrequency = daysDifference > 0 ? (double) commitCount / daysDifference : commitCount;
-            result.setCommitFrequency(commitFrequency);
-
-            result.getLanguages().forEach((lang, count) ->
-                    totalLanguageRatio.merge(lang, count, Integer::sum)
-            );
+    /**
+     * 1. 메서드 설명: repository의 HEAD 커밋에 대해 저장된 코드 분석 결과가 있으면 반환한다.
+     * 2. 로직:
+     *    - unique index 생성 이전에 중복 저장된 결과가 남아 있어도 가장 최근 결과 하나만 사용한다.
+     * 3. param:
+     *      int repoId - repository ID.
+     *      String headSha - 로컬 클론의 HEAD 커밋 SHA (null이면 캐시를 사용하지 않는다).
+     * 4. return: 저장된 결과로 만든 RepositoryResult (통계 제외). 없으면 Optional.empty().
+     */
+    private Optional<RepositoryResult> findCachedAnalysis(int repoId, String headSha) {
+        if (headSha == null) {
+            return Optional.empty();
+        }
+        return repositoryAnalysisCacheRepository.findFirstByRepoIdAndHeadShaOrderByAnalyzedAtDesc(repoId, headSha)
+                .map(cache -> RepositoryResult.builder()
+                        .repoId(repoId)
+                        .score(cache.getScore())
+                        .insights(cache.getInsights())
+                        .languages(new HashMap<>(cache.getLanguages()))
+                        .projectMeasures(cache.getProjectMeasures())
+                        .build());
+    }
 
-            totalOverallScore.addAndGet(result.getScore());
-            totalStars.addAndGet(repository.getStargazersCount());
-            totalCommits.addAndGet(commitCount);
-            totalPRs.addAndGet(prCount);
-            totalIssues.addAndGet(issueCount);
-            return result;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Interrupted while analyzing repository: {}", repositoryPathUrl, e);
-            throw new SonarAnalysisException("SonarQube analysis failed due to interruption: " + e.getMessage());
-        } catch (IOException e) {
-            log.error("IOException while analyzing repository: {}", repositoryPathUrl, e);
-            throw new SonarAnalysisException("SonarQube analysis failed: " + e.getMessage());
+    /**
+     * 1. 메서드 설명: HEAD 커밋 기준의 코드 분석 결과를 저장하고, 같은 repository의 이전 HEAD 결과는 삭제한다.
+     * 2. 로직:
+     *    - 다른 분석 요청이 같은 HEAD의 결과를 먼저 저장했으면(unique index 충돌) 무시한다.
+     * 3. param:
+     *      int repoId - repository ID.
+     *      String headSha - 분석한 HEAD 커밋 SHA (null이면 저장하지 않는다).
+     *      RepositoryResult result - 코드 분석 결과.
+     * 4. return: 없음.
+     */
+    private void cacheAnalysis(int repoId, String headSha, RepositoryResult result) {
+        if (headSha == null) {
+            return;
+        }
+        try {
+            repositoryAnalysisCacheRepository.save(RepositoryAnalysisCache.builder()
+                    .repoId(repoId)
+                    .headSha(headSha)
+                    .score(result.getScore())
+                    .insights(result.getInsights())
+                    .languages(result.getLanguages())
+                    .projectMeasures(result.getProjectMeasures())
+                    .analyzedAt(LocalDateTime.now())
+                    .build());
+        } catch (DuplicateKeyException e) {
+            log.debug("Analysis of repository {} at {} was already cached", repoId, headSha);
+        }
+        repositoryAnalysisCacheRepository.deleteByRepoIdAndHeadShaNot(repoId, headSha);
+    }
+
+    /**
+     * 1. 메서드 설명: 저장된 커밋을 cursor로 한 번 순회하며 커밋 수와 가장 이른/늦은 커밋 날짜를 계산한다.
+     * 2. 로직:
+     *    - bucket Document를 순서대로 읽어 커밋 전체를 메모리에 올리지 않고 집계한다.
+     *    - 저장된 커밋이 없으면 예외를 발생시킨다.
+     * 3. param:
+     *      int userId - 로컬 사용자 식별자.
+     *      int repoId - repository 식별자.
+     * 4. return: CommitSummary 객체.
+     */
+    private CommitSummary summarizeCommits(int userId, int repoId) {
+        CommitSummary summary = new CommitSummary();
+        try (Stream<Commit> commits = githubCommitRepository.streamCommits(userId, repoId)) {
+            commits.forEach(summary::accept);
+        }
+        if (summary.count == 0 || summary.latestDate == null) {
+            throw new GithubRepositoryNotFoundException("Github commit repository not found");
+        }
+        return summary;
+    }
+
+    private static class CommitSummary {
+        private int count;
+        private LocalDateTime oldestDate;
+        private LocalDateTime latestDate;
+
+        private void accept(Commit commit) {
+            count++;
+            LocalDateTime date = commit.getCommitDate();
+            if (date == null) {
+                return;
+            }
+            if (oldestDate == null || date.isBefore(oldestDate)) {
+                oldestDate = date;
+            }
+            if (latestDate == null || date.isAfter(latestDate)) {
+                latestDate = date;
+            }
         }
     }
 
@@ -379,15 +599,17 @@ public class GithubAnalysisService {
      *      Repository repository - 분석 대상 repository.
      *      String projectKey - SonarQube 프로젝트 키.
      *      File localRepo - 클론된 로컬 repository 디렉토리.
+     *      Path workingDirectory - 이번 실행에서 sonar-scanner가 사용할 작업 디렉토리.
      * 4. return: ProcessBuilder 객체.
      */
-    private ProcessBuilder getProcessBuilder(Repository repository, String projectKey, File localRepo) {
+    private ProcessBuilder getProcessBuilder(Repository repository, String projectKey, File localRepo, Path workingDirectory) {
         String command = String.format(
                 "mkdir -p /pmd_result/%s ; " +
                         "pmd check -d \"%s\" -R rulesets/java/quickstart.xml -f xml -r /pmd_result/%s/pmd-report.xml ; " +
                         "python3 /app/scripts/pmd_to_sonar.py /pmd_result/%s/pmd-report.xml /pmd_result/%s/pmd-report.json ; " +
                         "sonar-scanner -X -Dsonar.log.level=TRACE " +
                         "-Dsonar.projectBaseDir=\"%s\" " +
+                        "-Dsonar.working.directory=\"%s\" " +
                         "-Dsonar.projectKey=%s " +
                         "-Dsonar.projectName=\"%s\" " +
                         "-Dsonar.sources=. " +
@@ -398,6 +620,7 @@ public class GithubAnalysisService {
                 projectKey, localRepo.getAbsolutePath(), projectKey,
                 projectKey, projectKey,
                 localRepo.getAbsolutePath(),
+                workingDirectory.toAbsolutePath(),
                 projectKey,
                 repository.getFullName(),
                 sonarHostUrl,
@@ -407,58 +630,20 @@ public class GithubAnalysisService {
         return new ProcessBuilder("bash", "-c", command);
     }
 
-    /**
-     * 1. 메서드 설명: 주어진 repository URL을 기반으로 로컬에 repository를 클론한다.
-     * 2. 로직:
-     *    - URL에서 projectKey를 추출한 후, 지정된 경로에 디렉토리가 없으면 JGit을 사용하여 클론한다.
-     * 3. param:
-     *      String repoUrl - 클론할 repository의 URL.
-     * 4. return: 클론된 로컬 repository의 File 객체.
-     */
-    private File cloneRepository(String repoUrl) {
-        String projectKey = extractProjectKey(repoUrl);
-        File repoDir = new File("/tmp/repositories/" + projectKey);
-        if (!repoDir.exists()) {
-            try {
-                Git.cloneRepository()
-                        .setURI(repoUrl)
-                        .setDirectory(repoDir)
-                        .call();
-            } catch (GitAPIException e) {
-                log.error("Error while cloning repository: {}", repoUrl, e);
-                throw new SonarAnalysisException("Failed to clone repository: " + e.getMessage());
-            }
-        }
-        return repoDir;
-    }
-
-    /**
-     * 1. 메서드 설명: 주어진 repository URL에서 organization과 project 이름을 추출하여 프로젝트 키를 생성한다.
-     * 2. 로직:
-     *    - URL을 "/"로 분리한 후, 마지막 두 부분(organization, project)을 결합하여 projectKey를 생성한다.
-     * 3. param:
-     *      String repoUrl - repository의 URL.
-     * 4. return: 생성된 projectKey 문자열.
-     */
-    private String extractProjectKey(String repoUrl) {
-        String[] parts = repoUrl.split("/");
-        String org = parts[parts.length - 2];
-        String project = parts[parts.length - 1].replace(".git", "");
-        return org + "_" + project;
-    }
-
     /**
      * 1. 메서드 설명: SonarQube와 PMD 분석 결과 및 GitHub 데이터를 통합하여 최종 RepositoryResult를 생성한다.
      * 2. 로직:
+     *    - SonarQube compute engine 작업이 끝난 뒤에 호출되므로 측정값은 이번 분석 기준이다.
      *    - SonarQube API를 호출하여 비자바 메트릭 기반 penalty를 계산하고, 언어 분포 정보를 조회한다.
-     *    - 로컬 repository에서 Java 파일의 총 라인 수(ncloc)를 계산하여 언어 분포에 추가한다.
+     *    - 스캐너 실행 후 로컬 클론에서 계산한 Java 파일의 총 라인 수(ncloc)를 언어 분포에 추가한다.
      *    - PMD API를 통해 자바 penalty를 계산하고, 이를 기반으로 자바 품질 점수를 산출한 후 최종 점수를 계산한다.
      * 3. param:
      *      String projectKey - SonarQube 프로젝트 키.
      *      int repoId - 분석 대상 repository의 식별자.
+     *      double javaLoc - 로컬 클론에서 계산한 Java 파일의 총 라인 수.
      * 4. return: RepositoryResult 객체.
      */
-    private RepositoryResult pollAndParseAnalysisResult(String projectKey, int repoId) {
+    private RepositoryResult pollAndParseAnalysisResult(String projectKey, int repoId, double javaLoc) {
         Map<String, Double> weights = Map.of(
                 "coverage", 8.0,
                 "bugs", 16.0,
@@ -496,8 +681,6 @@ public class GithubAnalysisService {
         int nonJavaScore = (int) Math.max(0, BASE_SCORE - sonarTotalPenalty);
 
         Map<String, Double> languageDistribution = new HashMap<>(fetchLanguageDistribution(projectKey));
-        File repoDir = new File("/tmp/repositories/" + projectKey);
-        double javaLoc = calculateJavaNcloc(repoDir);
         if (javaLoc > 0) {
             languageDistribution.put("java", javaLoc);
         }
@@ -550,12 +733,13 @@ public class GithubAnalysisService {
     private JavaPenaltyResult calculateJavaPenalty(String projectKey) {
         String pmdIssuesUrl = sonarHostUrl + "/api/issues/search?componentKeys=" + projectKey + "&engineId=pmd";
         HttpEntity<String> request = setHttpRequest(sonarAnalysisToken);
-        ResponseEntity<Map<String, Object>> issuesResponse = restTemplate.exchange(
-                pmdIssuesUrl,
-                HttpMethod.GET,
-                request,
-                new ParameterizedTypeReference<Map<String, Object>>() {}
-        );
+        ResponseEntity<Map<String, Object>> issuesResponse = outboundCallGuard.callIdempotent(OutboundDependency.SONAR,
+                () -> restTemplate.exchange(
+                        pmdIssuesUrl,
+                        HttpMethod.GET,
+                        request,
+                        new ParameterizedTypeReference<Map<String, Object>>() {}
+                ));
 
         int blockerCount = 0;
         int criticalCount = 0;
@@ -650,7 +834,8 @@ public class GithubAnalysisService {
         String url = sonarHostUrl + "/api/measures/component?component=" + projectKey +
                 "&metricKeys=coverage,bugs,code_smells,vulnerabilities,duplicated_lines_density";
         HttpEntity<String> request = setHttpRequest(sonarUserToken);
-        ResponseEntity<SonarResponse> response = restTemplate.exchange(url, HttpMethod.GET, request, SonarResponse.class);
+        ResponseEntity<SonarResponse> response = outboundCallGuard.callIdempotent(OutboundDependency.SONAR,
+                () -> restTemplate.exchange(url, HttpMethod.GET, request, SonarResponse.class));
         return response.getBody();
     }
 
@@ -667,7 +852,8 @@ public class GithubAnalysisService {
                 "&metricKeys=ncloc_language_distribution";
         HttpEntity<String> request = setHttpRequest(sonarAnalysisToken);
 
-        ResponseEntity<MeasuresResponse> response = restTemplate.exchange(url, HttpMethod.GET, request, MeasuresResponse.class);
+        ResponseEntity<MeasuresResponse> response = outboundCallGuard.callIdempotent(OutboundDependency.SONAR,
+                () -> restTemplate.exchange(url, HttpMethod.GET, request, MeasuresResponse.class));
         MeasuresResponse measuresResponse = response.getBody();
 
         if (measuresResponse != null && measuresResponse.getMeasures() != null) {
@@ -706,7 +892,8 @@ public class GithubAnalysisService {
         String url = sonarHostUrl + "/api/measures/search?projectKeys=" + projectKey + "&metricKeys=" + metricKeys;
         HttpEntity<String> request = setHttpRequest(sonarAnalysisToken);
 
-        ResponseEntity<MeasuresResponse> response = restTemplate.exchange(url, HttpMethod.GET, request, MeasuresResponse.class);
+        ResponseEntity<MeasuresResponse> response = outboundCallGuard.callIdempotent(OutboundDependency.SONAR,
+                () -> restTemplate.exchange(url, HttpMethod.GET, request, MeasuresResponse.class));
         MeasuresResponse measuresResponse = response.getBody();
         Map<String, String> measuresMap = new HashMap<>();
         if (measuresResponse != null && measuresResponse.getMeasures() != null) {
@@ -9,7 +9,9 @@ import com.gittowork.domain.github.repository.*;
 import com.gittowork.domain.user.entity.User;
 import com.gittowork.domain.user.repository.UserRepository;
 import com.gittowork.global.exception.auth.UserNotFoundException;
+import com.gittowork.global.exception.github.AnalysisQueueFullException;
 import com.gittowork.global.exception.github.GithubAnalysisNotFoundException;
+import com.gittowork.global.exception.github.GithubRateLimitException;
 import com.gittowork.global.exception.github.GithubRepositoryNotFoundException;
 import com.gittowork.global.exception.github.SelectedRepositoryDuplicatedException;
 import com.gittowork.global.facade.AuthenticationFacade;
@@ -20,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,6 +47,7 @@ public class GithubService {
     private final SelectedRepoRepository selectedRepoRepository;
     private final GithubRestApiService githubRestApiService;
     private final GithubAnalysisService githubAnalysisService;
+    private final GithubAnalysisJobQueue githubAnalysisJobQueue;
     private final AnalysisStatusRepository analysisStatusRepository;
     private final AuthenticationFacade authenticationFacade;
 
@@ -74,11 +78,19 @@ public class GithubService {
     /**
      * 사용자가 선택한 리포지토리 ID 배열로 신규 분석을 생성하거나,
      * 기존 분석 조합을 재사용하여 분석을 시작합니다.
+     * <p>
+     * 분석은 {@link GithubAnalysisJobQueue}에 등록되어 worker가 순서대로 실행하며,
+     * 같은 조합의 분석이 이미 대기 / 실행 중이면 새로 등록하지 않습니다.
+     * 신규 이벤트 여부는 해당 조합의 마지막 분석 시각 이후의 저장된 이벤트로 판단합니다.
+     * 이벤트 갱신 중 GitHub rate limit에 걸리면 요청을 실패시키지 않고, 수집 큐에 동기화를 등록한 뒤
+     * 분석을 시작하지 않았다는 응답을 반환합니다. (수집 큐는 quota가 초기화될 때까지 작업을 보류한 뒤 실행합니다.)
+     * </p>
      *
      * @param repoIds 선택된 GitHub 리포지토리 ID 배열
      * @return 분석 시작 결과 및 조합 정보를 담은 {@link CreateGithubAnalysisByRepositoryResponse}
      * @throws UserNotFoundException 사용자 정보를 찾을 수 없을 때 발생
      * @throws GithubRepositoryNotFoundException 사용자의 GitHub 리포지토리 정보가 없을 때 발생
+     * @throws AnalysisQueueFullException 분석 작업 큐가 가득 찼을 때 발생
      */
     @Transactional
     public CreateGithubAnalysisByRepositoryResponse createGithubAnalysisByRepositoryResponse(int[] repoIds) {
@@ -97,28 +109,50 @@ public class GithubService {
                 .map(Repository::getRepoName)
                 .collect(Collectors.toList());
 
-        boolean started = githubRestApiService.checkNewGithubEvents(token, userName, userId, names);
+        Optional<SelectedRepository> combination = selectedRepoRepository.findByUserIdAndRepoIds(userId, idSet, idSet.size());
+        LocalDateTime analyzedAt = combination
+                .flatMap(sel -> githubAnalysisResultRepository.findFirstBySelectedRepositoriesIdOrderByAnalysisDateDesc(sel.getSelectedRepositoryId()))
+                .map(GithubAnalysisResult::getAnalysisDate)
+                .orElse(null);
+
+        boolean started;
+        try {
+            started = githubRestApiService.checkNewGithubEvents(token, userName, userId, names, analyzedAt);
+        } catch (GithubRateLimitException e) {
+            log.warn("{}: Github rate limited while checking new events, queued a sync instead: {}", userName, e.getMessage());
+            githubAnalysisService.saveUserGithubRepositoryInfo(userName, userId, GithubIngestionTask.Priority.BACKGROUND);
+            return CreateGithubAnalysisByRepositoryResponse.builder()
+                    .analysisStarted(false)
+                    .selectedRepositories(names)
+                    .message("GitHub 요청 한도에 도달하여 데이터 동기화를 예약했습니다. 잠시 후 다시 시도해 주세요.")
+                    .build();
+        }
         String comboId = null;
+        boolean queued = false;
         if (started) {
-            githubAnalysisService.saveUserGithubRepositoryInfo(token, userName, userId);
-            githubAnalysisService.githubAnalysisByRepository(repoIds, userName);
-
-            SelectedRepository sel = selectedRepoRepository
-                    .findByUserIdAndRepositories(userId,
-                            allRepos.stream()
-                                    .filter(r -> idSet.contains(r.getRepoId()))
-                                    .collect(Collectors.toList()))
+            SelectedRepository sel = combination
                     .orElseThrow(() -> new GithubRepositoryNotFoundException("Combination not found"));
             comboId = sel.getSelectedRepositoryId();
 
+            queued = githubAnalysisJobQueue.submit(userId, userName, comboId, repoIds);
+            githubAnalysisService.saveUserGithubRepositoryInfo(userName, userId, GithubIngestionTask.Priority.BACKGROUND);
+
             analysisStatusRepository.updateStatusByUserIdAndSelectedRepositoriesId(
                     userId, comboId, AnalysisStatus.Status.ANALYZING);
         }
+        String message;
+        if (!started) {
+            message = "추가 이벤트가 없습니다.";
+        } else if (queued) {
+            message = "분석이 시작되었습니다.";
+        } else {
+            message = "이미 진행 중인 분석이 있습니다.";
+        }
         return CreateGithubAnalysisByRepositoryResponse.builder()
                 .analysisStarted(started)
                 .selectedRepositoryId(comboId)
                 .selectedRepositories(names)
-                .message(started ? "분석이 시작되었습니다." : "추가 이벤트가 없습니다.")
+                .message(message)
                 .build();
     }
 
@@ -149,7 +183,8 @@ public class GithubService {
             if (idSet.contains(r.getRepoId())) selRepos.add(r);
         }
 
-        boolean exists = selectedRepoRepository.existsByUserIdAndRepositoriesIn(userId, selRepos);
+        boolean exists = selectedRepoRepository.existsByUserIdAndRepoIdIn(userId,
+                selRepos.stream().map(Repository::getRepoId).toList());
         if (exists) {
             throw new SelectedRepositoryDuplicatedException("Selected repository already exists");
         }
@@ -246,6 +281,7 @@ public class GithubService {
     /**
      * GitHub API를 호출하여 새로운 Repository 생성 이벤트를 확인하고,
      * 감지된 경우 저장된 리포지토리 정보를 업데이트합니다.
+     * 이벤트 확인 중 GitHub rate limit에 걸리면 요청을 실패시키지 않고 수집 큐에 동기화를 등록합니다.
      *
      * @return 업데이트 완료 여부 메시지를 담은 {@link MessageOnlyResponse}
      * @throws UserNotFoundException 사용자 정보를 찾을 수 없을 때 발생
@@ -258,9 +294,16 @@ public class GithubService {
         String token = user.getGithubAccessToken();
         int userId = user.getId();
 
-        boolean isNewRepo = githubRestApiService.checkNewRepositoryCreationEvents(token, userName, userId);
+        boolean isNewRepo;
+        try {
+            isNewRepo = githubRestApiService.checkNewRepositoryCreationEvents(token, userName, userId);
+        } catch (GithubRateLimitException e) {
+            log.warn("{}: Github rate limited while checking new repositories, queued a sync instead: {}", userName, e.getMessage());
+            githubAnalysisService.saveUserGithubRepositoryInfo(userName, userId, GithubIngestionTask.Priority.BACKGROUND);
+            return new MessageOnlyResponse("GitHub 요청 한도에 도달하여 데이터 업데이트를 예약했습니다.");
+        }
         if (isNewRepo) {
-            githubAnalysisService.saveUserGithubRepositoryInfo(token, userName, userId);
+            githubAnalysisService.saveUserGithubRepositoryInfo(userName, userId, GithubIngestionTask.Priority.BACKGROUND);
             return new MessageOnlyResponse("새로운 Github Repository가 감지되었습니다. 데이터를 업데이트합니다.");
         }
         return new MessageOnlyResponse("감지된 새로운 Github Repository가 없습니다.");
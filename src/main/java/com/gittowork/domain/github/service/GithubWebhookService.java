@@ -0,0 +1,288 @@
+package com.gittowork.domain.github.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.domain.github.entity.GithubIngestionTask;
+import com.gittowork.domain.github.model.payload.GithubWebhookPayload;
+import com.gittowork.domain.github.repository.GithubRepoRepository;
+import com.gittowork.domain.user.entity.User;
+import com.gittowork.domain.user.repository.UserRepository;
+import com.gittowork.global.exception.common.JsonParsingException;
+import com.gittowork.global.exception.github.GithubRateLimitException;
+import com.gittowork.global.exception.github.GithubWebhookQueueFullException;
+import com.gittowork.global.exception.github.GithubWebhookSignatureException;
+import com.gittowork.global.properties.GithubWebhookProperties;
+import com.gittowork.global.service.github.GithubIngestionQueue;
+import com.gittowork.global.service.github.GithubRestApiService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitHub webhook 요청을 검증하고, 내부 작업 queue를 통해 저장된 GitHub 데이터에 점진적으로 반영하는 서비스.
+ * <p>
+ * 요청 스레드에서는 서명 검증, 중복 delivery 확인, payload 파싱만 수행하고
+ * 실제 반영은 worker pool에서 처리하여 GitHub의 webhook 응답 제한 시간(10초) 안에 응답한다.
+ * GitHub는 실패한 delivery를 자동으로 다시 전송하지 않으므로, worker pool의 대기열이 가득 차거나 반영 중 예외가 발생하면
+ * 이벤트를 버리지 않고 해당 repository(repository 이벤트는 사용자 전체)의 REST 동기화를 영속 수집 큐에 등록하여 보정한다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class GithubWebhookService {
+
+    private static final String SIGNATURE_PREFIX = "sha256=";
+    private static final Set<String> SUPPORTED_EVENTS = Set.of("push", "issues", "pull_request", "repository");
+
+    private final GithubWebhookProperties properties;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final GithubRestApiService githubRestApiService;
+    private final GithubRepoRepository githubRepoRepository;
+    private final GithubIngestionQueue githubIngestionQueue;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, Boolean> recentDeliveries;
+    private final Set<String> inFlightDeliveries = ConcurrentHashMap.newKeySet();
+
+    public GithubWebhookService(GithubWebhookProperties properties,
+                                ObjectMapper objectMapper,
+                                UserRepository userRepository,
+                                GithubRestApiService githubRestApiService,
+                                GithubRepoRepository githubRepoRepository,
+                                GithubIngestionQueue githubIngestionQueue) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.githubRestApiService = githubRestApiService;
+        this.githubRepoRepository = githubRepoRepository;
+        this.githubIngestionQueue = githubIngestionQueue;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(properties.getPoolSize());
+        this.executor.setMaxPoolSize(properties.getPoolSize());
+        this.executor.setQueueCapacity(properties.getQueueCapacity());
+        this.executor.setThreadNamePrefix("github-webhook-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+        int maxDeliveries = properties.getDeliveryCacheSize();
+        this.recentDeliveries = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxDeliveries;
+            }
+        });
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub webhook 요청을 검증한 뒤 내부 queue에 반영 작업을 등록한다.
+     * 2. 로직:
+     *    - X-Hub-Signature-256 헤더를 webhook secret으로 계산한 HMAC-SHA256 값과 비교하며, 다르면 예외를 발생시킨다.
+     *    - 지원하지 않는 이벤트(ping 등)나 이미 처리했거나 처리 중인 X-GitHub-Delivery ID는 무시한다.
+     *    - payload를 파싱하여 worker pool에 반영 작업을 등록한다.
+     *    - worker pool이 작업을 받지 못하면 요청 스레드에서 REST 동기화를 수집 큐에 등록하고 delivery ID를 처리 완료로 기록한다.
+     *      수집 큐 등록도 실패하면 GithubWebhookQueueFullException을 발생시킨다. (503, 이후 GitHub에서 수동으로 재전송할 수 있다.)
+     * 3. param:
+     *      event      - X-GitHub-Event 헤더 값.
+     *      deliveryId - X-GitHub-Delivery 헤더 값.
+     *      signature  - X-Hub-Signature-256 헤더 값.
+     *      body       - 서명 검증에 사용되는 원본 요청 body.
+     * 4. return: 반영 작업 또는 REST 동기화가 등록되었으면 true, 무시된 요청이면 false.
+     */
+    public boolean receive(String event, String deliveryId, String signature, byte[] body) {
+        verifySignature(signature, body);
+        if (!SUPPORTED_EVENTS.contains(event)) {
+            log.debug("Ignoring GitHub webhook event {} ({})", event, deliveryId);
+            return false;
+        }
+        if (deliveryId != null && (recentDeliveries.containsKey(deliveryId) || !inFlightDeliveries.add(deliveryId))) {
+            log.debug("Ignoring redelivered GitHub webhook {}", deliveryId);
+            return false;
+        }
+
+        GithubWebhookPayload payload;
+        try {
+            payload = objectMapper.readValue(body, GithubWebhookPayload.class);
+        } catch (IOException e) {
+            releaseDelivery(deliveryId);
+            throw new JsonParsingException("Failed to parse GitHub webhook payload: " + e.getMessage());
+        }
+        try {
+            executor.execute(() -> dispatch(event, deliveryId, payload));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("GitHub webhook queue is full, falling back to a REST sync for {} ({})", event, deliveryId);
+            try {
+                boolean enqueued = enqueueFallbackSync(event, payload);
+                if (enqueued) {
+                    markDelivered(deliveryId);
+                }
+                return enqueued;
+            } catch (RuntimeException fallbackFailure) {
+                throw new GithubWebhookQueueFullException("GitHub webhook queue is full: " + fallbackFailure.getMessage());
+            } finally {
+                releaseDelivery(deliveryId);
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: webhook 이벤트 종류에 따라 GithubRestApiService의 반영 메서드를 호출한다.
+     * 2. 로직:
+     *    - repository 소유자의 GitHub 이름으로 사용자를 조회하며, 가입하지 않은 사용자의 이벤트는 무시한다.
+     *    - push가 저장된 이력에 빠짐없이 반영되지 않았으면 해당 repository의 REST 동기화를 수집 큐에 등록한다.
+     *    - 반영이 끝난 뒤에만 delivery ID를 처리 완료로 기록한다.
+     *    - 반영 중 예외가 발생하면 REST 동기화를 수집 큐에 등록하여 보정하고, 등록되면 delivery ID를 처리 완료로 기록한다.
+     *      GitHub rate limit으로 중단된 경우에도 같으며, 수집 큐가 quota 초기화 시각까지 작업을 보류한 뒤 실행한다.
+     * 3. param:
+     *      event      - X-GitHub-Event 헤더 값.
+     *      deliveryId - X-GitHub-Delivery 헤더 값.
+     *      payload    - webhook payload.
+     * 4. return: 없음.
+     */
+    private void dispatch(String event, String deliveryId, GithubWebhookPayload payload) {
+        try {
+            Optional<User> userOpt = findOwner(payload);
+            if (userOpt.isEmpty()) {
+                log.debug("Ignoring GitHub webhook {} for unknown repository owner", deliveryId);
+                markDelivered(deliveryId);
+                return;
+            }
+            User user = userOpt.get();
+            switch (event) {
+                case "push" -> {
+                    if (!githubRestApiService.applyPushEvent(user.getGithubAccessToken(), user.getId(), payload)) {
+                        enqueueRepositorySync(user, payload.getRepository().getId());
+                    }
+                }
+                case "issues" -> githubRestApiService.applyIssueEvent(user.getId(), payload);
+                case "pull_request" -> githubRestApiService.applyPullRequestEvent(user.getId(), payload);
+                case "repository" -> githubRestApiService.applyRepositoryEvent(user.getId(), payload);
+                default -> log.debug("Unsupported GitHub webhook event {}", event);
+            }
+            markDelivered(deliveryId);
+        } catch (GithubRateLimitException e) {
+            log.warn("GitHub rate limited while applying webhook {} ({}), falling back to a queued REST sync: {}",
+                    event, deliveryId, e.getMessage());
+            fallBack(event, deliveryId, payload);
+        } catch (Exception e) {
+            log.error("Failed to apply GitHub webhook {} ({}), falling back to a REST sync: {}", event, deliveryId, e.getMessage());
+            fallBack(event, deliveryId, payload);
+        } finally {
+            releaseDelivery(deliveryId);
+        }
+    }
+
+    private void fallBack(String event, String deliveryId, GithubWebhookPayload payload) {
+        try {
+            if (enqueueFallbackSync(event, payload)) {
+                markDelivered(deliveryId);
+            }
+        } catch (RuntimeException fallbackFailure) {
+            log.error("Failed to enqueue REST sync for GitHub webhook {}: {}", deliveryId, fallbackFailure.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 반영하지 못한 webhook 이벤트 대신 REST 동기화를 영속 수집 큐에 등록한다.
+     * 2. 로직:
+     *    - repository 이벤트는 repository 목록이 바뀌었을 수 있으므로 사용자 전체 동기화를, 그 외 이벤트는 해당 repository 동기화를 등록한다.
+     *    - 가입하지 않은 사용자의 이벤트는 등록하지 않는다.
+     * 3. param:
+     *      event   - X-GitHub-Event 헤더 값.
+     *      payload - webhook payload.
+     * 4. return: 동기화를 등록했으면 true, 대상 사용자가 없으면 false.
+     */
+    private boolean enqueueFallbackSync(String event, GithubWebhookPayload payload) {
+        Optional<User> userOpt = findOwner(payload);
+        if (userOpt.isEmpty()) {
+            return false;
+        }
+        User user = userOpt.get();
+        if ("repository".equals(event)) {
+            githubIngestionQueue.enqueueUserSync(user.getId(), user.getGithubName(), GithubIngestionTask.Priority.BACKGROUND);
+        } else {
+            enqueueRepositorySync(user, payload.getRepository().getId());
+        }
+        return true;
+    }
+
+    private Optional<User> findOwner(GithubWebhookPayload payload) {
+        return Optional.ofNullable(payload.getRepository())
+                .map(repository -> repository.getOwner() != null ? repository.getOwner().getLogin() : null)
+                .flatMap(userRepository::findByGithubName);
+    }
+
+    private void markDelivered(String deliveryId) {
+        if (deliveryId != null) {
+            recentDeliveries.put(deliveryId, Boolean.TRUE);
+        }
+    }
+
+    private void releaseDelivery(String deliveryId) {
+        if (deliveryId != null) {
+            inFlightDeliveries.remove(deliveryId);
+        }
+    }
+
+    private void enqueueRepositorySync(User user, int repoId) {
+        githubRepoRepository.findByUserId(user.getId())
+                .flatMap(githubRepository -> githubRepository.getRepositories().stream()
+                        .filter(repository -> repository.getRepoId() == repoId)
+                        .findFirst())
+                .ifPresentOrElse(
+                        repository -> githubIngestionQueue.enqueueRepositorySync(user.getId(), user.getGithubName(),
+                                repository, GithubIngestionTask.Priority.BACKGROUND),
+                        () -> githubIngestionQueue.enqueueUserSync(user.getId(), user.getGithubName(),
+                                GithubIngestionTask.Priority.BACKGROUND));
+    }
+
+    /**
+     * 1. 메서드 설명: X-Hub-Signature-256 헤더가 요청 body의 HMAC-SHA256 서명과 일치하는지 검증한다.
+     * 2. 로직:
+     *    - secret이 설정되지 않았거나 헤더가 "sha256="으로 시작하지 않으면 예외를 발생시킨다.
+     *    - 서명 비교는 MessageDigest.isEqual로 상수 시간에 수행한다.
+     * 3. param:
+     *      signature - X-Hub-Signature-256 헤더 값.
+     *      body      - 원본 요청 body.
+     * 4. return: 없음.
+     */
+    private void verifySignature(String signature, byte[] body) {
+        String secret = properties.getSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new GithubWebhookSignatureException("GitHub webhook secret is not configured");
+        }
+        if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+            throw new GithubWebhookSignatureException("Missing GitHub webhook signature");
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] expected = HexFormat.of().formatHex(mac.doFinal(body)).getBytes(StandardCharsets.US_ASCII);
+            byte[] actual = signature.substring(SIGNATURE_PREFIX.length()).toLowerCase().getBytes(StandardCharsets.US_ASCII);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                throw new GithubWebhookSignatureException("Invalid GitHub webhook signature");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 algorithm not available", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,78 @@
+package com.gittowork.domain.github.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.domain.github.model.sonar.SonarWebhookPayload;
+import com.gittowork.global.exception.common.JsonParsingException;
+import com.gittowork.global.exception.github.SonarWebhookSignatureException;
+import com.gittowork.global.properties.SonarComputeEngineProperties;
+import com.gittowork.global.service.sonar.SonarTaskTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * SonarQube webhook(분석 완료 알림)을 검증하고, 기다리던 compute engine 작업을 완료시키는 서비스.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SonarWebhookService {
+
+    private final SonarComputeEngineProperties properties;
+    private final ObjectMapper objectMapper;
+    private final SonarTaskTracker sonarTaskTracker;
+
+    /**
+     * 1. 메서드 설명: SonarQube webhook 요청을 검증한 뒤 해당 compute engine 작업의 대기를 완료시킨다.
+     * 2. 로직:
+     *    - X-Sonar-Webhook-HMAC-SHA256 헤더를 webhook secret으로 계산한 HMAC-SHA256 값과 비교하며, 다르면 예외를 발생시킨다.
+     *    - payload의 taskId / status를 SonarTaskTracker에 전달한다. (이 서버가 기다리지 않는 작업은 무시된다.)
+     * 3. param:
+     *      signature - X-Sonar-Webhook-HMAC-SHA256 헤더 값.
+     *      body      - 서명 검증에 사용되는 원본 요청 body.
+     * 4. return: 기다리던 작업이 완료되었으면 true, 무시된 요청이면 false.
+     */
+    public boolean receive(String signature, byte[] body) {
+        verifySignature(signature, body);
+        SonarWebhookPayload payload;
+        try {
+            payload = objectMapper.readValue(body, SonarWebhookPayload.class);
+        } catch (IOException e) {
+            throw new JsonParsingException("Failed to parse SonarQube webhook payload: " + e.getMessage());
+        }
+        boolean completed = sonarTaskTracker.onTaskFinished(payload.getTaskId(), payload.getStatus());
+        if (!completed) {
+            log.debug("Ignoring SonarQube webhook for task {} ({})", payload.getTaskId(), payload.getStatus());
+        }
+        return completed;
+    }
+
+    private void verifySignature(String signature, byte[] body) {
+        String secret = properties.getWebhookSecret();
+        if (secret == null || secret.isBlank()) {
+            throw new SonarWebhookSignatureException("SonarQube webhook secret is not configured");
+        }
+        if (signature == null || signature.isBlank()) {
+            throw new SonarWebhookSignatureException("Missing SonarQube webhook signature");
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] expected = HexFormat.of().formatHex(mac.doFinal(body)).getBytes(StandardCharsets.US_ASCII);
+            byte[] actual = signature.toLowerCase().getBytes(StandardCharsets.US_ASCII);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                throw new SonarWebhookSignatureException("Invalid SonarQube webhook signature");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 algorithm not available", e);
+        }
+    }
+}
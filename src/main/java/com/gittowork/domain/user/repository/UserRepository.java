@@ -1,12 +1,15 @@
 package com.gittowork.domain.user.repository;
 
 import com.gittowork.domain.user.entity.User;
+import com.gittowork.domain.user.entity.UserState;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +25,10 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Integer updateFcmTokenByGithubName(@Param("name") String githubName,
                                    @Param("token") String fcmToken);
 
+    @Query("SELECT u FROM User u WHERE u.state = :state AND u.id > :afterId " +
+            "AND u.deleteDttm IS NULL AND u.githubAccessToken IS NOT NULL ORDER BY u.id")
+    List<User> findResyncCandidates(@Param("state") UserState state,
+                                    @Param("afterId") int afterId,
+                                    Pageable pageable);
+
 }
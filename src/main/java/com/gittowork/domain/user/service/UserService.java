@@ -2,6 +2,7 @@ package com.gittowork.domain.user.service;
 
 import com.gittowork.domain.field.entity.Field;
 import com.gittowork.domain.field.repository.FieldRepository;
+import com.gittowork.domain.github.entity.GithubIngestionTask;
 import com.gittowork.domain.github.service.GithubAnalysisService;
 import com.gittowork.domain.user.dto.request.InsertProfileRequest;
 import com.gittowork.domain.user.dto.request.UpdateInterestsFieldsRequest;
@@ -46,7 +47,7 @@ public class UserService {
      * <p>1. 현재 인증된 사용자명(username)을 가져와 {@link UserRepository}에서 조회합니다.
      * <p>2. 조회된 엔티티에 요청 DTO의 값을 설정(update)하고,
      *    트랜잭션 커밋 시점에 더티체킹(dirty-checking)으로 자동 반영됩니다.
-     * <p>3. 비동기로 GitHub 리포지토리 분석을 수행하는 {@link com.gittowork.domain.github.service.GithubAnalysisService}를 호출합니다.
+     * <p>3. {@link com.gittowork.domain.github.service.GithubAnalysisService}를 통해 GitHub 데이터 동기화를 onboarding 우선순위(INTERACTIVE)로 수집 큐에 등록합니다.
      *
      * @param insertProfileRequest 프로필 추가 정보를 담은 DTO
      * @return {@link MessageOnlyResponse}
@@ -68,7 +69,7 @@ public class UserService {
         user.setPrivacyConsentDttm(insertProfileRequest.getPrivacyPolicyAgreed() ? now : null);
         user.setNotificationAgreeDttm(insertProfileRequest.getNotificationAgreed() ? now : null);
 
-        githubAnalysisService.saveUserGithubRepositoryInfo(user.getGithubAccessToken(), username, user.getId());
+        githubAnalysisService.saveUserGithubRepositoryInfo(username, user.getId(), GithubIngestionTask.Priority.INTERACTIVE);
 
         return MessageOnlyResponse.builder()
                 .message("추가 정보가 성공적으로 업데이트되었습니다.")
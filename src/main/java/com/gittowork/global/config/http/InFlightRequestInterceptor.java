@@ -0,0 +1,37 @@
+package com.gittowork.global.config.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * client별로 응답을 기다리고 있는 요청 수를 outbound.http.in.flight 지표로 노출하는 interceptor.
+ * HTTP/2 client처럼 connection pool 지표가 없는 경우에도 포화 상태를 확인할 수 있다.
+ */
+public class InFlightRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public InFlightRequestInterceptor(MeterRegistry meterRegistry, String client) {
+        Gauge.builder("outbound.http.in.flight", inFlight, AtomicInteger::get)
+                .tag("client", client)
+                .description("응답을 기다리고 있는 외부 HTTP 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        inFlight.incrementAndGet();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
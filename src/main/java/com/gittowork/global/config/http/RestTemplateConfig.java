@@ -0,0 +1,143 @@
+package com.gittowork.global.config.http;
+
+import com.gittowork.global.properties.OutboundHttpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 외부 서버별 RestTemplate 설정.
+ * <p>
+ * GitHub, SonarQube, OpenAI 호출은 각각 별도의 connection pool과 timeout을 사용한다.
+ * http2가 켜진 client(기본값: GitHub)는 JDK HttpClient로 HTTP/2 연결 하나를 multiplexing하며,
+ * 나머지는 Apache HttpClient 5의 pooling connection manager로 keep-alive 연결을 재사용한다.
+ * pool 상태는 httpcomponents.httpclient.pool.* 지표(httpclient 태그)로, 처리 중인 요청 수는 outbound.http.in.flight 지표로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RestTemplateConfig {
+
+    private final OutboundHttpProperties outboundHttpProperties;
+    private final MeterRegistry meterRegistry;
+    private final List<CloseableHttpClient> pooledClients = new CopyOnWriteArrayList<>();
+
+    @Bean
+    public RestTemplate githubRestTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return createRestTemplate(restTemplateBuilder, "github", outboundHttpProperties.getGithub());
+    }
+
+    @Bean
+    public RestTemplate sonarRestTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return createRestTemplate(restTemplateBuilder, "sonar", outboundHttpProperties.getSonar());
+    }
+
+    @Bean
+    public RestTemplate openAiRestTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return createRestTemplate(restTemplateBuilder, "openai", outboundHttpProperties.getOpenai());
+    }
+
+    private RestTemplate createRestTemplate(RestTemplateBuilder restTemplateBuilder, String name, OutboundHttpProperties.Client client) {
+        RestTemplateBuilder builder = restTemplateBuilder
+                .requestFactory(() -> client.isHttp2() ? jdkRequestFactory(client) : pooledRequestFactory(name, client))
+                .additionalInterceptors(new InFlightRequestInterceptor(meterRegistry, name));
+        if (client.isHttp2() && client.isCompression()) {
+            builder = builder.additionalInterceptors(new GzipDecompressingInterceptor());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 1. 메서드 설명: HTTP/2를 지원하는 JDK HttpClient 기반 request factory를 생성한다.
+     * 2. 로직:
+     *    - HTTP/2에서는 요청이 하나의 연결로 multiplexing되므로 별도 pool을 두지 않는다.
+     *    - JDK HttpClient는 응답 압축을 해제하지 않으므로 gzip은 GzipDecompressingInterceptor가 처리한다.
+     * 3. param:
+     *      client - 대상 서버의 연결 설정.
+     * 4. return: JdkClientHttpRequestFactory.
+     */
+    private ClientHttpRequestFactory jdkRequestFactory(OutboundHttpProperties.Client client) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(client.getConnectTimeoutMillis()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(client.getReadTimeoutMillis()));
+        return requestFactory;
+    }
+
+    /**
+     * 1. 메서드 설명: Apache HttpClient 5의 pooling connection manager 기반 request factory를 생성한다.
+     * 2. 로직:
+     *    - 연결 / 응답 / pool 대기 timeout과 최대 연결 수를 설정하고, 만료되거나 오래 쉰 연결은 정리한다.
+     *    - connection manager를 Micrometer에 등록하여 pool 포화 상태(leased / available / pending)를 노출한다.
+     *    - compression이 꺼져 있으면 Accept-Encoding 협상과 응답 해제를 하지 않는다.
+     * 3. param:
+     *      name   - 지표 태그로 사용할 client 이름.
+     *      client - 대상 서버의 연결 설정.
+     * 4. return: HttpComponentsClientHttpRequestFactory.
+     */
+    private ClientHttpRequestFactory pooledRequestFactory(String name, OutboundHttpProperties.Client client) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(client.getMaxConnections())
+                .setMaxConnPerRoute(client.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(client.getConnectTimeoutMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(client.getReadTimeoutMillis()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(client.getPoolAcquireTimeoutMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(client.getReadTimeoutMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(client.getIdleEvictMillis()));
+        if (!client.isCompression()) {
+            httpClientBuilder.disableContentCompression();
+        }
+        CloseableHttpClient httpClient = httpClientBuilder.build();
+        pooledClients.add(httpClient);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @PreDestroy
+    public void closePooledClients() {
+        for (CloseableHttpClient httpClient : pooledClients) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.warn("Failed to close pooled HTTP client: {}", e.getMessage());
+            }
+        }
+    }
+}
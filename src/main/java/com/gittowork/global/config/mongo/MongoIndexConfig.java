@@ -0,0 +1,159 @@
+package com.gittowork.global.config.mongo;
+
+import com.gittowork.domain.github.entity.*;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+/**
+ * Document 클래스에 선언된 @CompoundIndex / @Indexed 인덱스를 애플리케이션 시작 시 생성한다.
+ * <p>
+ * spring.data.mongodb.auto-index-creation 기본값이 false 이므로 어노테이션만으로는 인덱스가 만들어지지 않는다.
+ * unique 인덱스 생성 전에 기존 중복 Document를 정리해야 인덱스 생성이 실패하지 않는다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 1. 메서드 설명: 중복 Document를 정리한 뒤 각 Document 클래스의 인덱스를 생성한다.
+     * 2. 로직:
+     *    - github_commit: 같은 bucket 번호를 가진 Document가 있으면 번호를 새로 부여한다. (커밋 데이터는 삭제하지 않는다.)
+     *    - 나머지 unique 인덱스 대상: 키가 같은 Document 중 가장 최근에 저장된 것만 남긴다.
+     *    - 어노테이션에 선언된 인덱스를 ensureIndex로 생성한다.
+     */
+    @PostConstruct
+    public void ensureIndexes() {
+        renumberDuplicateCommitBuckets();
+        ensureAnnotatedIndexes(GithubCommit.class);
+
+        removeDuplicates(GithubSyncCheckpoint.class, "userId", "repoId");
+        ensureAnnotatedIndexes(GithubSyncCheckpoint.class);
+
+        removeDuplicates(GithubRepositoryStats.class, "userId", "repoId");
+        ensureAnnotatedIndexes(GithubRepositoryStats.class);
+
+        removeDuplicates(GithubEventCursor.class, "userId");
+        ensureAnnotatedIndexes(GithubEventCursor.class);
+
+        ensureAnnotatedIndexes(GithubIngestionTask.class);
+
+        removeDuplicates(GithubIssue.class, "repoId", "issueId");
+        ensureAnnotatedIndexes(GithubIssue.class);
+
+        removeDuplicates(GithubPullRequest.class, "repoId", "prId");
+        ensureAnnotatedIndexes(GithubPullRequest.class);
+
+        removeDuplicates(RepositoryAnalysisCache.class, "repoId", "headSha");
+        ensureAnnotatedIndexes(RepositoryAnalysisCache.class);
+    }
+
+    /**
+     * 1. 메서드 설명: 어노테이션에 선언된 인덱스를 생성한다.
+     * 2. 로직:
+     *    - IndexResolver로 Document 클래스의 인덱스 정의를 읽어 ensureIndex를 호출한다.
+     *    - 생성에 실패한 인덱스는 로그를 남기고 나머지 인덱스 생성을 계속한다.
+     * 3. param: entityClass 인덱스를 생성할 Document 클래스
+     */
+    private void ensureAnnotatedIndexes(Class<?> entityClass) {
+        IndexResolver indexResolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        IndexOperations indexOps = mongoTemplate.indexOps(entityClass);
+        for (IndexDefinition index : indexResolver.resolveIndexFor(entityClass)) {
+            try {
+                indexOps.ensureIndex(index);
+            } catch (RuntimeException e) {
+                log.error("Failed to create index {} on {}: {}",
+                        index.getIndexOptions().get("name"), entityClass.getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: unique 인덱스 키가 같은 Document 중 가장 최근에 저장된 것만 남기고 삭제한다.
+     * 2. 로직:
+     *    - _id 역순으로 정렬한 뒤 키로 묶어, 2개 이상인 그룹의 첫 번째를 제외한 _id를 삭제한다.
+     * 3. param:
+     *    - entityClass 정리할 Document 클래스
+     *    - keys unique 인덱스 키 필드
+     */
+    private void removeDuplicates(Class<?> entityClass, String... keys) {
+        Aggregation aggregation = newAggregation(
+                sort(Sort.Direction.DESC, "_id"),
+                group(keys).push("_id").as("ids").count().as("count"),
+                match(Criteria.where("count").gt(1))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long removed = 0;
+        for (Document group : mongoTemplate.aggregate(aggregation, entityClass, Document.class).getMappedResults()) {
+            List<Object> ids = group.getList("ids", Object.class);
+            Query query = Query.query(Criteria.where("_id").in(ids.subList(1, ids.size())));
+            removed += mongoTemplate.remove(query, entityClass).getDeletedCount();
+        }
+        if (removed > 0) {
+            log.warn("Removed {} duplicate documents from {}", removed, entityClass.getSimpleName());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 같은 (userId, repoId, bucket)을 가진 github_commit Document에 새 bucket 번호를 부여한다.
+     * 2. 로직:
+     *    - 동시에 bucket을 추가하면서 생긴 중복은 서로 다른 커밋을 담고 있으므로 삭제하지 않는다.
+     *    - 그룹의 첫 번째 Document만 기존 번호를 유지하고, 나머지는 repository의 마지막 bucket 다음 번호로 옮긴다.
+     */
+    private void renumberDuplicateCommitBuckets() {
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("bucket").exists(true)),
+                sort(Sort.Direction.ASC, "_id"),
+                group("userId", "repoId", "bucket").push("_id").as("ids").count().as("count"),
+                match(Criteria.where("count").gt(1))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        for (Document group : mongoTemplate.aggregate(aggregation, GithubCommit.class, Document.class).getMappedResults()) {
+            Document key = group.get("_id", Document.class);
+            int userId = key.getInteger("userId");
+            int repoId = key.getInteger("repoId");
+            List<Object> ids = group.getList("ids", Object.class);
+            for (Object id : ids.subList(1, ids.size())) {
+                mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id)),
+                        Update.update("bucket", lastBucketNumber(userId, repoId) + 1), GithubCommit.class);
+            }
+            log.warn("Renumbered {} duplicate commit buckets of repository {}", ids.size() - 1, repoId);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: repository의 가장 큰 bucket 번호를 조회한다.
+     * 2. param:
+     *    - userId GitToWork 사용자 ID
+     *    - repoId GitHub repository ID
+     * 3. return: 가장 큰 bucket 번호, bucket이 없으면 -1
+     */
+    private int lastBucketNumber(int userId, int repoId) {
+        Query query = Query.query(Criteria.where("userId").is(userId).and("repoId").is(repoId).and("bucket").ne(null))
+                .with(Sort.by(Sort.Direction.DESC, "bucket"))
+                .limit(1);
+        query.fields().include("bucket");
+        GithubCommit last = mongoTemplate.findOne(query, GithubCommit.class);
+        return last == null ? -1 : last.getBucket();
+    }
+}
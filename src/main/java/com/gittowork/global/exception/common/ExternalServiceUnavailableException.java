@@ -0,0 +1,7 @@
+package com.gittowork.global.exception.common;
+
+public class ExternalServiceUnavailableException extends RuntimeException {
+    public ExternalServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gittowork.global.exception.github;
+
+public class AnalysisQueueFullException extends RuntimeException {
+    public AnalysisQueueFullException(String message) {
+        super(message);
+    }
+}
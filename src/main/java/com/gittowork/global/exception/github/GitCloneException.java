@@ -0,0 +1,7 @@
+package com.gittowork.global.exception.github;
+
+public class GitCloneException extends RuntimeException {
+    public GitCloneException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gittowork.global.exception.github;
+
+import lombok.Getter;
+
+@Getter
+public class GithubRateLimitException extends RuntimeException {
+
+    // 다시 호출할 수 있을 때까지 남은 시간(ms). 알 수 없으면 0.
+    private final long retryAfterMillis;
+
+    public GithubRateLimitException(String message) {
+        this(message, 0);
+    }
+
+    public GithubRateLimitException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
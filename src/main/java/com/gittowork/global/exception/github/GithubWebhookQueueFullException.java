@@ -0,0 +1,7 @@
+package com.gittowork.global.exception.github;
+
+public class GithubWebhookQueueFullException extends RuntimeException {
+    public GithubWebhookQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gittowork.global.exception.github;
+
+public class GithubWebhookSignatureException extends RuntimeException {
+    public GithubWebhookSignatureException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gittowork.global.exception.github;
+
+public class SonarWebhookSignatureException extends RuntimeException {
+    public SonarWebhookSignatureException(String message) {
+        super(message);
+    }
+}
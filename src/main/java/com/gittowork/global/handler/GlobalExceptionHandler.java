@@ -4,6 +4,7 @@ import com.gittowork.global.exception.auth.AccessTokenNotFoundException;
 import com.gittowork.global.exception.auth.AutoLogInException;
 import com.gittowork.global.exception.auth.UserNotFoundException;
 import com.gittowork.global.exception.common.DataNotFoundException;
+import com.gittowork.global.exception.common.ExternalServiceUnavailableException;
 import com.gittowork.global.exception.common.JsonParsingException;
 import com.gittowork.global.exception.company.CompanyNotFoundException;
 import com.gittowork.global.exception.coverletter.CoverLetterAnalysisAccessDenyException;
@@ -43,7 +44,8 @@ public class GlobalExceptionHandler {
         UNAUTHORIZED("UR", "Unauthorized."),
         DUPLICATE("DP", "Duplicate entry"),
         INTERNAL_SERVER_ERROR("ES", "Internal Server Error."),
-        INVALID_ARGUMENT("INA", "Invalid argument"),;
+        INVALID_ARGUMENT("INA", "Invalid argument"),
+        SERVICE_UNAVAILABLE("SU", "Service unavailable."),;
 
         private final String code;
         private final String message;
@@ -159,6 +161,48 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getCode(), message);
     }
 
+    @ExceptionHandler(GithubRateLimitException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(GithubRateLimitException e) {
+        log.warn("Github rate limit exceeded: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.SERVICE_UNAVAILABLE.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.getCode(), message);
+    }
+
+    @ExceptionHandler(AnalysisQueueFullException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(AnalysisQueueFullException e) {
+        log.warn("Github analysis queue full: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.SERVICE_UNAVAILABLE.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.getCode(), message);
+    }
+
+    @ExceptionHandler(GithubWebhookQueueFullException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(GithubWebhookQueueFullException e) {
+        log.warn("Github webhook queue full: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.SERVICE_UNAVAILABLE.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.getCode(), message);
+    }
+
+    @ExceptionHandler(ExternalServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(ExternalServiceUnavailableException e) {
+        log.warn("External service unavailable: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.SERVICE_UNAVAILABLE.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.getCode(), message);
+    }
+
+    @ExceptionHandler(SonarWebhookSignatureException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(SonarWebhookSignatureException e) {
+        log.warn("Sonar webhook rejected: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.UNAUTHORIZED.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.UNAUTHORIZED, ErrorCode.UNAUTHORIZED.getCode(), message);
+    }
+
+    @ExceptionHandler(GithubWebhookSignatureException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(GithubWebhookSignatureException e) {
+        log.warn("Github webhook rejected: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.UNAUTHORIZED.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.UNAUTHORIZED, ErrorCode.UNAUTHORIZED.getCode(), message);
+    }
+
     @ExceptionHandler(GithubAnalysisNotFoundException.class)
     public ResponseEntity<ErrorResponse> exceptionHandler(GithubAnalysisNotFoundException e) {
         log.warn("Github analysis not found: {}", e.getMessage());
@@ -0,0 +1,30 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "git.clone")
+@Getter
+@Setter
+public class GitCloneProperties {
+
+    /**
+     * 로컬 클론을 저장하는 디렉토리.
+     */
+    private String root = "/tmp/repositories/";
+
+    /**
+     * 로컬 클론 전체가 사용할 수 있는 디스크 용량.
+     * 초과하면 사용 중이 아닌 클론부터 가장 오래전에 사용한 순서로 삭제한다.
+     */
+    private DataSize quota = DataSize.ofGigabytes(10);
+
+    /**
+     * 분석용으로 새로 클론할 때 가져올 커밋 깊이. 0 이하이면 전체 이력을 클론한다.
+     */
+    private int analysisDepth = 1;
+}
@@ -0,0 +1,46 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "github.analysis")
+@Getter
+@Setter
+public class GithubAnalysisProperties {
+
+    /**
+     * 조합 안의 repository를 동시에 분석하는 스레드 수. (모든 분석 요청이 공유한다.)
+     */
+    private int poolSize = 8;
+
+    /**
+     * 서버 전체에서 동시에 실행할 수 있는 PMD / sonar-scanner 프로세스 수.
+     * 스캐너는 CPU와 메모리를 많이 사용하므로 poolSize와 별도로 제한한다.
+     */
+    private int scannerSlots = 2;
+
+    private Queue queue = new Queue();
+
+    @Getter
+    @Setter
+    public static class Queue {
+
+        /**
+         * 분석 작업(repository 조합 하나)을 동시에 실행하는 worker 수.
+         */
+        private int workers = 2;
+
+        /**
+         * 대기 / 실행 중인 분석 작업의 최대 수. 초과하면 새 분석 요청을 거절한다.
+         */
+        private int capacity = 50;
+
+        /**
+         * 서버 재시작으로 중단된 작업을 다시 실행하는 최대 횟수. (초과하면 분석 상태를 FAIL로 바꾸고 작업을 버린다.)
+         */
+        private int maxAttempts = 2;
+    }
+}
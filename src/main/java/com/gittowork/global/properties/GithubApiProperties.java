@@ -0,0 +1,134 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "github.api")
+@Getter
+@Setter
+public class GithubApiProperties {
+    private String baseUrl = "https://api.github.com";
+    private Cache cache = new Cache();
+    private RateLimit rateLimit = new RateLimit();
+    private Pagination pagination = new Pagination();
+    private Graphql graphql = new Graphql();
+    private Events events = new Events();
+
+    /**
+     * repository 메타데이터, 언어, issue / pull request / commit 수를 조회하는 방식.
+     * REST는 repository마다 개별 API를 호출하고, GRAPHQL은 한 번의 query로 최대 pageSize개 repository를 조회한다.
+     */
+    private FetchMode fetchMode = FetchMode.REST;
+
+    public enum FetchMode {
+        REST,
+        GRAPHQL
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private int maxEntries = 10000;
+
+        /**
+         * 캐시된 body의 최대 전체 크기 (byte, JSON 직렬화 기준 추정치). 이 값을 넘으면 오래 사용되지 않은 항목부터 제거한다.
+         */
+        private long maxBytes = 64L * 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+
+        /**
+         * access token별 token bucket이 초당 채워지는 요청 수.
+         */
+        private double requestsPerSecond = 10;
+
+        /**
+         * token bucket의 최대 크기 (순간적으로 허용되는 요청 수).
+         */
+        private int burst = 20;
+
+        /**
+         * 남은 quota가 이 값 이하가 되면 reset 시각까지 요청을 보류한다.
+         */
+        private int reserve = 0;
+
+        /**
+         * 403 / 429 응답에 대한 최대 재시도 횟수.
+         */
+        private int maxRetries = 5;
+
+        /**
+         * Retry-After 헤더가 없는 secondary rate limit 응답의 첫 backoff 시간 (이후 2배씩 증가).
+         * maxWaitMillis보다 작아야 요청 스레드에서 몇 차례 재시도할 수 있으며, backoff가 maxWaitMillis를 넘으면 수집 큐가 작업을 보류한다.
+         */
+        private long initialBackoffMillis = 5_000;
+
+        /**
+         * 한 번에 대기할 수 있는 최대 시간. 이보다 오래 기다려야 하면 worker 스레드를 붙잡지 않도록 예외를 발생시키며,
+         * 수집 큐는 해당 사용자의 작업을 reset 시각까지 보류한 뒤 다시 실행한다.
+         */
+        private long maxWaitMillis = 60_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Pagination {
+        /**
+         * 목록 API 요청 시 per_page 값 (GitHub 최대값은 100).
+         */
+        private int perPage = 100;
+
+        /**
+         * 하나의 목록을 조회할 때 따라가는 최대 페이지 수.
+         */
+        private int maxPages = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Graphql {
+        /**
+         * baseUrl 이후의 GraphQL endpoint 경로.
+         */
+        private String path = "/graphql";
+
+        /**
+         * 한 번의 query로 조회하는 repository 수 (GitHub 최대값은 100).
+         */
+        private int pageSize = 100;
+
+        /**
+         * repository마다 조회하는 언어 수 (GitHub 최대값은 100).
+         */
+        private int languagesPerRepository = 100;
+
+        /**
+         * GRAPHQL 모드에서도 repository별 issue / pull request Document를 REST API로 저장한다.
+         * false이면 GraphQL query의 totalCount(GithubRepositoryStats)만 저장하므로 API 요청은 줄지만,
+         * github_issue / github_pull_request에는 webhook으로 들어온 항목만 남는다.
+         */
+        private boolean storeIssuesAndPullRequests = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Events {
+        /**
+         * GitHub가 X-Poll-Interval 헤더를 보내지 않을 때 사용하는 최소 polling 간격(초).
+         */
+        private int defaultPollIntervalSeconds = 60;
+
+        /**
+         * 한 번의 polling에서 조회하는 이벤트 수 (GitHub 최대값은 100).
+         */
+        private int perPage = 100;
+    }
+}
@@ -0,0 +1,59 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "github.ingestion")
+@Getter
+@Setter
+public class GithubIngestionProperties {
+
+    /**
+     * false이면 repository 단위 작업을 호출 스레드에서 순차적으로 실행한다.
+     */
+    private boolean concurrent = true;
+
+    private int poolSize = 8;
+
+    private int queueCapacity = 100;
+
+    /**
+     * 하나의 access token으로 동시에 진행할 수 있는 repository 작업 수.
+     */
+    private int maxConcurrentPerToken = 4;
+
+    /**
+     * 커밋 변경 파일 / 추가·삭제 라인 수를 가져오는 방법.
+     * CLONE이면 로컬 클론을 JGit으로 분석하고, 실패하거나 찾지 못한 커밋만 상세 commit API로 조회한다.
+     */
+    private CommitDetailSource commitDetailSource = CommitDetailSource.CLONE;
+
+    private Queue queue = new Queue();
+
+    public enum CommitDetailSource {
+        API, CLONE
+    }
+
+    @Getter
+    @Setter
+    public static class Queue {
+
+        /**
+         * 모든 사용자의 수집 작업을 실행하는 worker 수.
+         */
+        private int workers = 4;
+
+        /**
+         * 한 사용자의 작업이 동시에 점유할 수 있는 worker 수. (한 사용자가 worker 전체를 차지하지 않도록 제한한다.)
+         */
+        private int maxRunningPerUser = 2;
+
+        /**
+         * 실패한 작업을 다시 실행하는 최대 횟수. (초과하면 FAILED 상태로 남기며, 7일 뒤 TTL 인덱스로 삭제된다.)
+         */
+        private int maxAttempts = 3;
+    }
+}
@@ -0,0 +1,50 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "github.resync")
+@Getter
+@Setter
+public class GithubResyncProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 재동기화를 실행하는 시간대. (서버 시간 기준, startHour 이상 endHour 미만이며 자정을 넘겨도 된다.)
+     */
+    private int windowStartHour = 1;
+
+    private int windowEndHour = 6;
+
+    /**
+     * 시간대 안에서 재동기화 배치를 실행하는 간격.
+     */
+    private Duration tickInterval = Duration.ofMinutes(10);
+
+    /**
+     * 한 번에 조회하는 사용자 수.
+     */
+    private int batchSize = 50;
+
+    /**
+     * 하룻밤 동안 재동기화에 사용할 수 있는 GitHub API 요청 수. 남은 시간대에 고르게 나누어 사용한다.
+     * 시간대 동안 서버가 GitHub로 실제 보낸 요청 수(재시도, 다른 작업의 요청 포함)로 차감한다.
+     */
+    private long nightlyRequestBudget = 50_000;
+
+    /**
+     * 배치 크기를 정할 때 사용자 한 명의 요청 수를 추정하는 데 쓰는 repository 하나당 요청 수. (REST 모드: commit, language, issue, pull request)
+     */
+    private int requestsPerRepository = 4;
+
+    /**
+     * 수집 큐에 대기 중인 작업이 이 수 이상이면 이번 배치를 건너뛴다.
+     */
+    private int maxPendingTasks = 500;
+}
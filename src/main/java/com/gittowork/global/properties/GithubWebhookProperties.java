@@ -0,0 +1,33 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "github.webhook")
+@Getter
+@Setter
+public class GithubWebhookProperties {
+
+    /**
+     * GitHub webhook 설정에 등록한 secret. 비어 있으면 모든 webhook 요청을 거부한다.
+     */
+    private String secret;
+
+    /**
+     * webhook 이벤트를 반영하는 worker 수.
+     */
+    private int poolSize = 2;
+
+    /**
+     * 처리 대기 중인 webhook 이벤트 수. 가득 차면 이벤트를 반영하지 않고 해당 repository의 REST 동기화를 수집 큐에 등록한다.
+     */
+    private int queueCapacity = 500;
+
+    /**
+     * 재전송된 요청을 무시하기 위해 기억하는 최근 X-GitHub-Delivery ID 수.
+     */
+    private int deliveryCacheSize = 1000;
+}
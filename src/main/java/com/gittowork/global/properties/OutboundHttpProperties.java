@@ -0,0 +1,66 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 HTTP 호출(GitHub, SonarQube, OpenAI)에 사용하는 RestTemplate의 연결 설정.
+ * 대상 서버마다 connection pool과 timeout을 따로 두어, 한 서버의 지연이 다른 서버 호출을 막지 않도록 한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "outbound.http")
+@Getter
+@Setter
+public class OutboundHttpProperties {
+    private Client github = new Client(5_000, 30_000, 20, true);
+    private Client sonar = new Client(5_000, 60_000, 10, false);
+    private Client openai = new Client(5_000, 120_000, 10, false);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Client {
+        private long connectTimeoutMillis = 5_000;
+
+        /**
+         * 응답을 기다리는 최대 시간. 이 시간 동안 응답이 없으면 요청을 실패시킨다.
+         */
+        private long readTimeoutMillis = 30_000;
+
+        /**
+         * pool에서 연결을 얻기 위해 기다리는 최대 시간. pool이 포화 상태이면 이 시간 후 요청을 실패시킨다.
+         */
+        private long poolAcquireTimeoutMillis = 10_000;
+
+        /**
+         * 대상 서버로 동시에 열 수 있는 최대 연결 수.
+         */
+        private int maxConnections = 10;
+
+        /**
+         * 이 시간 이상 사용되지 않은 keep-alive 연결은 pool에서 정리한다.
+         */
+        private long idleEvictMillis = 60_000;
+
+        /**
+         * true이면 JDK HttpClient로 HTTP/2 연결(단일 연결 multiplexing)을 사용한다.
+         * 서버가 HTTP/2를 지원하지 않으면 HTTP/1.1로 협상된다.
+         */
+        private boolean http2 = false;
+
+        /**
+         * gzip 응답 압축을 요청하고 받은 응답을 해제한다.
+         */
+        private boolean compression = true;
+
+        public Client(long connectTimeoutMillis, long readTimeoutMillis, int maxConnections, boolean http2) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.readTimeoutMillis = readTimeoutMillis;
+            this.maxConnections = maxConnections;
+            this.http2 = http2;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.gittowork.global.properties;
+
+import com.gittowork.global.service.resilience.OutboundDependency;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 의존성(GitHub, SonarQube, OpenAI, FCM)별 bulkhead / circuit breaker / retry 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "resilience")
+@Getter
+@Setter
+public class ResilienceProperties {
+    private Dependency github = new Dependency(16, 10_000, 30_000);
+    private Dependency sonar = new Dependency(4, 20_000, 60_000);
+    private Dependency openai = new Dependency(4, 60_000, 60_000);
+    private Dependency fcm = new Dependency(8, 5_000, 30_000);
+
+    public Dependency get(OutboundDependency dependency) {
+        return switch (dependency) {
+            case GITHUB -> github;
+            case SONAR -> sonar;
+            case OPENAI -> openai;
+            case FCM -> fcm;
+        };
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Dependency {
+        /**
+         * 동시에 진행할 수 있는 최대 호출 수 (bulkhead).
+         */
+        private int maxConcurrentCalls = 8;
+
+        /**
+         * bulkhead가 가득 찼을 때 자리를 기다리는 최대 시간. 이후에는 즉시 실패한다.
+         */
+        private long maxWaitMillis = 500;
+
+        /**
+         * 최근 호출 중 실패 또는 느린 호출의 비율(%)이 이 값 이상이면 circuit을 연다.
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * 이 시간보다 오래 걸린 호출은 느린 호출로 집계한다.
+         */
+        private long slowCallDurationMillis = 10_000;
+
+        private int slidingWindowSize = 20;
+
+        private int minimumNumberOfCalls = 10;
+
+        /**
+         * circuit이 열린 뒤 half-open으로 전환하기까지 기다리는 시간.
+         */
+        private long waitInOpenStateMillis = 30_000;
+
+        private int permittedCallsInHalfOpenState = 3;
+
+        /**
+         * 멱등(GET) 호출의 최대 시도 횟수 (첫 호출 포함).
+         */
+        private int retryMaxAttempts = 3;
+
+        /**
+         * 첫 재시도 대기 시간. 이후 2배씩 늘어나며 ±50% jitter가 적용된다.
+         */
+        private long retryInitialIntervalMillis = 500;
+
+        public Dependency(int maxConcurrentCalls, long slowCallDurationMillis, long waitInOpenStateMillis) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.slowCallDurationMillis = slowCallDurationMillis;
+            this.waitInOpenStateMillis = waitInOpenStateMillis;
+        }
+    }
+}
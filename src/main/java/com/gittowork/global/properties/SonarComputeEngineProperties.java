@@ -0,0 +1,37 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "sonar.ce")
+@Getter
+@Setter
+public class SonarComputeEngineProperties {
+
+    /**
+     * 스캐너 종료 후 compute engine 작업 상태를 처음 조회하기까지의 간격. 이후 조회마다 두 배로 늘린다.
+     */
+    private Duration initialPollInterval = Duration.ofSeconds(1);
+
+    private Duration maxPollInterval = Duration.ofSeconds(30);
+
+    /**
+     * compute engine 작업 완료를 기다리는 최대 시간.
+     */
+    private Duration timeout = Duration.ofMinutes(15);
+
+    /**
+     * SonarQube webhook 설정에 등록한 secret. 비어 있으면 모든 webhook 요청을 거부한다. (상태 조회만 사용)
+     */
+    private String webhookSecret;
+
+    /**
+     * 상태 조회를 실행하는 스레드 수.
+     */
+    private int pollerPoolSize = 2;
+}
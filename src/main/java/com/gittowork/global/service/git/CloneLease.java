@@ -0,0 +1,33 @@
+package com.gittowork.global.service.git;
+
+import java.io.File;
+
+/**
+ * GitRepositoryService가 관리하는 로컬 클론의 사용권.
+ * <p>
+ * 사용권이 열려 있는 동안 해당 클론은 용량 초과로 삭제되지 않으며, 사용이 끝나면 반드시 close() 해야 한다.
+ * </p>
+ */
+public final class CloneLease implements AutoCloseable {
+
+    private final File directory;
+    private final Runnable release;
+    private boolean closed;
+
+    CloneLease(File directory, Runnable release) {
+        this.directory = directory;
+        this.release = release;
+    }
+
+    public File directory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            release.run();
+        }
+    }
+}
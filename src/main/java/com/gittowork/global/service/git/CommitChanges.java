@@ -0,0 +1,15 @@
+package com.gittowork.global.service.git;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CommitChanges {
+    private final String sha;
+    private final List<String> files;
+    private final int additions;
+    private final int deletions;
+}
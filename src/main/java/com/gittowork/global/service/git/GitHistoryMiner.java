@@ -0,0 +1,192 @@
+package com.gittowork.global.service.git;
+
+import com.gittowork.global.exception.github.GitCloneException;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.AbstractTreeIterator;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 로컬 클론의 커밋 이력을 JGit으로 순회하여 커밋별 변경 파일과 추가/삭제 라인 수를 계산하는 컴포넌트.
+ * <p>
+ * GitHub 상세 commit API를 커밋마다 호출하는 대신 한 번의 RevWalk로 여러 커밋을 처리하며, API quota를 사용하지 않는다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GitHistoryMiner {
+
+    /**
+     * 1. 메서드 설명: 지정된 커밋들의 변경 파일 목록과 추가/삭제 라인 수를 계산한다.
+     * 2. 로직:
+     *    - Session을 열어 한 번 계산하고 닫는다. 같은 클론을 여러 번 조회할 때는 open()으로 Session을 재사용한다.
+     * 3. param:
+     *      repoDir - 로컬 클론 디렉토리.
+     *      shas    - 변경 내역을 계산할 커밋 SHA 목록.
+     * 4. return: SHA를 key로 하는 CommitChanges Map.
+     */
+    public Map<String, CommitChanges> mine(File repoDir, Collection<String> shas) {
+        if (shas.isEmpty()) {
+            return new HashMap<>();
+        }
+        try (Session session = open(repoDir)) {
+            return session.mine(shas);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 로컬 클론의 커밋 이력을 여러 번에 나누어 조회하기 위한 Session을 연다.
+     * 2. 로직:
+     *    - 원격 추적 브랜치(origin/{현재 브랜치})가 있으면 그 위치에서, 없으면 HEAD에서 RevWalk를 시작한다.
+     * 3. param:
+     *      repoDir - 로컬 클론 디렉토리.
+     * 4. return: 사용이 끝나면 close() 해야 하는 Session.
+     */
+    public Session open(File repoDir) {
+        try {
+            return new Session(repoDir);
+        } catch (IOException e) {
+            log.error("Error while opening repository history: {}", repoDir, e);
+            throw new GitCloneException("Failed to read repository history: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 하나의 RevWalk를 유지하면서 페이지 단위로 요청되는 커밋들의 변경 내역을 계산한다.
+     * <p>
+     * 이력은 한 번만 순회한다. 이전 요청에서 지나친 커밋은 id만 기억해 두었다가 요청되면 바로 계산하므로,
+     * 페이지마다 HEAD부터 다시 순회하지 않는다.
+     * </p>
+     */
+    public static class Session implements AutoCloseable {
+        private final File repoDir;
+        private final Repository repository;
+        private final ObjectReader reader;
+        private final RevWalk revWalk;
+        private final DiffFormatter diffFormatter;
+        private final Set<ObjectId> passed = new HashSet<>();
+        private boolean exhausted;
+
+        private Session(File repoDir) throws IOException {
+            this.repoDir = repoDir;
+            this.repository = new FileRepositoryBuilder().setGitDir(new File(repoDir, ".git")).setMustExist(true).build();
+            this.reader = repository.newObjectReader();
+            this.revWalk = new RevWalk(reader);
+            this.diffFormatter = new DiffFormatter(DisabledOutputStream.INSTANCE);
+            diffFormatter.setRepository(repository);
+            diffFormatter.setDiffComparator(RawTextComparator.DEFAULT);
+            diffFormatter.setDetectRenames(true);
+
+            try {
+                ObjectId start = resolveStart(repository);
+                if (start == null) {
+                    exhausted = true;
+                } else {
+                    revWalk.markStart(revWalk.parseCommit(start));
+                }
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * 1. 메서드 설명: 지정된 커밋들의 변경 파일 목록과 추가/삭제 라인 수를 계산한다.
+         * 2. 로직:
+         *    - 이전 요청에서 이미 지나친 커밋은 바로 부모와 비교한다.
+         *    - 나머지는 중단했던 위치부터 순회를 이어가며, 대상이 아닌 커밋은 id만 기억한다.
+         *    - 대상 커밋을 모두 찾으면 순회를 멈춘다. 찾지 못한 SHA는 결과에 포함되지 않는다.
+         *    - 대상 커밋은 첫 번째 부모(루트 커밋이면 빈 트리)와 DiffFormatter로 비교하며,
+         *      각 DiffEntry의 Edit 목록에서 삭제(lengthA) / 추가(lengthB) 라인 수를 합산한다. (binary 파일은 0으로 계산된다.)
+         * 3. param:
+         *      shas - 변경 내역을 계산할 커밋 SHA 목록.
+         * 4. return: SHA를 key로 하는 CommitChanges Map.
+         */
+        public Map<String, CommitChanges> mine(Collection<String> shas) {
+            Set<String> remaining = new HashSet<>(shas);
+            Map<String, CommitChanges> result = new HashMap<>();
+            try {
+                Iterator<String> iterator = remaining.iterator();
+                while (iterator.hasNext()) {
+                    ObjectId id = ObjectId.fromString(iterator.next());
+                    if (passed.remove(id)) {
+                        result.put(id.getName(), diff(revWalk.parseCommit(id)));
+                        iterator.remove();
+                    }
+                }
+                while (!remaining.isEmpty() && !exhausted) {
+                    RevCommit commit = revWalk.next();
+                    if (commit == null) {
+                        exhausted = true;
+                    } else if (remaining.remove(commit.getName())) {
+                        result.put(commit.getName(), diff(commit));
+                    } else {
+                        passed.add(commit.copy());
+                    }
+                }
+            } catch (IOException e) {
+                log.error("Error while walking repository history: {}", repoDir, e);
+                throw new GitCloneException("Failed to read repository history: " + e.getMessage());
+            }
+            return result;
+        }
+
+        private CommitChanges diff(RevCommit commit) throws IOException {
+            AbstractTreeIterator oldTree;
+            if (commit.getParentCount() > 0) {
+                RevCommit parent = revWalk.parseCommit(commit.getParent(0).getId());
+                oldTree = new CanonicalTreeParser(null, reader, parent.getTree());
+            } else {
+                oldTree = new EmptyTreeIterator();
+            }
+            AbstractTreeIterator newTree = new CanonicalTreeParser(null, reader, commit.getTree());
+
+            List<String> files = new ArrayList<>();
+            int additions = 0;
+            int deletions = 0;
+            for (DiffEntry entry : diffFormatter.scan(oldTree, newTree)) {
+                files.add(entry.getChangeType() == DiffEntry.ChangeType.DELETE ? entry.getOldPath() : entry.getNewPath());
+                for (Edit edit : diffFormatter.toFileHeader(entry).toEditList()) {
+                    deletions += edit.getLengthA();
+                    additions += edit.getLengthB();
+                }
+            }
+            return new CommitChanges(commit.getName(), files, additions, deletions);
+        }
+
+        @Override
+        public void close() {
+            diffFormatter.close();
+            revWalk.close();
+            reader.close();
+            repository.close();
+        }
+    }
+
+    private static ObjectId resolveStart(Repository repository) throws IOException {
+        String branch = repository.getBranch();
+        if (branch != null) {
+            ObjectId remote = repository.resolve("refs/remotes/origin/" + branch);
+            if (remote != null) {
+                return remote;
+            }
+        }
+        return repository.resolve("HEAD");
+    }
+}
@@ -0,0 +1,352 @@
+package com.gittowork.global.service.git;
+
+import com.gittowork.global.exception.github.GitCloneException;
+import com.gittowork.global.properties.GitCloneProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.FetchCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * GitHub repository의 로컬 클론 캐시를 관리하는 서비스.
+ * <p>
+ * 분석 파이프라인과 커밋 이력 수집이 같은 로컬 클론을 공유하며, 같은 repository에 대한 클론/갱신은 한 번에 하나씩만 수행한다.
+ * 이미 클론된 repository는 fetch로 갱신하고, 분석용 클론은 얕은(shallow) 클론으로 만든다.
+ * 클론 전체 크기가 git.clone.quota를 넘으면 사용 중(CloneLease가 열려 있는)이 아닌 클론부터 가장 오래전에 사용한 순서로 삭제한다.
+ * 캐시 적중 / 실패 수는 git.clone.cache.requests, 디스크 사용량은 git.clone.cache.bytes 지표로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class GitRepositoryService {
+
+    private final GitCloneProperties properties;
+    private final Map<String, CachedClone> clones = new ConcurrentHashMap<>();
+    private final AtomicLong bytesOnDisk = new AtomicLong();
+    private final Object evictionLock = new Object();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public GitRepositoryService(GitCloneProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hitCounter = Counter.builder("git.clone.cache.requests")
+                .tag("result", "hit")
+                .description("이미 있는 로컬 클론을 fetch로 갱신하여 사용한 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("git.clone.cache.requests")
+                .tag("result", "miss")
+                .description("로컬 클론이 없어 새로 클론한 횟수")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("git.clone.cache.evictions")
+                .description("용량 초과로 삭제한 로컬 클론 수")
+                .register(meterRegistry);
+        Gauge.builder("git.clone.cache.bytes", bytesOnDisk, AtomicLong::get)
+                .description("로컬 클론이 사용 중인 디스크 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 메서드 설명: 서버 시작 시 이전에 남아 있던 로컬 클론을 캐시에 등록하고, 용량을 넘으면 정리한다.
+     * 2. 로직:
+     *    - 클론 디렉토리의 하위 디렉토리 중 .git이 있는 것만 등록하며, 마지막 사용 시각은 디렉토리 수정 시각으로 한다.
+     *    - .git이 없는 디렉토리(중단된 클론)는 삭제한다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @PostConstruct
+    public void loadExistingClones() {
+        File[] directories = new File(properties.getRoot()).listFiles(File::isDirectory);
+        if (directories == null) {
+            return;
+        }
+        for (File directory : directories) {
+            if (!new File(directory, ".git").isDirectory()) {
+                delete(directory);
+                continue;
+            }
+            CachedClone clone = new CachedClone(directory.lastModified());
+            clone.bytes = sizeOf(directory);
+            bytesOnDisk.addAndGet(clone.bytes);
+            clones.put(directory.getName(), clone);
+        }
+        log.info("Loaded {} local clones ({} bytes)", clones.size(), bytesOnDisk.get());
+        evictIfNeeded(null);
+    }
+
+    /**
+     * 1. 메서드 설명: 분석용 로컬 클론을 준비하고 사용권을 반환한다.
+     * 2. 로직:
+     *    - 로컬 클론이 없으면 analysisDepth 깊이의 얕은 클론을 만든다.
+     *    - 로컬 클론이 있으면 origin에서 fetch 한 뒤 작업 트리를 원격 브랜치로 hard reset 하고 추적되지 않은 파일을 지운다.
+     *      (얕은 클론이면 같은 깊이로 fetch 한다. 다른 분석이 같은 클론을 사용 중이면 작업 트리는 건드리지 않는다.)
+     * 3. param:
+     *      fullName - "{owner}/{repo}" 형식의 repository 이름.
+     * 4. return: 로컬 클론의 사용권. 사용이 끝나면 close() 해야 한다.
+     */
+    public CloneLease cloneRepository(String fullName) {
+        return checkout(fullName, null, false);
+    }
+
+    /**
+     * 1. 메서드 설명: 커밋 이력 조회용 로컬 클론을 준비하고 사용권을 반환한다.
+     * 2. 로직:
+     *    - 로컬 클론이 없으면 전체 이력을 클론한다.
+     *    - 로컬 클론이 있으면 origin에서 fetch 하여 원격 추적 브랜치를 갱신한다. (얕은 클론이면 전체 이력을 받아온다.)
+     *    - access token이 있으면 private repository 접근을 위해 인증 정보로 사용한다.
+     * 3. param:
+     *      fullName    - "{owner}/{repo}" 형식의 repository 이름.
+     *      accessToken - GitHub access token (없으면 null).
+     * 4. return: 로컬 클론의 사용권. 사용이 끝나면 close() 해야 한다.
+     */
+    public CloneLease cloneOrFetch(String fullName, String accessToken) {
+        return checkout(fullName, accessToken, true);
+    }
+
+    /**
+     * 1. 메서드 설명: repository 이름에서 organization과 project 이름을 결합하여 프로젝트 키를 생성한다.
+     * 2. 로직:
+     *    - "/"로 분리한 후, 마지막 두 부분(organization, project)을 "_"로 결합한다. (".git" 접미사는 제거한다.)
+     * 3. param:
+     *      nameOrUrl - "{owner}/{repo}" 형식의 이름 또는 repository URL.
+     * 4. return: 생성된 projectKey 문자열.
+     */
+    public String projectKey(String nameOrUrl) {
+        String[] parts = nameOrUrl.split("/");
+        String org = parts[parts.length - 2];
+        String project = parts[parts.length - 1].replace(".git", "");
+        return org + "_" + project;
+    }
+
+    public File repositoryDirectory(String projectKey) {
+        return new File(properties.getRoot(), projectKey);
+    }
+
+    /**
+     * 1. 메서드 설명: 로컬 클론의 작업 트리가 가리키는 HEAD 커밋 SHA를 반환한다.
+     * 3. param:
+     *      repoDir - 로컬 클론 디렉토리.
+     * 4. return: HEAD 커밋 SHA (빈 repository이면 null).
+     */
+    public String headSha(File repoDir) {
+        try (Git git = Git.open(repoDir)) {
+            ObjectId head = git.getRepository().resolve("HEAD");
+            return head == null ? null : head.getName();
+        } catch (IOException e) {
+            log.error("Error while resolving HEAD: {}", repoDir, e);
+            throw new GitCloneException("Failed to resolve HEAD: " + e.getMessage());
+        }
+    }
+
+    private CloneLease checkout(String fullName, String accessToken, boolean fullHistory) {
+        String projectKey = projectKey(fullName);
+        File repoDir = repositoryDirectory(projectKey);
+        while (true) {
+            CachedClone clone = clones.computeIfAbsent(projectKey, key -> new CachedClone(System.currentTimeMillis()));
+            clone.lock.lock();
+            try {
+                if (clone.evicted) {
+                    continue;
+                }
+                boolean resetWorkTree = !fullHistory && clone.workTreeLeases == 0;
+                clone.leases++;
+                if (!fullHistory) {
+                    clone.workTreeLeases++;
+                }
+                try {
+                    if (new File(repoDir, ".git").isDirectory()) {
+                        hitCounter.increment();
+                        fetch(fullName, repoDir, accessToken, fullHistory, resetWorkTree);
+                    } else {
+                        missCounter.increment();
+                        doClone(fullName, repoDir, accessToken, fullHistory ? 0 : properties.getAnalysisDepth());
+                    }
+                    long bytes = sizeOf(repoDir);
+                    bytesOnDisk.addAndGet(bytes - clone.bytes);
+                    clone.bytes = bytes;
+                    clone.lastAccess = System.currentTimeMillis();
+                } catch (RuntimeException e) {
+                    release(clone, fullHistory);
+                    throw e;
+                }
+            } finally {
+                clone.lock.unlock();
+            }
+            evictIfNeeded(projectKey);
+            return new CloneLease(repoDir, () -> release(clone, fullHistory));
+        }
+    }
+
+    private void release(CachedClone clone, boolean fullHistory) {
+        clone.lock.lock();
+        try {
+            clone.leases--;
+            if (!fullHistory) {
+                clone.workTreeLeases--;
+            }
+            clone.lastAccess = System.currentTimeMillis();
+        } finally {
+            clone.lock.unlock();
+        }
+    }
+
+    private void fetch(String fullName, File repoDir, String accessToken, boolean fullHistory, boolean resetWorkTree) {
+        boolean shallow = new File(repoDir, ".git/shallow").exists();
+        try (Git git = Git.open(repoDir)) {
+            FetchCommand fetch = git.fetch().setCredentialsProvider(credentials(accessToken));
+            if (shallow && fullHistory) {
+                fetch.setUnshallow(true);
+            } else if (shallow && properties.getAnalysisDepth() > 0) {
+                fetch.setDepth(properties.getAnalysisDepth());
+            }
+            fetch.call();
+
+            if (!fullHistory && resetWorkTree) {
+                String remoteBranch = "refs/remotes/origin/" + git.getRepository().getBranch();
+                ObjectId remoteHead = git.getRepository().resolve(remoteBranch);
+                if (remoteHead == null) {
+                    log.warn("Remote branch {} not found for {}, analyzing the current work tree", remoteBranch, fullName);
+                    return;
+                }
+                git.reset().setMode(ResetCommand.ResetType.HARD).setRef(remoteBranch).call();
+                git.clean().setCleanDirectories(true).setForce(true).call();
+            }
+        } catch (IOException | GitAPIException e) {
+            log.error("Error while fetching repository: {}", fullName, e);
+            throw new GitCloneException("Failed to fetch repository: " + e.getMessage());
+        }
+    }
+
+    private void doClone(String fullName, File repoDir, String accessToken, int depth) {
+        String repoUrl = "https://github.com/" + fullName + ".git";
+        if (repoDir.exists()) {
+            // 이전에 중단된 클론이 남긴 디렉토리
+            delete(repoDir);
+        }
+        CloneCommand clone = Git.cloneRepository()
+                .setURI(repoUrl)
+                .setDirectory(repoDir)
+                .setCredentialsProvider(credentials(accessToken));
+        if (depth > 0) {
+            clone.setDepth(depth);
+        }
+        try (Git ignored = clone.call()) {
+            log.info("Cloned repository: {} (depth: {})", repoUrl, depth > 0 ? depth : "full");
+        } catch (GitAPIException e) {
+            log.error("Error while cloning repository: {}", repoUrl, e);
+            delete(repoDir);
+            throw new GitCloneException("Failed to clone repository: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 로컬 클론 전체 크기가 quota를 넘으면 가장 오래전에 사용한 클론부터 삭제한다.
+     * 2. 로직:
+     *    - 사용권이 열려 있거나 다른 스레드가 클론/갱신 중인 클론, 방금 사용한 클론은 건너뛴다.
+     * 3. param:
+     *      keep - 삭제하지 않을 projectKey (없으면 null).
+     * 4. return: 없음.
+     */
+    private void evictIfNeeded(String keep) {
+        long quota = properties.getQuota().toBytes();
+        if (bytesOnDisk.get() <= quota) {
+            return;
+        }
+        synchronized (evictionLock) {
+            List<Map.Entry<String, CachedClone>> candidates = clones.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(keep))
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .toList();
+            for (Map.Entry<String, CachedClone> entry : candidates) {
+                if (bytesOnDisk.get() <= quota) {
+                    return;
+                }
+                CachedClone clone = entry.getValue();
+                if (!clone.lock.tryLock()) {
+                    continue;
+                }
+                try {
+                    if (clone.leases > 0 || clone.evicted) {
+                        continue;
+                    }
+                    clone.evicted = true;
+                    clones.remove(entry.getKey(), clone);
+                    delete(repositoryDirectory(entry.getKey()));
+                    bytesOnDisk.addAndGet(-clone.bytes);
+                    evictionCounter.increment();
+                    log.info("Evicted local clone {} ({} bytes)", entry.getKey(), clone.bytes);
+                } finally {
+                    clone.lock.unlock();
+                }
+            }
+            if (bytesOnDisk.get() > quota) {
+                log.warn("Local clones use {} bytes, over the {} byte quota, but every remaining clone is in use",
+                        bytesOnDisk.get(), quota);
+            }
+        }
+    }
+
+    private void delete(File directory) {
+        try {
+            FileSystemUtils.deleteRecursively(directory.toPath());
+        } catch (IOException e) {
+            log.error("Error while deleting local clone: {}", directory, e);
+        }
+    }
+
+    private static long sizeOf(File directory) {
+        try (Stream<Path> paths = Files.walk(directory.toPath())) {
+            return paths.filter(Files::isRegularFile)
+                    .mapToLong(path -> path.toFile().length())
+                    .sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        }
+    }
+
+    private CredentialsProvider credentials(String accessToken) {
+        return accessToken == null ? null : new UsernamePasswordCredentialsProvider(accessToken, "");
+    }
+
+    /**
+     * 로컬 클론 하나의 캐시 상태. 모든 필드는 lock을 잡은 상태에서 변경한다.
+     */
+    private static final class CachedClone {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long lastAccess;
+        private long bytes;
+        private int leases;
+        // 작업 트리를 읽는 분석용 사용권 수. 0일 때만 작업 트리를 reset 한다.
+        private int workTreeLeases;
+        private boolean evicted;
+
+        private CachedClone(long lastAccess) {
+            this.lastAccess = lastAccess;
+        }
+    }
+}
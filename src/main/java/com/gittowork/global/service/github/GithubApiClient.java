@@ -0,0 +1,477 @@
+package com.gittowork.global.service.github;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.global.exception.github.GithubRepositoryNotFoundException;
+import com.gittowork.global.properties.GithubApiProperties;
+import com.gittowork.global.service.resilience.OutboundCallGuard;
+import com.gittowork.global.service.resilience.OutboundDependency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * GitHub REST API 호출을 담당하는 클라이언트.
+ * <p>
+ * 조건부 요청(getConditional)은 URL과 access token별로 ETag / Last-Modified 값과 파싱된 body를 보관하고,
+ * 다음 요청에 If-None-Match / If-Modified-Since 헤더를 보낸다. GitHub가 304를 반환하면 저장된 body를 재사용한다.
+ * 304 응답은 GitHub rate limit에 포함되지 않는다.
+ * 캐시는 항목 수와 body 크기(JSON 직렬화 기준 추정치)의 합으로 제한되며, 다시 조회될 일이 적은
+ * 2페이지 이후 목록, 커밋 목록, since 조건이 붙은 목록은 캐시하지 않는다.
+ * 모든 요청은 GithubRateLimiter를 거쳐 access token별 quota에 맞게 속도가 조절되며,
+ * rate limit 응답(403 / 429)은 대기 후 재시도한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GithubApiClient {
+
+    private final RestTemplate restTemplate;
+    private final GithubApiProperties properties;
+    private final GithubRateLimiter rateLimiter;
+    private final OutboundCallGuard outboundCallGuard;
+    private final ObjectMapper objectMapper;
+    private final LinkedHashMap<String, CachedResponse> responseCache = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong responseCacheBytes = new AtomicLong();
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+    private final GithubBackgroundRequestCounter backgroundRequestCounter;
+
+    public GithubApiClient(@Qualifier("githubRestTemplate") RestTemplate restTemplate, GithubApiProperties properties, GithubRateLimiter rateLimiter,
+                           OutboundCallGuard outboundCallGuard, GithubBackgroundRequestCounter backgroundRequestCounter,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.outboundCallGuard = outboundCallGuard;
+        this.backgroundRequestCounter = backgroundRequestCounter;
+        this.objectMapper = objectMapper;
+        this.cacheHitCounter = Counter.builder("github.api.conditional.requests")
+                .tag("result", "hit")
+                .description("GitHub 조건부 요청 중 304로 캐시를 재사용한 횟수")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("github.api.conditional.requests")
+                .tag("result", "miss")
+                .description("GitHub 조건부 요청 중 새 body를 받은 횟수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("github.api.conditional.cache.size", Tags.empty(), responseCache);
+        meterRegistry.gauge("github.api.conditional.cache.bytes", Tags.empty(), responseCacheBytes);
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub API에 조건 없이 GET 요청을 보낸다. (결과가 변하지 않는 commit 상세 조회 등에 사용)
+     * 2. 로직:
+     *    - baseUrl과 path로 URI를 구성한 뒤 Bearer 인증 헤더와 Accept 헤더를 설정하여 요청한다.
+     *    - 응답 상태가 2xx가 아니면 예외를 발생시킨다.
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      mediaType    - 응답으로 수락할 미디어 타입.
+     *      responseType - 응답 body 타입.
+     *      path         - baseUrl 이후의 URI 템플릿 (예: "/repos/{owner}/{repo}/commits/{sha}").
+     *      uriVariables - URI 템플릿 변수.
+     * 4. return: GithubApiResponse 객체.
+     */
+    public <T> GithubApiResponse<T> get(String accessToken, MediaType mediaType, ParameterizedTypeReference<T> responseType,
+                                        String path, Object... uriVariables) {
+        return get(accessToken, mediaType, responseType, expand(path, uriVariables));
+    }
+
+    private <T> GithubApiResponse<T> get(String accessToken, MediaType mediaType, ParameterizedTypeReference<T> responseType, URI uri) {
+        HttpHeaders headers = createHeaders(accessToken, mediaType);
+        ResponseEntity<T> response = exchange(accessToken, uri, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+        checkSuccessful(uri, response.getStatusCode());
+        return new GithubApiResponse<>(response.getBody(), response.getHeaders(), false);
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub API에 JSON body를 담아 POST 요청을 보낸다. (GraphQL query 등에 사용)
+     * 2. 로직:
+     *    - GET 요청과 동일하게 rate limit을 고려하여 요청하며, 응답 상태가 2xx가 아니면 예외를 발생시킨다.
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      responseType - 응답 body 타입.
+     *      path         - baseUrl 이후의 경로 (예: "/graphql").
+     *      body         - JSON으로 직렬화할 요청 body.
+     * 4. return: GithubApiResponse 객체.
+     */
+    public <T> GithubApiResponse<T> post(String accessToken, ParameterizedTypeReference<T> responseType, String path, Object body) {
+        URI uri = expand(path);
+        HttpHeaders headers = createHeaders(accessToken, MediaType.APPLICATION_JSON);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<T> response = exchange(accessToken, uri, HttpMethod.POST, new HttpEntity<>(body, headers), responseType);
+        checkSuccessful(uri, response.getStatusCode());
+        return new GithubApiResponse<>(response.getBody(), response.getHeaders(), false);
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub API에 조건부 GET 요청을 보내고, 304 응답이면 캐시된 body를 반환한다.
+     * 2. 로직:
+     *    - access token 지문과 URI로 캐시 키를 만든다.
+     *    - 캐시 대상이 아닌 URI(isCacheable)는 조건 없이 조회한다.
+     *    - 캐시 항목이 있으면 If-None-Match(ETag), If-Modified-Since(Last-Modified) 헤더를 추가한다.
+     *    - 304 응답이면 hit 카운터를 올리고 캐시된 body와 헤더를 반환한다.
+     *    - 2xx 응답이면 miss 카운터를 올리고, ETag 또는 Last-Modified가 있으면 body와 함께 캐시에 저장한다.
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      mediaType    - 응답으로 수락할 미디어 타입.
+     *      responseType - 응답 body 타입.
+     *      path         - baseUrl 이후의 URI 템플릿.
+     *      uriVariables - URI 템플릿 변수.
+     * 4. return: GithubApiResponse 객체 (304인 경우 notModified = true).
+     */
+    public <T> GithubApiResponse<T> getConditional(String accessToken, MediaType mediaType, ParameterizedTypeReference<T> responseType,
+                                                   String path, Object... uriVariables) {
+        return getConditional(accessToken, mediaType, responseType, expand(path, uriVariables));
+    }
+
+    /**
+     * 1. 메서드 설명: 목록 API를 per_page 단위로 조회하면서 Link 헤더의 rel="next"를 따라 모든 페이지를 순회한다.
+     * 2. 로직:
+     *    - 첫 요청 URI에 per_page 쿼리 파라미터를 설정한다.
+     *    - 각 페이지는 조건부 요청으로 조회하며, 받은 즉시 pageConsumer에 전달한다. (전체 결과를 메모리에 모으지 않는다.)
+     *    - 304 응답이면 캐시된 헤더의 Link 값을 사용하여 다음 페이지로 이동한다.
+     *    - rel="next" 링크가 없거나 maxPages에 도달하면 종료한다.
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      mediaType    - 응답으로 수락할 미디어 타입.
+     *      responseType - 페이지 응답 body 타입.
+     *      pageConsumer - 페이지 단위로 결과를 처리하는 함수.
+     *      path         - baseUrl 이후의 URI 템플릿.
+     *      uriVariables - URI 템플릿 변수.
+     * 4. return: 처리한 항목 수.
+     */
+    public <T> int forEachPage(String accessToken, MediaType mediaType, ParameterizedTypeReference<List<T>> responseType,
+                               Consumer<List<T>> pageConsumer, String path, Object... uriVariables) {
+        return forEachPageWhile(accessToken, mediaType, responseType, page -> {
+            pageConsumer.accept(page);
+            return true;
+        }, path, uriVariables);
+    }
+
+    /**
+     * 1. 메서드 설명: forEachPage와 같이 페이지를 순회하되, pageHandler가 false를 반환하면 다음 페이지를 조회하지 않는다.
+     *    (최신순 목록에서 이미 동기화한 구간에 도달하면 멈추는 데 사용한다.)
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      mediaType    - 응답으로 수락할 미디어 타입.
+     *      responseType - 페이지 응답 body 타입.
+     *      pageHandler  - 페이지 단위로 결과를 처리하고, 다음 페이지를 계속 조회할지 반환하는 함수.
+     *      path         - baseUrl 이후의 URI 템플릿.
+     *      uriVariables - URI 템플릿 변수.
+     * 4. return: 처리한 항목 수.
+     */
+    public <T> int forEachPageWhile(String accessToken, MediaType mediaType, ParameterizedTypeReference<List<T>> responseType,
+                                    Predicate<List<T>> pageHandler, String path, Object... uriVariables) {
+        GithubApiProperties.Pagination pagination = properties.getPagination();
+        URI uri = UriComponentsBuilder.fromUri(expand(path, uriVariables))
+                .replaceQueryParam("per_page", pagination.getPerPage())
+                .build(true)
+                .toUri();
+        int pages = 0;
+        int items = 0;
+        while (uri != null) {
+            GithubApiResponse<List<T>> page = getConditional(accessToken, mediaType, responseType, uri);
+            List<T> body = page.getBody();
+            if (body != null && !body.isEmpty()) {
+                items += body.size();
+                if (!pageHandler.test(body)) {
+                    break;
+                }
+            }
+            if (++pages >= pagination.getMaxPages()) {
+                log.warn("Stopped paging {} after {} pages", uri.getPath(), pages);
+                break;
+            }
+            uri = nextPage(page.getHeaders());
+        }
+        return items;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> GithubApiResponse<T> getConditional(String accessToken, MediaType mediaType, ParameterizedTypeReference<T> responseType,
+                                                    URI uri) {
+        if (!properties.getCache().isEnabled() || !isCacheable(uri)) {
+            return get(accessToken, mediaType, responseType, uri);
+        }
+        String cacheKey = fingerprint(accessToken) + " " + mediaType + " " + uri;
+        CachedResponse cached = getCached(cacheKey);
+
+        HttpHeaders headers = createHeaders(accessToken, mediaType);
+        if (cached != null) {
+            if (cached.getEtag() != null) {
+                headers.setIfNoneMatch(cached.getEtag());
+            } else if (cached.getLastModified() != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+            }
+        }
+
+        ResponseEntity<T> response = exchange(accessToken, uri, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+            cacheHitCounter.increment();
+            return new GithubApiResponse<>((T) cached.getBody(), cached.getHeaders(), true);
+        }
+        checkSuccessful(uri, response.getStatusCode());
+        cacheMissCounter.increment();
+
+        String etag = response.getHeaders().getETag();
+        String lastModified = response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+        if (etag != null || lastModified != null) {
+            putCached(cacheKey, new CachedResponse(etag, lastModified, response.getBody(), response.getHeaders(),
+                    estimateBytes(cacheKey, response.getBody())));
+        } else {
+            removeCached(cacheKey);
+        }
+        return new GithubApiResponse<>(response.getBody(), response.getHeaders(), false);
+    }
+
+    /**
+     * 1. 메서드 설명: 조건부 요청 결과를 캐시할 URI인지 확인한다.
+     * 2. 로직:
+     *    - page 쿼리 파라미터가 2 이상이면 캐시하지 않는다. (목록이 바뀌면 뒤 페이지가 모두 밀리므로 304가 거의 나오지 않는다.)
+     *    - since 쿼리 파라미터가 있으면 캐시하지 않는다. (조회 시점마다 URI가 달라 다시 조회되지 않는다.)
+     *    - 커밋 목록(.../commits)은 캐시하지 않는다. (checkpoint까지만 조회하며, body가 커서 캐시를 차지하기 쉽다.)
+     * 3. param:
+     *      uri - 요청 URI.
+     * 4. return: 캐시할 수 있으면 true.
+     */
+    private boolean isCacheable(URI uri) {
+        Map<String, List<String>> query = UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+        String page = query.containsKey("page") ? query.get("page").get(0) : null;
+        if (page != null && !"1".equals(page)) {
+            return false;
+        }
+        if (query.containsKey("since")) {
+            return false;
+        }
+        String path = uri.getPath();
+        return path == null || !path.endsWith("/commits");
+    }
+
+    private CachedResponse getCached(String cacheKey) {
+        synchronized (responseCache) {
+            return responseCache.get(cacheKey);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 캐시에 응답을 저장하고, 항목 수 또는 전체 크기가 한도를 넘으면 오래 사용되지 않은 항목부터 제거한다.
+     * 2. 로직:
+     *    - 한 항목이 maxBytes보다 크면 저장하지 않고 기존 항목만 제거한다.
+     *    - 저장 후 LRU 순서(접근 순서)로 maxEntries, maxBytes 이하가 될 때까지 항목을 제거한다.
+     * 3. param:
+     *      cacheKey - 캐시 키.
+     *      response - 저장할 응답.
+     * 4. return: 없음.
+     */
+    private void putCached(String cacheKey, CachedResponse response) {
+        GithubApiProperties.Cache cache = properties.getCache();
+        synchronized (responseCache) {
+            removeCached(cacheKey);
+            if (response.getBytes() > cache.getMaxBytes()) {
+                return;
+            }
+            responseCache.put(cacheKey, response);
+            long totalBytes = responseCacheBytes.addAndGet(response.getBytes());
+            Iterator<CachedResponse> eldest = responseCache.values().iterator();
+            while (eldest.hasNext() && (responseCache.size() > cache.getMaxEntries() || totalBytes > cache.getMaxBytes())) {
+                totalBytes = responseCacheBytes.addAndGet(-eldest.next().getBytes());
+                eldest.remove();
+            }
+        }
+    }
+
+    private void removeCached(String cacheKey) {
+        synchronized (responseCache) {
+            CachedResponse removed = responseCache.remove(cacheKey);
+            if (removed != null) {
+                responseCacheBytes.addAndGet(-removed.getBytes());
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 캐시 항목이 차지하는 크기를 추정한다.
+     * 2. 로직:
+     *    - gzip 해제 후에는 Content-Length가 없으므로 body를 JSON으로 직렬화했을 때의 byte 수를 센다. (byte 배열은 만들지 않는다.)
+     *    - 캐시 키 길이를 더하고, 직렬화에 실패하면 maxBytes로 간주하여 캐시하지 않는다.
+     * 3. param:
+     *      cacheKey - 캐시 키.
+     *      body     - 응답 body.
+     * 4. return: 추정 크기 (byte).
+     */
+    private long estimateBytes(String cacheKey, Object body) {
+        CountingOutputStream out = new CountingOutputStream();
+        try {
+            objectMapper.writeValue(out, body);
+        } catch (IOException e) {
+            log.debug("Failed to estimate cached response size for {}", cacheKey, e);
+            return Long.MAX_VALUE;
+        }
+        return out.getCount() + cacheKey.length();
+    }
+
+    /**
+     * 1. 메서드 설명: access token을 로그, 캐시 키, 메트릭 태그에 노출하지 않기 위한 SHA-256 지문을 생성한다.
+     * 2. 로직:
+     *    - access token을 SHA-256으로 해시한 뒤 앞 16자리 16진수 문자열을 반환한다.
+     * 3. param:
+     *      accessToken - GitHub access token.
+     * 4. return: token 지문 문자열.
+     */
+    static String fingerprint(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(String.valueOf(accessToken).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: rate limit을 고려하여 GitHub API에 요청을 보낸다.
+     * 2. 로직:
+     *    - 요청은 GitHub bulkhead / circuit breaker를 거치며, GET 요청의 연결 오류와 5xx 응답은 jitter backoff로 재시도한다.
+     *    - 재시도를 포함한 매 요청 직전에 GithubRateLimiter에서 access token의 요청 허가를 받고,
+     *      BACKGROUND 작업의 요청이면 GithubBackgroundRequestCounter에 집계한다.
+     *    - 응답 헤더의 rate limit 정보를 GithubRateLimiter에 반영한다.
+     *    - 403 / 429 rate limit 응답이면 Retry-After, reset 시각 또는 지수 backoff만큼 대기한 후 재시도한다.
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      uri          - 요청 URI.
+     *      method       - HTTP 메서드.
+     *      entity       - 요청 헤더와 body.
+     *      responseType - 응답 body 타입.
+     * 4. return: ResponseEntity 객체.
+     */
+    private <T> ResponseEntity<T> exchange(String accessToken, URI uri, HttpMethod method, HttpEntity<?> entity,
+                                           ParameterizedTypeReference<T> responseType) {
+        Runnable acquire = () -> rateLimiter.acquire(accessToken);
+        Supplier<ResponseEntity<T>> request = () -> {
+            backgroundRequestCounter.recordRequest();
+            return restTemplate.exchange(uri, method, entity, responseType);
+        };
+        int attempt = 0;
+        while (true) {
+            try {
+                ResponseEntity<T> response = method == HttpMethod.GET
+                        ? outboundCallGuard.callIdempotent(OutboundDependency.GITHUB, acquire, request)
+                        : outboundCallGuard.call(OutboundDependency.GITHUB, acquire, request);
+                rateLimiter.update(accessToken, response.getHeaders());
+                return response;
+            } catch (HttpStatusCodeException e) {
+                long delayMillis = rateLimiter.retryDelayMillis(accessToken, e, attempt);
+                if (delayMillis < 0) {
+                    throw e;
+                }
+                log.warn("GitHub rate limited {} - HTTP {}, retrying in {}ms (attempt {})",
+                        uri.getPath(), e.getStatusCode(), delayMillis, attempt + 1);
+                rateLimiter.pause(accessToken, delayMillis);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: Link 헤더에서 rel="next" URI를 추출한다.
+     * 2. 로직:
+     *    - Link 헤더 값을 ","로 나눈 뒤 rel="next"를 포함한 항목의 <...> 안의 URI를 반환한다.
+     * 3. param:
+     *      headers - GitHub 응답 헤더.
+     * 4. return: 다음 페이지 URI. 없으면 null.
+     */
+    private URI nextPage(HttpHeaders headers) {
+        String link = headers == null ? null : headers.getFirst(HttpHeaders.LINK);
+        if (link == null) {
+            return null;
+        }
+        for (String part : link.split(",")) {
+            if (part.contains("rel=\"next\"")) {
+                int start = part.indexOf('<');
+                int end = part.indexOf('>');
+                if (start >= 0 && end > start) {
+                    return URI.create(part.substring(start + 1, end).trim());
+                }
+            }
+        }
+        return null;
+    }
+
+    private URI expand(String path, Object... uriVariables) {
+        return restTemplate.getUriTemplateHandler().expand(properties.getBaseUrl() + path, uriVariables);
+    }
+
+    private void checkSuccessful(URI uri, HttpStatusCode statusCode) {
+        if (!statusCode.is2xxSuccessful()) {
+            throw new GithubRepositoryNotFoundException("Failed to fetch " + uri.getPath() + " - HTTP " + statusCode);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 주어진 access token과 mediaType을 기반으로 HTTP 헤더를 생성하는 헬퍼 메서드.
+     * 2. 로직:
+     *    - HttpHeaders 객체를 생성한 후, Bearer 인증 방식으로 access token을 설정하고,
+     *      JSON 형식의 응답을 수락하도록 Accept 헤더를 추가한다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      mediaType   - 응답으로 수락할 미디어 타입.
+     * 4. return: 설정된 HttpHeaders 객체.
+     */
+    private HttpHeaders createHeaders(String accessToken, MediaType mediaType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setAccept(Collections.singletonList(mediaType));
+        return headers;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedResponse {
+        private final String etag;
+        private final String lastModified;
+        private final Object body;
+        private final HttpHeaders headers;
+        private final long bytes;
+    }
+
+    @Getter
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.gittowork.global.service.github;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * GithubApiClient의 GET 응답.
+ * <p>
+ * notModified가 true이면 GitHub가 304를 반환하여 캐시에 저장된 body를 재사용한 응답이다.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class GithubApiResponse<T> {
+
+    private final T body;
+
+    private final HttpHeaders headers;
+
+    private final boolean notModified;
+}
@@ -0,0 +1,79 @@
+package com.gittowork.global.service.github;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BACKGROUND 우선순위 수집 작업이 GitHub로 보낸 요청 수(재시도 포함)를 세는 컴포넌트.
+ * <p>
+ * 수집 큐가 BACKGROUND 작업을 runBackground로 실행하면 해당 스레드에서 GithubApiClient가 보낸 요청만 집계된다.
+ * 작업이 GithubIngestionRunner의 worker pool로 나뉘어 실행되어도 decorate로 감싼 작업에는 같은 표시가 전달되므로,
+ * onboarding / webhook / 분석 요청이 보낸 요청은 야간 재동기화 예산에 포함되지 않는다.
+ * </p>
+ */
+@Component
+public class GithubBackgroundRequestCounter implements TaskDecorator {
+
+    private final ThreadLocal<Boolean> background = new ThreadLocal<>();
+    private final AtomicLong sentRequests = new AtomicLong();
+
+    /**
+     * 1. 메서드 설명: 현재 스레드에서 작업을 BACKGROUND 작업으로 표시하여 실행한다.
+     * 2. 로직:
+     *    - 실행 전 표시를 설정하고, 실행이 끝나면 이전 표시로 되돌린다.
+     * 3. param:
+     *      task - 실행할 작업.
+     * 4. return: 없음.
+     */
+    public void runBackground(Runnable task) {
+        run(Boolean.TRUE, task);
+    }
+
+    /**
+     * 1. 메서드 설명: 현재 스레드가 BACKGROUND 작업을 실행 중이면 요청 수를 하나 올린다. (GithubApiClient가 요청마다 호출한다.)
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    public void recordRequest() {
+        if (Boolean.TRUE.equals(background.get())) {
+            sentRequests.incrementAndGet();
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 애플리케이션이 시작된 뒤 BACKGROUND 작업이 GitHub로 보낸 요청 수를 반환한다.
+     * 3. param: 없음.
+     * 4. return: 보낸 요청 수.
+     */
+    public long sentRequests() {
+        return sentRequests.get();
+    }
+
+    /**
+     * 1. 메서드 설명: 작업을 제출한 스레드의 BACKGROUND 표시를 worker 스레드로 전달하도록 작업을 감싼다.
+     * 3. param:
+     *      runnable - worker pool에 제출되는 작업.
+     * 4. return: 감싼 작업.
+     */
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Boolean submitterBackground = background.get();
+        return () -> run(submitterBackground, runnable);
+    }
+
+    private void run(Boolean value, Runnable task) {
+        Boolean previous = background.get();
+        background.set(value);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                background.remove();
+            } else {
+                background.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.entity.GithubEvent;
+import com.gittowork.domain.github.entity.GithubEventCursor;
+import com.gittowork.domain.github.model.event.Event;
+import com.gittowork.domain.github.model.payload.GithubEventPayload;
+import com.gittowork.domain.github.repository.GithubEventCursorRepository;
+import com.gittowork.domain.github.repository.GithubEventRepository;
+import com.gittowork.global.properties.GithubApiProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 GitHub 이벤트를 polling하여 마지막으로 확인한 이벤트 이후의 신규 이벤트만 저장하는 컴포넌트.
+ * <p>
+ * 사용자마다 마지막 이벤트 ID와 시각(high-water mark)을 GithubEventCursor에 보관하므로,
+ * 신규 이벤트를 판별하기 위해 저장된 이벤트 전체를 조회하지 않는다.
+ * GitHub가 보내는 X-Poll-Interval 간격 이전의 polling은 API를 호출하지 않으며,
+ * 요청은 ETag 조건부 요청으로 보내 변경이 없으면 304 응답(quota 미차감)을 받는다.
+ * cursor는 무엇을 다시 조회할지만 결정하고 이벤트를 "소비"하지 않는다. 분석 요청, 신규 repository 확인, 야간 재동기화 등
+ * 여러 호출자가 같은 cursor를 갱신하므로, 신규 여부는 polling 결과가 아니라 저장된 이벤트를 호출자 기준 시각과 비교하여 판단한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GithubEventPoller {
+
+    private static final String HEADER_POLL_INTERVAL = "X-Poll-Interval";
+
+    private final GithubApiClient githubApiClient;
+    private final GithubApiProperties.Events properties;
+    private final GithubEventRepository githubEventRepository;
+    private final GithubEventCursorRepository githubEventCursorRepository;
+
+    public GithubEventPoller(GithubApiClient githubApiClient,
+                             GithubApiProperties githubApiProperties,
+                             GithubEventRepository githubEventRepository,
+                             GithubEventCursorRepository githubEventCursorRepository) {
+        this.githubApiClient = githubApiClient;
+        this.properties = githubApiProperties.getEvents();
+        this.githubEventRepository = githubEventRepository;
+        this.githubEventCursorRepository = githubEventCursorRepository;
+    }
+
+    /**
+     * 1. 메서드 설명: 사용자의 GitHub 이벤트를 polling하여 high-water mark 이후의 신규 이벤트를 저장한다.
+     * 2. 로직:
+     *    - cursor의 nextPollAt이 지나지 않았으면 API를 호출하지 않고 빈 리스트를 반환한다.
+     *    - "/users/{userName}/events"를 조건부 요청으로 조회하며, 304 응답이면 신규 이벤트가 없는 것으로 처리한다.
+     *    - 응답 이벤트 중 ID가 high-water mark보다 큰 이벤트만 후보로 남긴 뒤, 이미 저장된 이벤트를 제외한다.
+     *    - 신규 이벤트를 저장하고, 가장 최신 후보 이벤트의 ID와 시각, X-Poll-Interval 기반 nextPollAt으로 cursor를 갱신한다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      userName    - GitHub 사용자 이름.
+     *      userId      - 로컬 사용자 식별자.
+     * 4. return: 없음.
+     */
+    public void refresh(String accessToken, String userName, int userId) {
+        GithubEventCursor cursor = githubEventCursorRepository.findByUserId(userId)
+                .orElseGet(() -> GithubEventCursor.builder().userId(userId).build());
+        LocalDateTime now = LocalDateTime.now();
+        if (cursor.getNextPollAt() != null && now.isBefore(cursor.getNextPollAt())) {
+            log.debug("Skipping event poll for {} until {}", userName, cursor.getNextPollAt());
+            return;
+        }
+
+        GithubApiResponse<List<GithubEventPayload>> response = githubApiClient.getConditional(
+                accessToken,
+                MediaType.APPLICATION_JSON,
+                new ParameterizedTypeReference<List<GithubEventPayload>>() {},
+                "/users/{userName}/events?per_page={perPage}",
+                userName,
+                Math.min(100, properties.getPerPage())
+        );
+        cursor.setPolledAt(now);
+        cursor.setNextPollAt(now.plusSeconds(pollIntervalSeconds(response.getHeaders())));
+
+        List<GithubEventPayload> candidates = response.isNotModified() || response.getBody() == null
+                ? Collections.emptyList()
+                : newerThanCursor(cursor, response.getBody());
+        List<GithubEventPayload> newEvents = excludeStored(candidates);
+
+        if (!newEvents.isEmpty()) {
+            githubEventRepository.saveAll(newEvents.stream().map(event -> convertToGithubEvent(event, userId)).toList());
+        }
+        if (!candidates.isEmpty()) {
+            GithubEventPayload latest = candidates.get(0);
+            cursor.setLastEventId(latest.getId());
+            if (latest.getCreatedAt() != null) {
+                cursor.setLastEventAt(latest.getCreatedAt().toLocalDateTime());
+            }
+        }
+        githubEventCursorRepository.save(cursor);
+    }
+
+    /**
+     * 1. 메서드 설명: 응답 이벤트 중 high-water mark보다 새로운 이벤트만 ID 기준 최신순으로 반환한다.
+     * 2. 로직:
+     *    - ID가 없는 이벤트를 제외하고, cursor의 마지막 이벤트 ID(없으면 시각)보다 새로운 이벤트만 남긴다.
+     * 3. param:
+     *      cursor - 사용자의 이벤트 cursor.
+     *      events - GitHub Events API 응답 이벤트 리스트.
+     * 4. return: 최신순으로 정렬된 후보 이벤트 리스트.
+     */
+    private List<GithubEventPayload> newerThanCursor(GithubEventCursor cursor, List<GithubEventPayload> events) {
+        return events.stream()
+                .filter(event -> event.getId() != null)
+                .filter(event -> isNewer(event, cursor))
+                .sorted(Comparator.comparing(GithubEventPayload::getId, GithubEventPoller::compareEventIds).reversed())
+                .toList();
+    }
+
+    /**
+     * 1. 메서드 설명: 후보 이벤트 중 이미 저장된 이벤트를 제외한다. (cursor 도입 이전에 저장된 이벤트와의 중복 방지)
+     * 2. 로직:
+     *    - 후보 이벤트 ID로 한 번의 $in 쿼리를 보내 저장된 ID만 조회한 뒤 제외한다.
+     *      조회 범위는 응답 페이지 크기(최대 100)로 제한된다.
+     * 3. param:
+     *      candidates - high-water mark 이후의 후보 이벤트 리스트.
+     * 4. return: 신규 이벤트 리스트.
+     */
+    private List<GithubEventPayload> excludeStored(List<GithubEventPayload> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        Set<String> storedIds = githubEventRepository.findIdsByGithubEventIdIn(
+                        candidates.stream().map(GithubEventPayload::getId).toList())
+                .stream()
+                .map(GithubEvent::getGithubEventId)
+                .collect(Collectors.toSet());
+        return candidates.stream()
+                .filter(event -> !storedIds.contains(event.getId()))
+                .toList();
+    }
+
+    private boolean isNewer(GithubEventPayload event, GithubEventCursor cursor) {
+        if (cursor.getLastEventId() != null) {
+            return compareEventIds(event.getId(), cursor.getLastEventId()) > 0;
+        }
+        if (cursor.getLastEventAt() != null && event.getCreatedAt() != null) {
+            return event.getCreatedAt().toLocalDateTime().isAfter(cursor.getLastEventAt());
+        }
+        return true;
+    }
+
+    /**
+     * GitHub 이벤트 ID는 증가하는 숫자 문자열이므로 길이를 먼저 비교한 뒤 사전순으로 비교한다.
+     */
+    private static int compareEventIds(String a, String b) {
+        if (a.length() != b.length()) {
+            return Integer.compare(a.length(), b.length());
+        }
+        return a.compareTo(b);
+    }
+
+    private long pollIntervalSeconds(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HEADER_POLL_INTERVAL);
+        long interval = properties.getDefaultPollIntervalSeconds();
+        if (value != null) {
+            try {
+                interval = Math.max(interval, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", HEADER_POLL_INTERVAL, value);
+            }
+        }
+        return interval;
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub 이벤트 payload를 GithubEvent 객체로 변환하는 메서드.
+     * 2. 로직:
+     *    - 이벤트 ID, 이벤트 타입, repository 이름, ref_type, 공개 여부, 생성 시간을 추출한다.
+     *    - Event 객체와 GithubEvent 객체를 빌더 패턴으로 생성하여 반환한다.
+     * 3. param:
+     *      GithubEventPayload event - GitHub Events API에서 반환된 이벤트 payload.
+     *      int userId - 사용자의 로컬 식별자.
+     * 4. return: GithubEvent - 변환된 GithubEvent 객체.
+     */
+    private GithubEvent convertToGithubEvent(GithubEventPayload event, int userId) {
+        Event eventObj = Event.builder()
+                .eventType(event.getType())
+                .repo(event.getRepo() != null ? event.getRepo().getName() : null)
+                .refType(event.getPayload() != null ? event.getPayload().getRefType() : null)
+                .publicEvent(event.isPublicEvent())
+                .createdAt(event.getCreatedAt() != null ? event.getCreatedAt().toLocalDateTime() : null)
+                .build();
+
+        return GithubEvent.builder()
+                .githubEventId(event.getId())
+                .userId(userId)
+                .events(eventObj)
+                .build();
+    }
+}
@@ -0,0 +1,309 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.entity.GithubLanguage;
+import com.gittowork.domain.github.entity.GithubRepository;
+import com.gittowork.domain.github.entity.GithubRepositoryStats;
+import com.gittowork.domain.github.model.payload.GithubGraphqlRepositoriesPayload;
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.domain.github.repository.GithubLanguageRepository;
+import com.gittowork.domain.github.repository.GithubRepoRepository;
+import com.gittowork.domain.github.repository.GithubRepositoryStatsRepository;
+import com.gittowork.global.exception.github.GithubRepositoryNotFoundException;
+import com.gittowork.global.properties.GithubApiProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GitHub GraphQL API로 사용자의 repository 메타데이터, 언어별 byte 수, issue / pull request / commit 수를
+ * 한 번의 query로 최대 100개 repository씩 조회하여 저장하는 서비스.
+ * <p>
+ * REST 방식은 repository 목록 조회 후 repository마다 언어 API를 따로 호출하지만, GraphQL은 같은 query로 함께 조회한다.
+ * 분석에 사용하는 issue / pull request 수는 GraphQL의 totalCount로 저장하며, issue / pull request Document는
+ * github.api.graphql.store-issues-and-pull-requests가 false가 아니면 기존처럼 REST 단계에서 저장한다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class GithubGraphqlService {
+
+    private static final String REPOSITORIES_QUERY = """
+            query($login: String!, $first: Int!, $languages: Int!, $after: String) {
+              user(login: $login) {
+                repositories(first: $first, after: $after, privacy: PUBLIC, ownerAffiliations: OWNER,
+                             orderBy: {field: CREATED_AT, direction: ASC}) {
+                  pageInfo { hasNextPage endCursor }
+                  nodes {
+                    databaseId
+                    name
+                    nameWithOwner
+                    description
+                    stargazerCount
+                    forkCount
+                    createdAt
+                    updatedAt
+                    pushedAt
+                    primaryLanguage { name }
+                    languages(first: $languages, orderBy: {field: SIZE, direction: DESC}) {
+                      edges { size node { name } }
+                    }
+                    issues { totalCount }
+                    pullRequests { totalCount }
+                    defaultBranchRef {
+                      target { ... on Commit { history { totalCount } } }
+                    }
+                  }
+                }
+              }
+            }
+            """;
+
+    private final GithubApiClient githubApiClient;
+    private final GithubApiProperties githubApiProperties;
+    private final GithubRepoRepository githubRepoRepository;
+    private final GithubLanguageRepository githubLanguageRepository;
+    private final GithubRepositoryStatsRepository githubRepositoryStatsRepository;
+
+    public GithubGraphqlService(GithubApiClient githubApiClient,
+                                GithubApiProperties githubApiProperties,
+                                GithubRepoRepository githubRepoRepository,
+                                GithubLanguageRepository githubLanguageRepository,
+                                GithubRepositoryStatsRepository githubRepositoryStatsRepository) {
+        this.githubApiClient = githubApiClient;
+        this.githubApiProperties = githubApiProperties;
+        this.githubRepoRepository = githubRepoRepository;
+        this.githubLanguageRepository = githubLanguageRepository;
+        this.githubRepositoryStatsRepository = githubRepositoryStatsRepository;
+    }
+
+    /**
+     * 1. 메서드 설명: GraphQL query로 사용자의 repository 목록, 언어 정보, issue / pull request / commit 수를 조회하여
+     *    GithubRepository, GithubLanguage, GithubRepositoryStats Document에 저장한다.
+     * 2. 로직:
+     *    - user.repositories를 pageSize(최대 100)개씩 cursor 기반으로 조회한다.
+     *    - 페이지마다 다음을 수행한다.
+     *         * repository 메타데이터를 RepositoryMetadataDiff로 저장된 값과 repoId 기준으로 비교하여 신규 repository는 추가하고, 바뀐 필드만 갱신한다.
+     *         * 페이지의 repoId 목록으로 기존 GithubLanguage / GithubRepositoryStats를 한 번에 조회한 뒤 갱신하여 saveAll로 저장한다.
+     *    - GraphQL 응답에 errors가 있고 data가 없으면 예외를 발생시킨다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      githubName  - GitHub 사용자 이름.
+     *      userId      - 현재 애플리케이션 사용자의 로컬 식별자.
+     * 4. return: GithubRepository - 저장된 GithubRepository Document.
+     */
+    public GithubRepository saveUserGithubRepositoryOverview(String accessToken, String githubName, int userId) {
+        return saveUserGithubRepositoryOverview(accessToken, githubName, userId, page -> {});
+    }
+
+    /**
+     * 1. 메서드 설명: repository 개요를 저장하면서, 페이지마다 조회된 repository 목록을 pageConsumer에 전달한다.
+     *    (GithubSyncPipeline이 전체 목록 조회가 끝나기 전에 커밋 동기화를 시작할 수 있도록 하기 위함이며, 저장 로직은 위 메서드와 같다.)
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      githubName   - GitHub 사용자 이름.
+     *      userId       - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      pageConsumer - 페이지 단위로 조회된 repository 목록을 받는 함수.
+     * 4. return: GithubRepository - 저장된 GithubRepository Document.
+     */
+    public GithubRepository saveUserGithubRepositoryOverview(String accessToken, String githubName, int userId,
+                                                             Consumer<List<Repository>> pageConsumer) {
+        GithubRepository githubRepository = githubRepoRepository.findByUserId(userId)
+                .orElseGet(() -> GithubRepository.builder()
+                        .userId(userId)
+                        .repositories(new ArrayList<>())
+                        .build());
+        RepositoryMetadataDiff diff = new RepositoryMetadataDiff(githubRepository.getRepositories());
+
+        GithubApiProperties.Graphql graphql = githubApiProperties.getGraphql();
+        int maxPages = githubApiProperties.getPagination().getMaxPages();
+        String cursor = null;
+        int pages = 0;
+        do {
+            GithubGraphqlRepositoriesPayload.RepositoryConnection connection = fetchRepositories(accessToken, githubName, graphql, cursor);
+            List<GithubGraphqlRepositoriesPayload.RepositoryNode> nodes = connection.getNodes() == null
+                    ? Collections.emptyList()
+                    : connection.getNodes().stream().filter(node -> node.getDatabaseId() != null).toList();
+            if (!nodes.isEmpty()) {
+                List<Repository> pageRepositories = nodes.stream().map(this::parseRepository).toList();
+                RepositoryMetadataDiff.Changes changes = diff.apply(pageRepositories);
+                if (!changes.isEmpty()) {
+                    githubRepoRepository.applyRepositoryChanges(userId, changes.added(), changes.changedFields());
+                }
+                saveLanguages(userId, nodes);
+                saveStats(userId, nodes);
+                pageConsumer.accept(pageRepositories);
+            }
+
+            GithubGraphqlRepositoriesPayload.PageInfo pageInfo = connection.getPageInfo();
+            cursor = (pageInfo != null && pageInfo.isHasNextPage()) ? pageInfo.getEndCursor() : null;
+            if (++pages >= maxPages && cursor != null) {
+                log.warn("Stopped paging GraphQL repositories of {} after {} pages", githubName, pages);
+                break;
+            }
+        } while (cursor != null);
+
+        log.info("{}: repository metadata refreshed - added {}, updated {}, unchanged {}",
+                githubName, diff.added(), diff.updated(), diff.unchanged());
+        if (githubRepository.getGithubRepositoryId() == null) {
+            return githubRepoRepository.findByUserId(userId).orElseGet(() -> {
+                githubRepository.setRepositories(diff.repositories());
+                return githubRepository;
+            });
+        }
+        githubRepository.setRepositories(diff.repositories());
+        return githubRepository;
+    }
+
+    /**
+     * 1. 메서드 설명: user.repositories GraphQL query 한 페이지를 조회한다.
+     * 2. 로직:
+     *    - query와 변수(login, first, languages, after)를 POST body로 전송한다.
+     *    - 응답의 errors는 로그로 남기고, data.user가 없으면 GithubRepositoryNotFoundException을 발생시킨다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      githubName  - GitHub 사용자 이름.
+     *      graphql     - GraphQL 설정.
+     *      cursor      - 이전 페이지의 endCursor (첫 페이지는 null).
+     * 4. return: RepositoryConnection 객체.
+     */
+    private GithubGraphqlRepositoriesPayload.RepositoryConnection fetchRepositories(String accessToken, String githubName,
+                                                                                   GithubApiProperties.Graphql graphql, String cursor) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("login", githubName);
+        variables.put("first", Math.min(100, graphql.getPageSize()));
+        variables.put("languages", Math.min(100, graphql.getLanguagesPerRepository()));
+        variables.put("after", cursor);
+
+        GithubGraphqlRepositoriesPayload payload = githubApiClient.post(
+                accessToken,
+                new ParameterizedTypeReference<GithubGraphqlRepositoriesPayload>() {},
+                graphql.getPath(),
+                Map.of("query", REPOSITORIES_QUERY, "variables", variables)
+        ).getBody();
+
+        if (payload != null && payload.getErrors() != null && !payload.getErrors().isEmpty()) {
+            payload.getErrors().forEach(error ->
+                    log.warn("GitHub GraphQL error for {}: {} {}", githubName, error.getType(), error.getMessage()));
+        }
+        if (payload == null || payload.getData() == null || payload.getData().getUser() == null
+                || payload.getData().getUser().getRepositories() == null) {
+            throw new GithubRepositoryNotFoundException("Github repository not found");
+        }
+        return payload.getData().getUser().getRepositories();
+    }
+
+    /**
+     * 1. 메서드 설명: GraphQL repository node를 Repository 객체로 변환하는 헬퍼 메서드.
+     * 2. 로직:
+     *    - REST 응답과 동일한 필드를 옮겨 담으며, 주 언어가 없거나 push 이력이 없는 경우 null을 유지한다.
+     * 3. param:
+     *      node - GraphQL repository node.
+     * 4. return: 변환된 Repository 객체.
+     */
+    private Repository parseRepository(GithubGraphqlRepositoriesPayload.RepositoryNode node) {
+        return Repository.builder()
+                .repoId(node.getDatabaseId())
+                .repoName(node.getName())
+                .fullName(node.getNameWithOwner())
+                .language(node.getPrimaryLanguage() != null ? node.getPrimaryLanguage().getName() : null)
+                .stargazersCount(node.getStargazerCount())
+                .forksCount(node.getForkCount())
+                .createdAt(toLocalDateTime(node.getCreatedAt()))
+                .updatedAt(toLocalDateTime(node.getUpdatedAt()))
+                .pushedAt(toLocalDateTime(node.getPushedAt()))
+                .description(node.getDescription() != null ? node.getDescription() : "")
+                .build();
+    }
+
+    /**
+     * 1. 메서드 설명: 페이지의 repository별 언어 byte 수를 GithubLanguage Document에 저장한다.
+     * 2. 로직:
+     *    - 페이지의 repoId 목록으로 기존 Document를 한 번에 조회한 뒤, 있으면 languages를 교체하고 없으면 새로 생성한다.
+     * 3. param:
+     *      userId - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      nodes  - GraphQL repository node 목록.
+     * 4. return: 없음.
+     */
+    private void saveLanguages(int userId, List<GithubGraphqlRepositoriesPayload.RepositoryNode> nodes) {
+        Map<Integer, GithubLanguage> existing = githubLanguageRepository
+                .findAllByUserIdAndRepoIdIn(userId, repoIds(nodes)).stream()
+                .collect(Collectors.toMap(GithubLanguage::getRepoId, Function.identity(), (a, b) -> a));
+
+        List<GithubLanguage> languages = nodes.stream().map(node -> {
+            GithubLanguage language = existing.getOrDefault(node.getDatabaseId(), GithubLanguage.builder()
+                    .userId(userId)
+                    .repoId(node.getDatabaseId())
+                    .build());
+            language.setLanguages(parseLanguages(node.getLanguages()));
+            return language;
+        }).toList();
+        githubLanguageRepository.saveAll(languages);
+    }
+
+    private Map<String, Long> parseLanguages(GithubGraphqlRepositoriesPayload.LanguageConnection connection) {
+        Map<String, Long> languages = new LinkedHashMap<>();
+        if (connection == null || connection.getEdges() == null) {
+            return languages;
+        }
+        connection.getEdges().stream()
+                .filter(edge -> edge.getNode() != null && edge.getNode().getName() != null)
+                .forEach(edge -> languages.merge(edge.getNode().getName(), edge.getSize(), Long::sum));
+        return languages;
+    }
+
+    /**
+     * 1. 메서드 설명: 페이지의 repository별 issue / pull request / commit 수를 GithubRepositoryStats Document에 저장한다.
+     * 2. 로직:
+     *    - 페이지의 repoId 목록으로 기존 Document를 한 번에 조회한 뒤, 개수와 동기화 시각을 갱신하여 저장한다.
+     *    - commit 수는 기본 브랜치의 history.totalCount이며, 빈 repository는 0으로 저장한다.
+     * 3. param:
+     *      userId - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      nodes  - GraphQL repository node 목록.
+     * 4. return: 없음.
+     */
+    private void saveStats(int userId, List<GithubGraphqlRepositoriesPayload.RepositoryNode> nodes) {
+        Map<Integer, GithubRepositoryStats> existing = githubRepositoryStatsRepository
+                .findAllByUserIdAndRepoIdIn(userId, repoIds(nodes)).stream()
+                .collect(Collectors.toMap(GithubRepositoryStats::getRepoId, Function.identity(), (a, b) -> a));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<GithubRepositoryStats> stats = nodes.stream().map(node -> {
+            GithubRepositoryStats repositoryStats = existing.getOrDefault(node.getDatabaseId(), GithubRepositoryStats.builder()
+                    .userId(userId)
+                    .repoId(node.getDatabaseId())
+                    .build());
+            repositoryStats.setIssueCount(totalCount(node.getIssues()));
+            repositoryStats.setPrCount(totalCount(node.getPullRequests()));
+            repositoryStats.setCommitCount(commitCount(node.getDefaultBranchRef()));
+            repositoryStats.setSyncedAt(now);
+            return repositoryStats;
+        }).toList();
+        githubRepositoryStatsRepository.saveAll(stats);
+    }
+
+    private List<Integer> repoIds(List<GithubGraphqlRepositoriesPayload.RepositoryNode> nodes) {
+        return nodes.stream().map(GithubGraphqlRepositoriesPayload.RepositoryNode::getDatabaseId).toList();
+    }
+
+    private int totalCount(GithubGraphqlRepositoriesPayload.Count count) {
+        return count != null ? count.getTotalCount() : 0;
+    }
+
+    private int commitCount(GithubGraphqlRepositoriesPayload.BranchRef branchRef) {
+        if (branchRef == null || branchRef.getTarget() == null) {
+            return 0;
+        }
+        return totalCount(branchRef.getTarget().getHistory());
+    }
+
+    private LocalDateTime toLocalDateTime(OffsetDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDateTime() : null;
+    }
+}
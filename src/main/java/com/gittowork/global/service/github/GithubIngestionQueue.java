@@ -0,0 +1,550 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.entity.GithubIngestionTask;
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.domain.github.repository.GithubIngestionTaskRepository;
+import com.gittowork.domain.user.entity.User;
+import com.gittowork.domain.user.repository.UserRepository;
+import com.gittowork.global.exception.common.ExternalServiceUnavailableException;
+import com.gittowork.global.exception.github.GithubRateLimitException;
+import com.gittowork.global.properties.GithubIngestionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 사용자의 GitHub 수집 작업을 공정하게 실행하는 영속 작업 큐.
+ * <p>
+ * 사용자 동기화는 repository 목록 작업(REPOSITORIES) → repository별 작업(REPOSITORY) / 이벤트 작업(EVENTS)으로 나뉘어
+ * github_ingestion_task 컬렉션에 저장되며, 고정된 수의 worker가 사용자 간 round-robin으로 작업을 꺼내 실행한다.
+ * onboarding 화면에서 기다리는 사용자(INTERACTIVE)의 작업을 먼저 꺼내고, 한 사용자가 동시에 점유하는 worker 수를 제한하여
+ * repository가 많은 사용자가 다른 사용자의 동기화를 지연시키지 않도록 한다.
+ * access token은 저장하지 않고 실행 시점에 사용자 정보에서 조회한다.
+ * GitHub rate limit으로 작업이 중단되면 시도 횟수에 포함하지 않고, quota가 초기화될 때까지 해당 사용자의 작업을 보류한다.
+ * GitHub bulkhead가 가득 찼거나 circuit이 열려 호출이 거부된 경우에도 작업의 실패가 아니므로 시도 횟수에 포함하지 않고 잠시 뒤 다시 실행한다.
+ * 애플리케이션이 재시작되면 대기 / 실행 중이던 작업을 다시 불러와 이어서 실행한다. (단일 인스턴스 실행을 전제로 한다.)
+ * 대기 작업 수는 github.ingestion.queue.depth(priority 태그), 대기 시간은 github.ingestion.queue.wait 지표로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GithubIngestionQueue {
+
+    // rate limit 예외에 남은 시간이 없을 때 사용자의 작업을 보류하는 시간.
+    private static final long DEFAULT_RATE_LIMIT_PAUSE_MILLIS = 60_000;
+
+    // GitHub 호출이 bulkhead / circuit breaker에서 거부되었을 때 사용자의 작업을 보류하는 시간.
+    private static final long UNAVAILABLE_PAUSE_MILLIS = 5_000;
+
+    private final GithubIngestionTaskRepository githubIngestionTaskRepository;
+    private final UserRepository userRepository;
+    private final GithubSyncPipeline githubSyncPipeline;
+    private final GithubBackgroundRequestCounter backgroundRequestCounter;
+    private final GithubIngestionProperties.Queue settings;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor workerExecutor;
+    private final Semaphore workerSlots;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchable = lock.newCondition();
+    private final Map<Integer, UserQueue> userQueues = new HashMap<>();
+    private final Deque<Integer> rotation = new ArrayDeque<>();
+    private final AtomicInteger runningTasks = new AtomicInteger();
+
+    private volatile boolean stopped;
+    private Thread dispatcher;
+
+    public GithubIngestionQueue(GithubIngestionTaskRepository githubIngestionTaskRepository,
+                                UserRepository userRepository,
+                                GithubSyncPipeline githubSyncPipeline,
+                                GithubBackgroundRequestCounter backgroundRequestCounter,
+                                GithubIngestionProperties githubIngestionProperties,
+                                MeterRegistry meterRegistry) {
+        this.githubIngestionTaskRepository = githubIngestionTaskRepository;
+        this.userRepository = userRepository;
+        this.githubSyncPipeline = githubSyncPipeline;
+        this.backgroundRequestCounter = backgroundRequestCounter;
+        this.settings = githubIngestionProperties.getQueue();
+        this.meterRegistry = meterRegistry;
+
+        int workers = Math.max(1, settings.getWorkers());
+        this.workerSlots = new Semaphore(workers);
+        this.workerExecutor = new ThreadPoolTaskExecutor();
+        this.workerExecutor.setCorePoolSize(workers);
+        this.workerExecutor.setMaxPoolSize(workers);
+        this.workerExecutor.setThreadNamePrefix("github-ingest-queue-");
+        this.workerExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        this.workerExecutor.initialize();
+
+        for (GithubIngestionTask.Priority priority : GithubIngestionTask.Priority.values()) {
+            Gauge.builder("github.ingestion.queue.depth", this, queue -> queue.depth(priority))
+                    .tag("priority", priority.name().toLowerCase())
+                    .description("실행을 기다리는 GitHub 수집 작업 수")
+                    .register(meterRegistry);
+        }
+        Gauge.builder("github.ingestion.queue.running", runningTasks, AtomicInteger::get)
+                .description("실행 중인 GitHub 수집 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 메서드 설명: 애플리케이션이 준비되면 저장된 작업을 불러오고 dispatcher를 시작한다.
+     * 2. 로직:
+     *    - 이전 실행에서 RUNNING으로 남은 작업을 QUEUED로 되돌린 뒤, QUEUED 작업을 등록 순서대로 메모리 큐에 넣는다.
+     *    - 이미 같은 작업이 대기 중이면 중복 작업은 삭제한다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long recovered = githubIngestionTaskRepository.requeueRunningTasks();
+        List<GithubIngestionTask> queued = githubIngestionTaskRepository
+                .findAllByStatusOrderByEnqueuedAtAsc(GithubIngestionTask.Status.QUEUED);
+        List<GithubIngestionTask> duplicates = new ArrayList<>();
+        int loaded = 0;
+        lock.lock();
+        try {
+            // 애플리케이션 준비 전에 등록되어 이미 메모리 큐에 있는 작업은 다시 넣지 않는다.
+            Set<String> pendingIds = new HashSet<>();
+            userQueues.values().forEach(queue -> queue.pending.forEach(task -> pendingIds.add(task.getGithubIngestionTaskId())));
+            for (GithubIngestionTask task : queued) {
+                if (pendingIds.contains(task.getGithubIngestionTaskId())) {
+                    continue;
+                }
+                if (userQueue(task).keys.add(key(task))) {
+                    addPending(task);
+                    loaded++;
+                } else {
+                    duplicates.add(task);
+                }
+            }
+            dispatchable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (!duplicates.isEmpty()) {
+            githubIngestionTaskRepository.deleteAll(duplicates);
+        }
+        log.info("Github ingestion queue started with {} queued tasks ({} interrupted tasks recovered)",
+                loaded, recovered);
+
+        dispatcher = new Thread(this::dispatchLoop, "github-ingest-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /**
+     * 1. 메서드 설명: 사용자의 전체 GitHub 동기화를 큐에 등록한다.
+     * 2. 로직:
+     *    - REPOSITORIES 작업 하나를 등록하며, 실행되면 repository별 작업과 이벤트 작업을 이어서 등록한다.
+     *    - 같은 사용자의 동기화가 이미 대기 중이면 새로 등록하지 않고, INTERACTIVE 요청이면 사용자의 우선순위만 올린다.
+     * 3. param:
+     *      userId     - 로컬 사용자 식별자.
+     *      githubName - GitHub 사용자 이름.
+     *      priority   - 작업 우선순위. (onboarding 화면에서 기다리는 사용자는 INTERACTIVE)
+     * 4. return: 없음.
+     */
+    public void enqueueUserSync(int userId, String githubName, GithubIngestionTask.Priority priority) {
+        enqueueAll(List.of(GithubIngestionTask.builder()
+                .userId(userId)
+                .githubName(githubName)
+                .type(GithubIngestionTask.Type.REPOSITORIES)
+                .priority(priority)
+                .build()));
+    }
+
+    /**
+     * 1. 메서드 설명: repository 하나의 동기화(commit, language, issue, pull request)를 큐에 등록한다.
+     *    (webhook으로 반영할 수 없는 push가 들어와 REST 동기화로 보정해야 할 때 사용한다.)
+     * 3. param:
+     *      userId     - 로컬 사용자 식별자.
+     *      githubName - GitHub 사용자 이름.
+     *      repository - 대상 repository.
+     *      priority   - 작업 우선순위.
+     * 4. return: 없음.
+     */
+    public void enqueueRepositorySync(int userId, String githubName, Repository repository, GithubIngestionTask.Priority priority) {
+        enqueueAll(List.of(GithubIngestionTask.builder()
+                .userId(userId)
+                .githubName(githubName)
+                .type(GithubIngestionTask.Type.REPOSITORY)
+                .repository(repository)
+                .priority(priority)
+                .build()));
+    }
+
+    private void enqueueAll(List<GithubIngestionTask> tasks) {
+        List<GithubIngestionTask> accepted = new ArrayList<>(tasks.size());
+        lock.lock();
+        try {
+            for (GithubIngestionTask task : tasks) {
+                UserQueue queue = userQueue(task);
+                if (queue.keys.add(key(task))) {
+                    accepted.add(task);
+                } else if (task.getPriority() == GithubIngestionTask.Priority.INTERACTIVE) {
+                    queue.interactive = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        accepted.forEach(task -> {
+            task.setStatus(GithubIngestionTask.Status.QUEUED);
+            task.setEnqueuedAt(now);
+        });
+        try {
+            githubIngestionTaskRepository.saveAll(accepted);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                accepted.forEach(task -> userQueue(task).keys.remove(key(task)));
+                accepted.stream().map(GithubIngestionTask::getUserId).distinct().forEach(this::releaseIfIdle);
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            accepted.forEach(this::addPending);
+            dispatchable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!stopped) {
+            try {
+                workerSlots.acquire();
+                GithubIngestionTask task;
+                try {
+                    task = takeNext();
+                } catch (InterruptedException e) {
+                    workerSlots.release();
+                    throw e;
+                }
+                workerExecutor.execute(() -> {
+                    try {
+                        execute(task);
+                    } finally {
+                        workerSlots.release();
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Github ingestion dispatcher failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 다음에 실행할 작업을 사용자 간 round-robin으로 선택한다. 실행할 수 있는 작업이 없으면 대기한다.
+     * 2. 로직:
+     *    - 대기 작업이 있는 사용자를 rotation 순서대로 확인하여, 실행 중인 작업 수가 maxRunningPerUser보다 적고
+     *      rate limit으로 보류되지 않은 사용자를 찾는다.
+     *    - INTERACTIVE 사용자를 먼저 찾고, 없으면 BACKGROUND 사용자를 찾는다.
+     *    - 선택한 사용자는 rotation의 맨 뒤로 보내 다음 작업은 다른 사용자에게 돌아가도록 한다.
+     *    - 보류된 사용자만 남았으면 가장 먼저 보류가 풀리는 시각까지 대기한다.
+     * 3. param: 없음.
+     * 4. return: 실행할 작업.
+     */
+    private GithubIngestionTask takeNext() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                Integer userId = selectUser(true, now);
+                if (userId == null) {
+                    userId = selectUser(false, now);
+                }
+                if (userId != null) {
+                    UserQueue queue = userQueues.get(userId);
+                    GithubIngestionTask task = queue.pending.poll();
+                    queue.keys.remove(key(task));
+                    queue.running++;
+                    rotation.remove(userId);
+                    if (!queue.pending.isEmpty()) {
+                        rotation.addLast(userId);
+                    }
+                    return task;
+                }
+                long resumeAt = rotation.stream()
+                        .mapToLong(id -> userQueues.get(id).pausedUntilMillis)
+                        .filter(pausedUntil -> pausedUntil > now)
+                        .min()
+                        .orElse(0);
+                if (resumeAt > 0) {
+                    dispatchable.await(resumeAt - now, TimeUnit.MILLISECONDS);
+                } else {
+                    dispatchable.await();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Integer selectUser(boolean interactiveOnly, long now) {
+        int maxRunningPerUser = Math.max(1, settings.getMaxRunningPerUser());
+        for (Integer userId : rotation) {
+            UserQueue queue = userQueues.get(userId);
+            if ((!interactiveOnly || queue.interactive) && queue.running < maxRunningPerUser
+                    && queue.pausedUntilMillis <= now) {
+                return userId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 1. 메서드 설명: 작업 하나를 실행하고 결과에 따라 작업을 삭제하거나 다시 대기시킨다.
+     * 2. 로직:
+     *    - 작업을 RUNNING으로 저장하고, 사용자 정보에서 access token을 조회한다. (사용자가 없으면 작업을 버린다.)
+     *    - 작업 종류에 따라 GithubSyncPipeline의 단계를 실행하며, REPOSITORIES 작업은 페이지마다 repository별 작업을,
+     *      목록 조회가 끝나면 이벤트 작업을 등록한다.
+     *      BACKGROUND 작업은 보낸 요청 수가 야간 재동기화 예산에 집계되도록 GithubBackgroundRequestCounter 안에서 실행한다.
+     *    - 성공하면 작업을 삭제하고, 실패하면 maxAttempts까지는 다시 대기시키며 초과하면 FAILED로 남긴다.
+     *      FAILED 작업은 failedAt TTL 인덱스로 7일 뒤 삭제된다.
+     *    - rate limit으로 중단되면 시도 횟수를 되돌려 다시 대기시키고, 남은 시간 동안 사용자의 작업을 보류한다.
+     *    - GitHub 호출이 bulkhead / circuit breaker에서 거부되면 시도 횟수를 되돌려 다시 대기시키고, 잠시 사용자의 작업을 보류한다.
+     * 3. param:
+     *      task - 실행할 작업.
+     * 4. return: 없음.
+     */
+    private void execute(GithubIngestionTask task) {
+        String priority = task.getPriority().name().toLowerCase();
+        Timer.builder("github.ingestion.queue.wait")
+                .tag("priority", priority)
+                .description("GitHub 수집 작업이 등록된 뒤 실행되기까지 기다린 시간")
+                .register(meterRegistry)
+                .record(Duration.between(task.getEnqueuedAt(), LocalDateTime.now()));
+
+        runningTasks.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        boolean retry = false;
+        long pauseMillis = 0;
+        try {
+            task.setStatus(GithubIngestionTask.Status.RUNNING);
+            task.setStartedAt(LocalDateTime.now());
+            task.setAttempts(task.getAttempts() + 1);
+            githubIngestionTaskRepository.save(task);
+
+            Optional<String> accessToken = userRepository.findById(task.getUserId()).map(User::getGithubAccessToken);
+            if (accessToken.isEmpty()) {
+                outcome = "dropped";
+                log.warn("Dropped Github ingestion task of unknown user {}", task.getUserId());
+            } else if (task.getPriority() == GithubIngestionTask.Priority.BACKGROUND) {
+                backgroundRequestCounter.runBackground(() -> run(task, accessToken.get()));
+            } else {
+                run(task, accessToken.get());
+            }
+            githubIngestionTaskRepository.delete(task);
+        } catch (GithubRateLimitException e) {
+            outcome = "rate_limited";
+            retry = true;
+            pauseMillis = e.getRetryAfterMillis() > 0 ? e.getRetryAfterMillis() : DEFAULT_RATE_LIMIT_PAUSE_MILLIS;
+            log.warn("Github ingestion task {} of {} paused for {}ms by rate limit",
+                    task.getType(), task.getGithubName(), pauseMillis);
+            requeueWithoutAttempt(task, e);
+        } catch (ExternalServiceUnavailableException e) {
+            outcome = "unavailable";
+            retry = true;
+            pauseMillis = UNAVAILABLE_PAUSE_MILLIS;
+            log.warn("Github ingestion task {} of {} paused for {}ms: {}",
+                    task.getType(), task.getGithubName(), pauseMillis, e.getMessage());
+            requeueWithoutAttempt(task, e);
+        } catch (Exception e) {
+            outcome = "failure";
+            retry = task.getAttempts() < Math.max(1, settings.getMaxAttempts());
+            log.error("Github ingestion task {} of {} failed (attempt {}): {}",
+                    task.getType(), task.getGithubName(), task.getAttempts(), e.getMessage());
+            task.setStatus(retry ? GithubIngestionTask.Status.QUEUED : GithubIngestionTask.Status.FAILED);
+            task.setLastError(e.getMessage());
+            if (retry) {
+                task.setEnqueuedAt(LocalDateTime.now());
+            } else {
+                task.setFailedAt(LocalDateTime.now());
+            }
+            saveQuietly(task);
+        } finally {
+            sample.stop(Timer.builder("github.ingestion.task")
+                    .tag("type", task.getType().name().toLowerCase())
+                    .tag("outcome", outcome)
+                    .description("GitHub 수집 작업 실행 시간")
+                    .register(meterRegistry));
+            runningTasks.decrementAndGet();
+            finish(task, retry, pauseMillis);
+        }
+    }
+
+    private void requeueWithoutAttempt(GithubIngestionTask task, RuntimeException e) {
+        task.setAttempts(task.getAttempts() - 1);
+        task.setStatus(GithubIngestionTask.Status.QUEUED);
+        task.setLastError(e.getMessage());
+        task.setEnqueuedAt(LocalDateTime.now());
+        saveQuietly(task);
+    }
+
+    private void run(GithubIngestionTask task, String accessToken) {
+        String githubName = task.getGithubName();
+        int userId = task.getUserId();
+        switch (task.getType()) {
+            case REPOSITORIES -> {
+                githubSyncPipeline.syncRepositoryList(accessToken, githubName, userId, page ->
+                        enqueueAll(page.stream()
+                                .map(repository -> childTask(task, GithubIngestionTask.Type.REPOSITORY, repository))
+                                .toList()));
+                enqueueAll(List.of(childTask(task, GithubIngestionTask.Type.EVENTS, null)));
+            }
+            case REPOSITORY -> githubSyncPipeline.syncRepository(accessToken, githubName, userId, task.getRepository());
+            case EVENTS -> githubSyncPipeline.syncEvents(accessToken, githubName, userId);
+        }
+    }
+
+    private void finish(GithubIngestionTask task, boolean retry, long pauseMillis) {
+        boolean duplicate = false;
+        lock.lock();
+        try {
+            UserQueue queue = userQueue(task);
+            queue.running--;
+            if (pauseMillis > 0) {
+                queue.pausedUntilMillis = Math.max(queue.pausedUntilMillis, System.currentTimeMillis() + pauseMillis);
+            }
+            if (retry) {
+                if (queue.keys.add(key(task))) {
+                    addPending(task);
+                } else {
+                    duplicate = true;
+                }
+            }
+            releaseIfIdle(task.getUserId());
+            dispatchable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        // 실패한 사이 같은 작업이 새로 등록되었으면 재시도 대신 새 작업을 실행한다.
+        if (duplicate) {
+            githubIngestionTaskRepository.delete(task);
+        }
+    }
+
+    private void saveQuietly(GithubIngestionTask task) {
+        try {
+            githubIngestionTaskRepository.save(task);
+        } catch (RuntimeException e) {
+            log.error("Failed to save Github ingestion task state: {}", e.getMessage());
+        }
+    }
+
+    private static GithubIngestionTask childTask(GithubIngestionTask parent, GithubIngestionTask.Type type, Repository repository) {
+        return GithubIngestionTask.builder()
+                .userId(parent.getUserId())
+                .githubName(parent.getGithubName())
+                .type(type)
+                .repository(repository)
+                .priority(parent.getPriority())
+                .build();
+    }
+
+    // lock을 잡은 상태에서만 호출한다.
+    private UserQueue userQueue(GithubIngestionTask task) {
+        return userQueues.computeIfAbsent(task.getUserId(), userId -> new UserQueue());
+    }
+
+    // lock을 잡은 상태에서만 호출한다. key는 호출한 쪽에서 미리 등록한다.
+    private void addPending(GithubIngestionTask task) {
+        UserQueue queue = userQueue(task);
+        if (queue.pending.isEmpty()) {
+            rotation.addLast(task.getUserId());
+        }
+        queue.pending.addLast(task);
+        if (task.getPriority() == GithubIngestionTask.Priority.INTERACTIVE) {
+            queue.interactive = true;
+        }
+    }
+
+    // lock을 잡은 상태에서만 호출한다. 대기 / 실행 중인 작업이 없는 사용자는 우선순위와 함께 정리한다.
+    private void releaseIfIdle(int userId) {
+        UserQueue queue = userQueues.get(userId);
+        if (queue != null && queue.pending.isEmpty() && queue.running == 0 && queue.keys.isEmpty()) {
+            userQueues.remove(userId);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 우선순위와 관계없이 실행을 기다리는 작업 수를 반환한다. (재동기화 배치의 backpressure 판단에 사용한다.)
+     * 3. param: 없음.
+     * 4. return: 대기 작업 수.
+     */
+    int pendingTasks() {
+        lock.lock();
+        try {
+            return userQueues.values().stream().mapToInt(queue -> queue.pending.size()).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double depth(GithubIngestionTask.Priority priority) {
+        lock.lock();
+        try {
+            return userQueues.values().stream()
+                    .flatMap(queue -> queue.pending.stream())
+                    .filter(task -> task.getPriority() == priority)
+                    .count();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String key(GithubIngestionTask task) {
+        return task.getType() + ":" + (task.getRepository() != null ? task.getRepository().getRepoId() : "");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopped = true;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        workerExecutor.shutdown();
+    }
+
+    /**
+     * 사용자 한 명의 대기 작업과 실행 중인 작업 수.
+     * interactive는 INTERACTIVE 작업이 등록된 뒤 사용자의 작업이 모두 끝날 때까지 유지된다.
+     * pausedUntilMillis는 rate limit으로 사용자의 작업을 보류하는 시각(epoch ms)이다.
+     */
+    private static final class UserQueue {
+        private final Deque<GithubIngestionTask> pending = new ArrayDeque<>();
+        private final Set<String> keys = new HashSet<>();
+        private int running;
+        private boolean interactive;
+        private long pausedUntilMillis;
+    }
+}
@@ -0,0 +1,109 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.global.properties.GithubIngestionProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * repository 단위 GitHub 수집 작업을 제한된 worker pool에 분산 실행하는 컴포넌트.
+ * <p>
+ * access token마다 동시에 진행 중인 작업 수를 제한하며, 하나의 repository 작업이 실패해도
+ * 나머지 repository 작업은 계속 진행된다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GithubIngestionRunner {
+
+    private final GithubIngestionProperties properties;
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, Semaphore> tokenPermits = new ConcurrentHashMap<>();
+
+    public GithubIngestionRunner(GithubIngestionProperties properties, GithubBackgroundRequestCounter backgroundRequestCounter) {
+        this.properties = properties;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(properties.getPoolSize());
+        this.executor.setMaxPoolSize(properties.getPoolSize());
+        this.executor.setQueueCapacity(properties.getQueueCapacity());
+        this.executor.setThreadNamePrefix("github-ingest-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.setTaskDecorator(backgroundRequestCounter);
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+    }
+
+    /**
+     * 1. 메서드 설명: 주어진 repository 목록에 대해 task를 실행하고, 모든 작업이 끝날 때까지 대기한다.
+     * 2. 로직:
+     *    - concurrent 모드가 꺼져 있으면 호출 스레드에서 순차적으로 실행한다.
+     *    - concurrent 모드에서는 access token별 Semaphore를 호출 스레드에서 획득한 뒤 worker pool에 작업을 제출한다.
+     *      (worker 스레드가 permit을 기다리며 점유되는 일이 없도록 하기 위함)
+     *    - 개별 repository 작업의 예외는 로그로 남기고 실패 건수에만 반영한다.
+     * 3. param:
+     *      String accessToken - 작업에 사용되는 GitHub access token (동시 실행 제한의 기준).
+     *      List<Repository> repositories - 작업 대상 repository 목록.
+     *      String taskName - 로그에 사용할 작업 이름.
+     *      Consumer<Repository> task - repository 하나에 대해 수행할 작업.
+     * 4. return: 실패한 repository 수.
+     */
+    public int forEachRepository(String accessToken, List<Repository> repositories, String taskName, Consumer<Repository> task) {
+        AtomicInteger failures = new AtomicInteger();
+        if (!properties.isConcurrent()) {
+            repositories.forEach(repository -> runSafely(repository, taskName, task, failures));
+            return failures.get();
+        }
+
+        Semaphore permits = tokenPermits.computeIfAbsent(accessToken,
+                key -> new Semaphore(Math.max(1, properties.getMaxConcurrentPerToken())));
+        List<CompletableFuture<Void>> futures = new ArrayList<>(repositories.size());
+        for (Repository repository : repositories) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("{} sync interrupted before repository {}", taskName, repository.getRepoName());
+                break;
+            }
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    runSafely(repository, taskName, task, failures);
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        if (failures.get() > 0) {
+            log.warn("{} sync finished with {} failed repositories out of {}", taskName, failures.get(), repositories.size());
+        }
+        return failures.get();
+    }
+
+    private void runSafely(Repository repository, String taskName, Consumer<Repository> task, AtomicInteger failures) {
+        try {
+            task.accept(repository);
+        } catch (Exception e) {
+            failures.incrementAndGet();
+            log.error("{} sync failed for repository {}: {}", taskName, repository.getRepoName(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,206 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.entity.GithubIngestionTask;
+import com.gittowork.domain.github.entity.GithubResyncCheckpoint;
+import com.gittowork.domain.github.repository.GithubRepoRepository;
+import com.gittowork.domain.github.repository.GithubResyncCheckpointRepository;
+import com.gittowork.domain.user.entity.User;
+import com.gittowork.domain.user.entity.UserState;
+import com.gittowork.domain.user.repository.UserRepository;
+import com.gittowork.global.properties.GithubResyncProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 사용자의 GitHub 데이터(commit, issue, pull request 등)를 야간에 백그라운드로 재동기화하는 스케줄러.
+ * <p>
+ * 설정된 시간대 동안 tickInterval마다 사용자 id 순으로 배치를 조회하여 GithubIngestionQueue에 BACKGROUND 우선순위로 등록한다.
+ * 실제 수집은 checkpoint 이후 커밋만 조회하고 이미 저장된 issue / pull request를 건너뛰며 이벤트는 ETag 조건부 요청으로 갱신하는
+ * 기존 증분 동기화를 그대로 사용한다. (이벤트 갱신은 분석 요청의 신규 이벤트 판단에 영향을 주지 않는다.)
+ * 사용한 예산은 시간대 동안 BACKGROUND 수집 작업이 실제로 보낸 요청 수(재시도 포함, GithubBackgroundRequestCounter)로 계산하며, 남은 예산을 남은 배치 수로 나누어
+ * 배치마다 등록할 사용자 수를 정하므로 부하가 시간대 전체에 퍼진다. (사용자별 요청 수 추정치는 배치 크기를 정하는 데만 쓴다.)
+ * 진행 위치와 사용한 예산은 github_resync_checkpoint에 저장되어 재시작 후에도 이어서 진행한다.
+ * 등록한 사용자 수는 github.resync.users, 남은 예산은 github.resync.budget.remaining 지표로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GithubNightlyResync {
+
+    private static final String CHECKPOINT_ID = "nightly";
+    private static final int REPOSITORIES_PER_PAGE = 100;
+
+    private final GithubResyncProperties properties;
+    private final GithubResyncCheckpointRepository githubResyncCheckpointRepository;
+    private final GithubRepoRepository githubRepoRepository;
+    private final UserRepository userRepository;
+    private final GithubIngestionQueue githubIngestionQueue;
+    private final GithubBackgroundRequestCounter backgroundRequestCounter;
+    private final Counter queuedUsersCounter;
+    private final Counter completedPassesCounter;
+    private final AtomicLong remainingBudget = new AtomicLong();
+
+    // 마지막 tick에서 확인한 BACKGROUND 작업의 요청 수. 시간대 밖이거나 재시작 직후에는 -1이다.
+    private long observedRequests = -1;
+
+    public GithubNightlyResync(GithubResyncProperties properties,
+                               GithubResyncCheckpointRepository githubResyncCheckpointRepository,
+                               GithubRepoRepository githubRepoRepository,
+                               UserRepository userRepository,
+                               GithubIngestionQueue githubIngestionQueue,
+                               GithubBackgroundRequestCounter backgroundRequestCounter,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.githubResyncCheckpointRepository = githubResyncCheckpointRepository;
+        this.githubRepoRepository = githubRepoRepository;
+        this.userRepository = userRepository;
+        this.githubIngestionQueue = githubIngestionQueue;
+        this.backgroundRequestCounter = backgroundRequestCounter;
+        this.queuedUsersCounter = Counter.builder("github.resync.users")
+                .description("야간 재동기화로 수집 큐에 등록한 사용자 수")
+                .register(meterRegistry);
+        this.completedPassesCounter = Counter.builder("github.resync.passes")
+                .description("전체 활성 사용자를 한 바퀴 모두 등록한 횟수")
+                .register(meterRegistry);
+        this.remainingBudget.set(properties.getNightlyRequestBudget());
+        Gauge.builder("github.resync.budget.remaining", remainingBudget, AtomicLong::get)
+                .description("이번 시간대에 남은 야간 재동기화 GitHub 요청 예산")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 메서드 설명: 재동기화 시간대이면 다음 사용자 배치를 예산 안에서 수집 큐에 등록한다.
+     * 2. 로직:
+     *    - 새 시간대가 시작되었으면 사용한 예산을 초기화하고, 지난 시간대에 한 바퀴를 마쳤으면 처음 사용자부터 다시 시작한다.
+     *    - 지난 tick 이후 BACKGROUND 수집 작업이 실제로 보낸 요청 수를 사용한 예산에 더한다. (onboarding / webhook 등의 요청은 제외된다.)
+     *    - 수집 큐에 대기 작업이 maxPendingTasks 이상이면 이번 배치를 건너뛴다.
+     *    - 남은 예산을 남은 배치 수로 나눈 값을 이번 배치의 한도로 하여, 마지막 사용자 다음 id부터 사용자를 등록한다.
+     *      한도와 비교할 사용자 한 명의 요청 수는 저장된 repository 수로 추정하며, 실제 사용량은 다음 tick에서 반영된다.
+     *    - 사용자를 등록할 때마다 checkpoint를 저장하고, 더 이상 사용자가 없으면 한 바퀴를 마친 것으로 기록한다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @Scheduled(fixedDelayString = "${github.resync.tick-interval:PT10M}")
+    public void resyncNextBatch() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!inWindow(now.getHour())) {
+            observedRequests = -1;
+            return;
+        }
+
+        LocalDate nightDate = nightDate(now);
+        GithubResyncCheckpoint checkpoint = githubResyncCheckpointRepository.findById(CHECKPOINT_ID)
+                .orElseGet(() -> GithubResyncCheckpoint.builder().githubResyncCheckpointId(CHECKPOINT_ID).build());
+        if (!nightDate.equals(checkpoint.getNightDate())) {
+            checkpoint.setNightDate(nightDate);
+            checkpoint.setSpentRequests(0);
+            checkpoint.setQueuedUsers(0);
+            if (checkpoint.isPassCompleted()) {
+                checkpoint.setLastUserId(0);
+                checkpoint.setPassCompleted(false);
+            }
+            save(checkpoint);
+        }
+        long sentRequests = backgroundRequestCounter.sentRequests();
+        if (observedRequests >= 0 && sentRequests > observedRequests) {
+            checkpoint.setSpentRequests(checkpoint.getSpentRequests() + (sentRequests - observedRequests));
+            save(checkpoint);
+        }
+        observedRequests = sentRequests;
+
+        long budget = properties.getNightlyRequestBudget();
+        remainingBudget.set(Math.max(0, budget - checkpoint.getSpentRequests()));
+        if (checkpoint.isPassCompleted() || remainingBudget.get() == 0) {
+            return;
+        }
+        int pendingTasks = githubIngestionQueue.pendingTasks();
+        if (pendingTasks >= properties.getMaxPendingTasks()) {
+            log.info("Nightly Github resync skipped a batch: {} ingestion tasks are still pending", pendingTasks);
+            return;
+        }
+
+        long allowance = divideCeil(remainingBudget.get(), remainingTicks(now, nightDate));
+        List<User> users = userRepository.findResyncCandidates(UserState.ACTIVE, checkpoint.getLastUserId(),
+                PageRequest.of(0, Math.max(1, properties.getBatchSize())));
+
+        long spent = 0;
+        int queued = 0;
+        for (User user : users) {
+            long cost = Math.min(estimateRequests(user.getId()), budget);
+            if (spent + cost > remainingBudget.get() || (queued > 0 && spent + cost > allowance)) {
+                break;
+            }
+            githubIngestionQueue.enqueueUserSync(user.getId(), user.getGithubName(), GithubIngestionTask.Priority.BACKGROUND);
+            spent += cost;
+            queued++;
+            queuedUsersCounter.increment();
+
+            checkpoint.setLastUserId(user.getId());
+            checkpoint.setQueuedUsers(checkpoint.getQueuedUsers() + 1);
+            save(checkpoint);
+        }
+
+        if (queued == users.size() && users.size() < properties.getBatchSize()) {
+            checkpoint.setPassCompleted(true);
+            save(checkpoint);
+            completedPassesCounter.increment();
+            log.info("Nightly Github resync completed a pass over active users ({} users tonight)", checkpoint.getQueuedUsers());
+        } else if (queued > 0) {
+            log.info("Nightly Github resync queued {} users (~{} requests estimated), {} requests left tonight",
+                    queued, spent, remainingBudget.get());
+        }
+    }
+
+    private long estimateRequests(int userId) {
+        int repositories = githubRepoRepository.findByUserId(userId)
+                .map(githubRepository -> githubRepository.getRepositories().size())
+                .orElse(0);
+        // repository 목록 페이지 + 이벤트 조회 + repository별 요청
+        return divideCeil(Math.max(1, repositories), REPOSITORIES_PER_PAGE) + 1
+                + (long) repositories * properties.getRequestsPerRepository();
+    }
+
+    private boolean inWindow(int hour) {
+        int start = properties.getWindowStartHour();
+        int end = properties.getWindowEndHour();
+        return start <= end ? hour >= start && hour < end : hour >= start || hour < end;
+    }
+
+    private LocalDate nightDate(LocalDateTime now) {
+        int start = properties.getWindowStartHour();
+        boolean crossesMidnight = start > properties.getWindowEndHour();
+        return crossesMidnight && now.getHour() < start ? now.toLocalDate().minusDays(1) : now.toLocalDate();
+    }
+
+    private long remainingTicks(LocalDateTime now, LocalDate nightDate) {
+        int start = properties.getWindowStartHour();
+        int end = properties.getWindowEndHour();
+        LocalDate endDate = start > end ? nightDate.plusDays(1) : nightDate;
+        LocalDateTime windowEnd = endDate.atTime(end, 0);
+        long intervalMillis = Math.max(1, properties.getTickInterval().toMillis());
+        return Math.max(1, divideCeil(Duration.between(now, windowEnd).toMillis(), intervalMillis));
+    }
+
+    private void save(GithubResyncCheckpoint checkpoint) {
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        githubResyncCheckpointRepository.save(checkpoint);
+    }
+
+    private static long divideCeil(long dividend, long divisor) {
+        return (Math.max(0, dividend) + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,277 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.global.exception.github.GithubRateLimitException;
+import com.gittowork.global.properties.GithubApiProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access token별 GitHub API quota를 추적하고 요청 속도를 조절하는 컴포넌트.
+ * <p>
+ * 응답의 X-RateLimit-Remaining / X-RateLimit-Reset 헤더로 남은 quota를 기록하고,
+ * token bucket으로 요청 간격을 조절한다. quota가 소진되면 reset 시각까지 대기하며,
+ * 403 / 429 rate limit 응답은 Retry-After 또는 지수 backoff 후 재시도할 수 있도록 대기 시간을 계산한다.
+ * 대기 시간이 maxWaitMillis를 넘으면 호출 스레드를 붙잡지 않고 남은 시간을 담은 GithubRateLimitException을 발생시킨다.
+ * token별 상태는 한 시간 이상 사용되지 않으면 정리하며, 지표는 token 태그 없이 전체 token에 대한 집계값으로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class GithubRateLimiter {
+
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+    private static final long IDLE_STATE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final GithubApiProperties.RateLimit properties;
+    private final Map<String, TokenState> tokenStates = new ConcurrentHashMap<>();
+
+    public GithubRateLimiter(GithubApiProperties githubApiProperties, MeterRegistry meterRegistry) {
+        this.properties = githubApiProperties.getRateLimit();
+
+        Gauge.builder("github.api.rate.limit.remaining", this, GithubRateLimiter::minRemaining)
+                .description("GitHub API에서 마지막으로 보고한 남은 요청 수 중 가장 작은 값")
+                .register(meterRegistry);
+        Gauge.builder("github.api.rate.limit.exhausted", this, GithubRateLimiter::exhaustedTokens)
+                .description("quota가 소진되어 reset 시각을 기다리는 access token 수")
+                .register(meterRegistry);
+        Gauge.builder("github.api.rate.limit.tokens", tokenStates, Map::size)
+                .description("rate limit 상태를 추적 중인 access token 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 메서드 설명: access token으로 요청을 보내도 되는 시점까지 호출 스레드를 대기시킨다.
+     * 2. 로직:
+     *    - 마지막으로 기록된 남은 quota가 reserve 이하이고 reset 시각이 지나지 않았다면 reset 시각까지 대기한다.
+     *    - token bucket에 남은 token이 없으면 다음 token이 채워질 때까지 대기한다.
+     *    - 대기 시간이 maxWaitMillis를 넘으면 대기하지 않고 GithubRateLimitException을 발생시킨다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     * 4. return: 없음.
+     */
+    public void acquire(String accessToken) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        TokenState state = stateOf(accessToken);
+        while (true) {
+            long waitMillis;
+            synchronized (state) {
+                waitMillis = state.quotaWaitMillis(properties.getReserve());
+                if (waitMillis <= 0) {
+                    waitMillis = state.tryTakeToken(properties.getRequestsPerSecond(), properties.getBurst());
+                }
+            }
+            if (waitMillis <= 0) {
+                return;
+            }
+            sleep(state.fingerprint, waitMillis);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub 응답 헤더의 rate limit 정보를 access token별 상태에 반영한다.
+     * 2. 로직:
+     *    - X-RateLimit-Limit, X-RateLimit-Remaining, X-RateLimit-Reset 헤더가 있으면 값을 갱신한다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      headers     - GitHub 응답 헤더.
+     * 4. return: 없음.
+     */
+    public void update(String accessToken, HttpHeaders headers) {
+        if (!properties.isEnabled() || headers == null) {
+            return;
+        }
+        Long remaining = parseLong(headers.getFirst(HEADER_REMAINING));
+        Long reset = parseLong(headers.getFirst(HEADER_RESET));
+        Long limit = parseLong(headers.getFirst(HEADER_LIMIT));
+        if (remaining == null && reset == null) {
+            return;
+        }
+        TokenState state = stateOf(accessToken);
+        synchronized (state) {
+            if (remaining != null) {
+                state.remaining = remaining;
+            }
+            if (reset != null) {
+                state.resetEpochSeconds = reset;
+            }
+            if (limit != null) {
+                state.limit = limit;
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 실패한 GitHub 응답이 rate limit 응답인 경우 재시도 전 대기 시간을 계산한다.
+     * 2. 로직:
+     *    - 429 또는 rate limit 관련 403 응답이 아니면 -1을 반환한다.
+     *    - Retry-After 헤더가 있으면 그 값을 사용한다.
+     *    - primary rate limit 소진(X-RateLimit-Remaining = 0)이면 reset 시각까지의 시간을 사용한다.
+     *    - 그 외 secondary rate limit은 initialBackoffMillis부터 시도 횟수마다 2배씩 증가시킨다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      e           - RestTemplate이 발생시킨 HTTP 예외.
+     *      attempt     - 지금까지의 재시도 횟수 (0부터 시작).
+     * 4. return: 대기 시간(ms). 재시도 대상이 아니거나 재시도 횟수를 초과한 경우 -1.
+     */
+    public long retryDelayMillis(String accessToken, HttpStatusCodeException e, int attempt) {
+        if (!properties.isEnabled() || !isRateLimited(e) || attempt >= properties.getMaxRetries()) {
+            return -1;
+        }
+        HttpHeaders headers = e.getResponseHeaders();
+        update(accessToken, headers);
+
+        Long retryAfter = headers == null ? null : parseLong(headers.getFirst(HEADER_RETRY_AFTER));
+        if (retryAfter != null) {
+            return TimeUnit.SECONDS.toMillis(retryAfter);
+        }
+        Long remaining = headers == null ? null : parseLong(headers.getFirst(HEADER_REMAINING));
+        Long reset = headers == null ? null : parseLong(headers.getFirst(HEADER_RESET));
+        if (remaining != null && remaining == 0 && reset != null) {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(reset) - System.currentTimeMillis()) + 1000;
+        }
+        return properties.getInitialBackoffMillis() << Math.min(attempt, 10);
+    }
+
+    /**
+     * 1. 메서드 설명: rate limit으로 인해 지정된 시간만큼 호출 스레드를 대기시킨다.
+     * 2. 로직:
+     *    - 대기 시간이 maxWaitMillis를 넘으면 대기하지 않고 대기 시간을 담은 GithubRateLimitException을 발생시킨다.
+     *    - 대기 중 인터럽트되면 GithubRateLimitException을 발생시킨다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      waitMillis  - 대기 시간(ms).
+     * 4. return: 없음.
+     */
+    public void pause(String accessToken, long waitMillis) {
+        sleep(GithubApiClient.fingerprint(accessToken), waitMillis);
+    }
+
+    private void sleep(String fingerprint, long waitMillis) {
+        if (waitMillis > properties.getMaxWaitMillis()) {
+            throw new GithubRateLimitException("GitHub rate limit wait of " + waitMillis + "ms exceeds the configured maximum", waitMillis);
+        }
+        if (waitMillis >= 1000) {
+            log.info("GitHub rate limit reached for token {}, waiting {}ms", fingerprint, waitMillis);
+        }
+        try {
+            Thread.sleep(waitMillis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new GithubRateLimitException("Interrupted while waiting for GitHub rate limit reset");
+        }
+    }
+
+    private boolean isRateLimited(HttpStatusCodeException e) {
+        if (e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            return true;
+        }
+        if (!e.getStatusCode().isSameCodeAs(HttpStatus.FORBIDDEN)) {
+            return false;
+        }
+        HttpHeaders headers = e.getResponseHeaders();
+        if (headers != null && (headers.containsKey(HEADER_RETRY_AFTER) || "0".equals(headers.getFirst(HEADER_REMAINING)))) {
+            return true;
+        }
+        return e.getResponseBodyAsString().toLowerCase().contains("rate limit");
+    }
+
+    private TokenState stateOf(String accessToken) {
+        String fingerprint = GithubApiClient.fingerprint(accessToken);
+        TokenState state = tokenStates.get(fingerprint);
+        if (state == null) {
+            evictIdleStates();
+            state = tokenStates.computeIfAbsent(fingerprint, key -> new TokenState(key, properties.getBurst()));
+        }
+        state.lastUsedMillis = System.currentTimeMillis();
+        return state;
+    }
+
+    // 새 token이 등록될 때마다 한 시간 이상 사용되지 않은 token의 상태를 정리한다. (quota는 최대 한 시간 뒤 초기화된다.)
+    private void evictIdleStates() {
+        long idleSince = System.currentTimeMillis() - IDLE_STATE_MILLIS;
+        tokenStates.values().removeIf(state -> state.lastUsedMillis < idleSince);
+    }
+
+    private double minRemaining() {
+        return tokenStates.values().stream()
+                .mapToLong(state -> state.remaining)
+                .filter(remaining -> remaining >= 0)
+                .min()
+                .orElse(-1);
+    }
+
+    private double exhaustedTokens() {
+        long now = System.currentTimeMillis();
+        return tokenStates.values().stream()
+                .filter(state -> state.remaining >= 0 && state.remaining <= properties.getReserve()
+                        && TimeUnit.SECONDS.toMillis(state.resetEpochSeconds) > now)
+                .count();
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class TokenState {
+        private final String fingerprint;
+        private volatile long remaining = -1;
+        private volatile long limit = -1;
+        private volatile long resetEpochSeconds = 0;
+        private volatile long lastUsedMillis = System.currentTimeMillis();
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        private TokenState(String fingerprint, int burst) {
+            this.fingerprint = fingerprint;
+            this.tokens = burst;
+        }
+
+        private long quotaWaitMillis(int reserve) {
+            if (remaining < 0 || remaining > reserve) {
+                return 0;
+            }
+            long waitMillis = TimeUnit.SECONDS.toMillis(resetEpochSeconds) - System.currentTimeMillis();
+            if (waitMillis <= 0) {
+                // reset 시각이 지났으면 다음 응답으로 갱신될 때까지 quota를 알 수 없는 상태로 둔다.
+                remaining = -1;
+                return 0;
+            }
+            return waitMillis + 1000;
+        }
+
+        private long tryTakeToken(double requestsPerSecond, int burst) {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * requestsPerSecond);
+            lastRefillNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                if (remaining > 0) {
+                    remaining--;
+                }
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / requestsPerSecond * 1000));
+        }
+    }
+}
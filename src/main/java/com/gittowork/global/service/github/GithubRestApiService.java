@@ -2,7 +2,7 @@ package com.gittowork.global.service.github;
 
 import com.gittowork.domain.github.entity.*;
 import com.gittowork.domain.github.model.commit.Commit;
-import com.gittowork.domain.github.model.event.Event;
+import com.gittowork.domain.github.model.payload.*;
 import com.gittowork.domain.github.model.issue.IssueLabel;
 import com.gittowork.domain.github.model.issue.IssueUser;
 import com.gittowork.domain.github.model.pullrequest.PullRequestBranch;
@@ -10,31 +10,50 @@ import com.gittowork.domain.github.model.pullrequest.PullRequestUser;
 import com.gittowork.domain.github.model.repository.Repository;
 import com.gittowork.domain.github.repository.*;
 import com.gittowork.global.exception.github.GithubRepositoryNotFoundException;
+import com.gittowork.global.properties.GithubIngestionProperties;
+import com.gittowork.global.service.git.CloneLease;
+import com.gittowork.global.service.git.CommitChanges;
+import com.gittowork.global.service.git.GitHistoryMiner;
+import com.gittowork.global.service.git.GitRepositoryService;
+import com.gittowork.global.utils.ShaSet;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.*;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.File;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class GithubRestApiService {
 
-    private final RestTemplate restTemplate;
+    // GitHub는 push 이벤트의 commits 배열을 최대 20개까지만 보낸다.
+    private static final int MAX_PUSH_COMMITS = 20;
+
+    private final GithubApiClient githubApiClient;
     private final GithubRepoRepository githubRepoRepository;
     private final GithubCommitRepository githubCommitRepository;
     private final GithubLanguageRepository githubLanguageRepository;
     private final GithubIssueRepository githubIssueRepository;
     private final GithubPullRequestRepository githubPullRequestRepository;
     private final GithubEventRepository githubEventRepository;
+    private final GithubEventPoller githubEventPoller;
+    private final GithubSyncCheckpointRepository githubSyncCheckpointRepository;
+    private final GithubIngestionRunner githubIngestionRunner;
+    private final GithubIngestionProperties githubIngestionProperties;
+    private final GitRepositoryService gitRepositoryService;
+    private final GitHistoryMiner gitHistoryMiner;
 
     @Value("${github.client.id}")
     private String clientId;
@@ -46,20 +65,32 @@ public class GithubRestApiService {
     private String redirectUri;
 
     @Autowired
-    public GithubRestApiService(RestTemplate restTemplate,
+    public GithubRestApiService(GithubApiClient githubApiClient,
                                 GithubRepoRepository githubRepoRepository,
                                 GithubCommitRepository githubCommitRepository,
                                 GithubLanguageRepository githubLanguageRepository,
                                 GithubIssueRepository githubIssueRepository,
                                 GithubPullRequestRepository githubPullRequestRepository,
-                                GithubEventRepository githubEventRepository) {
-        this.restTemplate = restTemplate;
+                                GithubEventRepository githubEventRepository,
+                                GithubEventPoller githubEventPoller,
+                                GithubSyncCheckpointRepository githubSyncCheckpointRepository,
+                                GithubIngestionRunner githubIngestionRunner,
+                                GithubIngestionProperties githubIngestionProperties,
+                                GitRepositoryService gitRepositoryService,
+                                GitHistoryMiner gitHistoryMiner) {
+        this.githubApiClient = githubApiClient;
         this.githubRepoRepository = githubRepoRepository;
         this.githubCommitRepository = githubCommitRepository;
         this.githubLanguageRepository = githubLanguageRepository;
         this.githubIssueRepository = githubIssueRepository;
         this.githubPullRequestRepository = githubPullRequestRepository;
         this.githubEventRepository = githubEventRepository;
+        this.githubEventPoller = githubEventPoller;
+        this.githubSyncCheckpointRepository = githubSyncCheckpointRepository;
+        this.githubIngestionRunner = githubIngestionRunner;
+        this.githubIngestionProperties = githubIngestionProperties;
+        this.gitRepositoryService = gitRepositoryService;
+        this.gitHistoryMiner = gitHistoryMiner;
     }
 
     // ============================================================
@@ -68,16 +99,15 @@ public class GithubRestApiService {
 
     /**
      * 1. 메서드 설명: GitHub API를 호출하여 사용자의 repository 목록을 조회하고,
-     *    userId를 기준으로 기존에 DB에 저장된 repository들과 비교하여, 중복되지 않는 신규 repository만을 추가(중복 방지)한 후,
-     *    GithubRepository Document를 저장하는 메서드.
+     *    userId를 기준으로 기존에 DB에 저장된 repository들과 repoId로 비교하여, 신규 repository는 추가하고
+     *    메타데이터가 바뀐 repository는 바뀐 필드만 갱신하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 "https://api.github.com/users/{githubName}/repos" 엔드포인트에 GET 요청을 보낸다.
-     *    - API 응답이 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
-     *    - 응답 데이터를 Repository 객체 리스트로 매핑한다.
-     *    - DB에서 userId에 해당하는 GithubRepository 문서가 존재하는지 확인한다.
-     *         - 존재하는 경우: 기존 repositories 목록에서 repoName을 기준으로 중복을 제거하고,
-     *           신규 repository만 추가한 후 업데이트(save)한다.
-     *         - 존재하지 않는 경우: 새로운 GithubRepository Document를 생성하여 삽입한다.
+     *    - DB에서 userId에 해당하는 GithubRepository 문서를 조회하여 RepositoryMetadataDiff를 만든다.
+     *    - accessToken과 githubName을 사용하여 "/users/{githubName}/repos" 엔드포인트를 페이지 단위(per_page=100)로 조회한다.
+     *    - 각 페이지의 응답 데이터를 Repository 객체 리스트로 매핑하고, 저장된 값과 비교한 변경분만
+     *      applyRepositoryChanges로 반영한다. (신규 repository는 $push, 변경된 필드는 "repositories.$.필드" $set)
+     *    - 변경이 없는 페이지는 쓰기를 하지 않으며, Document 전체를 다시 저장하지 않는다.
+     *    - 마지막에 추가 / 변경 / 유지된 repository 수를 로그로 남긴다.
      * 3. param:
      *      String accessToken - GitHub API 접근에 사용되는 access token.
      *      String githubName  - GitHub 사용자 이름.
@@ -85,60 +115,80 @@ public class GithubRestApiService {
      * 4. return: GithubRepository - 저장된 GithubRepository Document.
      */
     public GithubRepository saveUserGithubRepository(String accessToken, String githubName, int userId) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                "https://api.github.com/users/{githubName}/repos",
-                HttpMethod.GET,
-                request,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {},
+        return saveUserGithubRepository(accessToken, githubName, userId, page -> {});
+    }
+
+    /**
+     * 1. 메서드 설명: repository 목록을 저장하면서, 페이지마다 조회된 repository 목록을 pageConsumer에 전달한다.
+     *    (GithubSyncPipeline이 목록 조회가 끝나기 전에 다음 단계를 시작할 수 있도록 하기 위함이며, 저장 로직은 위 메서드와 같다.)
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      githubName   - GitHub 사용자 이름.
+     *      userId       - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      pageConsumer - 페이지 단위로 조회된 repository 목록(기존 repository 포함)을 받는 함수.
+     * 4. return: GithubRepository - 저장된 GithubRepository Document.
+     */
+    public GithubRepository saveUserGithubRepository(String accessToken, String githubName, int userId,
+                                                     Consumer<List<Repository>> pageConsumer) {
+        GithubRepository githubRepository = githubRepoRepository.findByUserId(userId)
+                .orElseGet(() -> GithubRepository.builder()
+                        .userId(userId)
+                        .repositories(new ArrayList<>())
+                        .build());
+        RepositoryMetadataDiff diff = new RepositoryMetadataDiff(githubRepository.getRepositories());
+
+        githubApiClient.forEachPage(
+                accessToken,
+                MediaType.APPLICATION_JSON,
+                new ParameterizedTypeReference<List<GithubRepositoryPayload>>() {},
+                page -> {
+                    List<Repository> pageRepositories = page.stream()
+                            .map(this::parseRepository)
+                            .toList();
+                    RepositoryMetadataDiff.Changes changes = diff.apply(pageRepositories);
+                    if (!changes.isEmpty()) {
+                        githubRepoRepository.applyRepositoryChanges(userId, changes.added(), changes.changedFields());
+                    }
+                    pageConsumer.accept(pageRepositories);
+                },
+                "/users/{githubName}/repos",
                 githubName
         );
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch repositories - HTTP " + response.getStatusCode());
-        }
-        List<Map<String, Object>> responseBody = response.getBody();
-        List<Repository> newRepositories = (responseBody == null ? Collections.emptyList() : responseBody)
-                .stream()
-                .map(obj -> {
-                    Map<String, Object> map = (Map<String, Object>) obj;
-                    return Repository.builder()
-                            .repoId((Integer) map.get("id"))
-                            .repoName(map.get("name").toString())
-                            .fullName(map.get("full_name").toString())
-                            .language(map.get("language") != null ? map.get("language").toString() : null)
-                            .stargazersCount((Integer) map.get("stargazers_count"))
-                            .forksCount((Integer) map.get("forks_count"))
-                            .createdAt(OffsetDateTime.parse(map.get("created_at").toString()).toLocalDateTime())
-                            .updatedAt(OffsetDateTime.parse(map.get("updated_at").toString()).toLocalDateTime())
-                            .pushedAt(OffsetDateTime.parse(map.get("pushed_at").toString()).toLocalDateTime())
-                            .description(map.get("description") != null ? map.get("description").toString() : "")
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        Optional<GithubRepository> optionalGithubRepo = githubRepoRepository.findByUserId(userId);
-        if (optionalGithubRepo.isPresent()) {
-            GithubRepository existingRepo = optionalGithubRepo.get();
-
-            Set<String> existingRepoNames = existingRepo.getRepositories().stream()
-                    .map(Repository::getRepoName)
-                    .collect(Collectors.toSet());
-
-            List<Repository> repositoriesToAdd = newRepositories.stream()
-                    .filter(repo -> !existingRepoNames.contains(repo.getRepoName()))
-                    .toList();
-
-            List<Repository> mergedRepositories = new ArrayList<>(existingRepo.getRepositories());
-            mergedRepositories.addAll(repositoriesToAdd);
-            existingRepo.setRepositories(mergedRepositories);
-            return githubRepoRepository.save(existingRepo);
-        } else {
-            GithubRepository githubRepository = GithubRepository.builder()
-                    .userId(userId)
-                    .repositories(newRepositories)
-                    .build();
-            return githubRepoRepository.save(githubRepository);
+
+        log.info("{}: repository metadata refreshed - added {}, updated {}, unchanged {}",
+                githubName, diff.added(), diff.updated(), diff.unchanged());
+        if (githubRepository.getGithubRepositoryId() == null) {
+            return githubRepoRepository.findByUserId(userId).orElseGet(() -> {
+                githubRepository.setRepositories(diff.repositories());
+                return githubRepository;
+            });
         }
+        githubRepository.setRepositories(diff.repositories());
+        return githubRepository;
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub repository 응답 payload를 Repository 객체로 변환하는 헬퍼 메서드.
+     * 2. 로직:
+     *    - id, name, full_name, language, stargazers_count, forks_count, 생성/수정/push 시각, description을 옮겨 담는다.
+     *    - push 이력이 없는 빈 repository는 pushed_at이 null일 수 있으므로 null을 그대로 유지한다.
+     * 3. param:
+     *      payload - GitHub repository API 응답 payload.
+     * 4. return: 변환된 Repository 객체.
+     */
+    private Repository parseRepository(GithubRepositoryPayload payload) {
+        return Repository.builder()
+                .repoId(payload.getId())
+                .repoName(payload.getName())
+                .fullName(payload.getFullName())
+                .language(payload.getLanguage())
+                .stargazersCount(payload.getStargazersCount())
+                .forksCount(payload.getForksCount())
+                .createdAt(toLocalDateTime(payload.getCreatedAt()))
+                .updatedAt(toLocalDateTime(payload.getUpdatedAt()))
+                .pushedAt(toLocalDateTime(payload.getPushedAt()))
+                .description(payload.getDescription() != null ? payload.getDescription() : "")
+                .build();
     }
 
     // ============================================================
@@ -147,13 +197,20 @@ public class GithubRestApiService {
 
     /**
      * 1. 메서드 설명: GitHub API를 호출하여 사용자의 각 repository에 대한 커밋 정보를 조회하고,
-     *    각 repository별로 기존 DB에 저장된 커밋(Document)와 비교하여, commitSha 기준으로 신규 커밋만 추가(중복 방지)하는 메서드.
+     *    repository별 동기화 checkpoint 이후의 신규 커밋만 상세 조회하여 저장하는 메서드.
      * 2. 로직:
      *    - accessToken과 githubName을 사용하여 각 repository의 커밋 정보를 조회한다.
-     *    - API 응답이 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
-     *    - 각 repository에 대해 기존 DB에 저장된 GithubCommit Document가 있는지 확인한다.
-     *         * 존재하는 경우: 기존 Document의 commitSha들을 기준으로 신규 커밋만 필터링하여 추가한 후 업데이트한다.
-     *         * 존재하지 않는 경우: 조회된 커밋 전체를 포함하는 새로운 GithubCommit Document를 생성하여 저장한다.
+     *      (repository 단위 작업은 GithubIngestionRunner를 통해 병렬로 실행되며, 실패한 repository는 건너뛴다.)
+     *    - 커밋 목록은 HEAD부터 최신순으로 페이지 단위(per_page=100)로 조회하며, 페이지마다 다음을 수행한다.
+     *         * checkpoint의 head SHA와 이번 동기화에서 이미 확인한 SHA를 제외하고,
+     *           남은 SHA 중 이미 저장된 SHA를 findExistingShas 한 번으로 제외한다.
+     *         * 남은 신규 커밋에 대해서만 변경 파일과 추가/삭제 라인 수를 채운다. (fillCommitDetails)
+     *         * 신규 커밋을 GithubCommit bucket Document에 $push로 추가한다. (bucket이 가득 차면 새 bucket을 생성한다.)
+     *    - checkpoint의 head SHA에 도달한 뒤(checkpoint가 없으면 처음부터) 신규 커밋이 없는 페이지를 만나면 조회를 멈춘다.
+     *      커밋 날짜(since)로 거르지 않으므로, checkpoint 이후 병합된 브랜치의 이전 날짜 커밋도 조회되며
+     *      저장된 SHA 전체를 읽지 않으므로 비용은 바뀐 커밋 수에 비례한다.
+     *    - 모든 페이지를 처리한 뒤 최신 커밋 SHA와 커밋 날짜로 checkpoint를 갱신한다.
+     *      (중간 페이지에서 실패하면 checkpoint를 갱신하지 않아 다음 동기화에서 다시 조회된다.)
      * 3. param:
      *      accessToken - GitHub API 접근에 사용되는 access token.
      *      githubName  - GitHub 사용자 이름.
@@ -161,138 +218,275 @@ public class GithubRestApiService {
      * 4. return: 없음.
      */
     public void saveUserGithubCommits(String accessToken, String githubName, int userId) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-        HttpEntity<String> detailRequest = new HttpEntity<>(createHeaders(accessToken, MediaType.valueOf("application/vnd.github.v3+json")));
-
-        // DB에서 해당 userId의 GithubRepository Document를 조회하여 연관 repository 목록 가져오기
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
+        saveUserGithubCommits(accessToken, githubName, userId, findRepositories(userId));
+    }
 
-        // 각 repository에 대해 커밋 정보를 가져와서 중복 여부를 판단 후 저장
-        repositories.forEach(repository -> {
+    /**
+     * 1. 메서드 설명: 주어진 repository 목록에 대해서만 커밋를 동기화한다.
+     *    (GithubSyncPipeline이 repository 목록을 페이지 단위로 전달할 때 사용하며, 로직은 위 메서드와 같다.)
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      githubName   - GitHub 사용자 이름.
+     *      userId       - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repositories - 동기화할 repository 목록.
+     * 4. return: 없음.
+     */
+    public void saveUserGithubCommits(String accessToken, String githubName, int userId, List<Repository> repositories) {
+        // 각 repository에 대해 checkpoint 이후의 커밋만 가져와서 중복 여부를 판단 후 저장
+        githubIngestionRunner.forEachRepository(accessToken, repositories, "commit", repository -> {
             String repositoryName = repository.getRepoName();
             int repoId = repository.getRepoId();
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    "https://api.github.com/repos/{githubName}/{repositoryName}/commits",
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                    githubName,
-                    repositoryName
-            );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch commits for repository: " + repositoryName + " - HTTP " + response.getStatusCode());
+            Optional<GithubSyncCheckpoint> checkpointOpt = githubSyncCheckpointRepository.findByUserIdAndRepoId(userId, repoId);
+            String checkpointSha = checkpointOpt.map(GithubSyncCheckpoint::getHeadSha).orElse(null);
+
+            // 조회 중 새 커밋이 push되어 페이지 경계가 밀려도 같은 커밋을 두 번 처리하지 않도록 이번 동기화에서 확인한 SHA를 기억한다.
+            ShaSet seenShas = new ShaSet();
+            AtomicBoolean reachedCheckpoint = new AtomicBoolean(checkpointSha == null);
+            // 목록은 최신순이므로 첫 페이지의 첫 커밋이 head가 된다.
+            AtomicReference<String> headSha = new AtomicReference<>();
+            AtomicReference<LocalDateTime> latestDate = new AtomicReference<>();
+            try (LocalClone localClone = new LocalClone(repository.getFullName(), accessToken)) {
+                forEachCommitPage(accessToken, githubName, repositoryName, page -> {
+                    List<Commit> fetchedCommits = page.stream()
+                            .map(this::parseCommit)
+                            .toList();
+                    headSha.compareAndSet(null, fetchedCommits.get(0).getCommitSha());
+                    fetchedCommits.stream()
+                            .map(Commit::getCommitDate)
+                            .filter(Objects::nonNull)
+                            .forEach(date -> latestDate.accumulateAndGet(date,
+                                    (current, next) -> current == null || next.isAfter(current) ? next : current));
+
+                    List<Commit> candidates = new ArrayList<>();
+                    for (Commit commit : fetchedCommits) {
+                        if (commit.getCommitSha().equals(checkpointSha)) {
+                            reachedCheckpoint.set(true);
+                        } else if (seenShas.add(commit.getCommitSha())) {
+                            candidates.add(commit);
+                        }
+                    }
+                    Set<String> existingShas = githubCommitRepository.findExistingShas(userId, repoId,
+                            candidates.stream().map(Commit::getCommitSha).toList());
+                    List<Commit> newCommits = candidates.stream()
+                            .filter(commit -> !existingShas.contains(commit.getCommitSha()))
+                            .toList();
+                    if (!newCommits.isEmpty()) {
+                        fillCommitDetails(accessToken, githubName, repositoryName, localClone, newCommits);
+                        githubCommitRepository.appendCommits(userId, repoId, newCommits);
+                    }
+                    return !reachedCheckpoint.get() || !newCommits.isEmpty();
+                });
             }
-            List<Map<String, Object>> responseBody = response.getBody();
-            List<Commit> fetchedCommits = (responseBody == null ? Collections.<Map<String, Object>>emptyList() : responseBody)
-                    .stream()
-                    .map(commitMap -> parseCommit(commitMap, githubName, repositoryName, detailRequest))
-                    .toList();
-
-            Optional<GithubCommit> existingCommitOpt = githubCommitRepository.findByUserIdAndRepoId(userId, repoId);
-            if (existingCommitOpt.isPresent()) {
-                GithubCommit existingCommitDoc = existingCommitOpt.get();
-                Set<String> existingCommitShas = existingCommitDoc.getCommits().stream()
-                        .map(Commit::getCommitSha)
-                        .collect(Collectors.toSet());
-                List<Commit> newCommits = fetchedCommits.stream()
-                        .filter(commit -> !existingCommitShas.contains(commit.getCommitSha()))
-                        .toList();
-                if (!newCommits.isEmpty()) {
-                    existingCommitDoc.getCommits().addAll(newCommits);
-                    githubCommitRepository.save(existingCommitDoc);
-                }
-            } else {
-                GithubCommit newCommitDoc = GithubCommit.builder()
-                        .userId(userId)
-                        .repoId(repoId)
-                        .commits(fetchedCommits)
-                        .build();
-                githubCommitRepository.save(newCommitDoc);
+
+            if (headSha.get() != null) {
+                saveCommitCheckpoint(checkpointOpt.orElse(null), userId, repoId, headSha.get(), latestDate.get());
             }
         });
     }
 
     /**
-     * 1. 메서드 설명: API 응답 데이터에서 commit 정보를 파싱하여 Commit 객체를 생성하는 메서드.
+     * 1. 메서드 설명: repository의 커밋 목록(상세 정보 제외)을 HEAD부터 최신순으로 페이지 단위로 조회하는 헬퍼 메서드.
      * 2. 로직:
-     *    - commitMap으로부터 commit 정보, SHA, 메시지, 작성자, 작성 날짜를 추출한다.
-     *    - fetchFilesChanged()를 호출하여 해당 commit의 파일 변경 내역(코드 파일만)을 조회한다.
-     *    - 빌더 패턴을 활용하여 Commit 객체를 생성한다.
+     *    - 각 페이지를 받는 즉시 pageHandler에 전달하며, pageHandler가 false를 반환하면 다음 페이지를 조회하지 않는다.
+     *    - 요청 URI가 매번 같으므로 변경이 없는 첫 페이지는 조건부 요청(304)으로 확인된다.
      * 3. param:
-     *      commitMap      - GitHub commit API 응답 데이터의 Map.
+     *      accessToken    - GitHub API 접근에 사용되는 access token.
      *      githubName     - GitHub 사용자 이름.
      *      repositoryName - repository 이름.
-     *      detailRequest  - 상세 commit API 호출을 위한 HttpEntity.
-     * 4. return: 파싱된 정보를 기반으로 생성된 Commit 객체.
+     *      pageHandler    - 페이지 단위로 GitHub commit API 응답 payload를 처리하고, 다음 페이지를 조회할지 반환하는 함수.
+     * 4. return: 없음.
      */
-    private Commit parseCommit(Map<String, Object> commitMap, String githubName, String repositoryName, HttpEntity<String> detailRequest) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> commitInfo = (Map<String, Object>) commitMap.get("commit");
-        String sha = (String) commitMap.get("sha");
-        String message = (String) commitInfo.get("message");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> authorInfo = (Map<String, Object>) commitInfo.get("author");
-        String dateString = (String) authorInfo.get("date");
-        LocalDateTime commitDate = OffsetDateTime.parse(dateString).toLocalDateTime();
+    private void forEachCommitPage(String accessToken, String githubName, String repositoryName,
+                                   Predicate<List<GithubCommitPayload>> pageHandler) {
+        githubApiClient.forEachPageWhile(
+                accessToken,
+                MediaType.APPLICATION_JSON,
+                new ParameterizedTypeReference<List<GithubCommitPayload>>() {},
+                pageHandler,
+                "/repos/{githubName}/{repositoryName}/commits",
+                githubName,
+                repositoryName
+        );
+    }
+
+    /**
+     * 1. 메서드 설명: 커밋 동기화 checkpoint를 이번 동기화 결과 기준으로 생성 또는 갱신한다.
+     * 2. 로직:
+     *    - 조회된 목록의 첫 번째 커밋(최신 커밋)의 SHA를 head SHA로 저장한다.
+     *    - 조회된 커밋 중 가장 늦은 커밋 날짜를 마지막 커밋 날짜로 저장한다. (기존 값보다 이전이면 유지)
+     * 3. param:
+     *      checkpoint - 기존 checkpoint. 없으면 null.
+     *      userId     - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repoId     - repository 식별자.
+     *      headSha    - 이번 동기화에서 조회된 최신 커밋 SHA.
+     *      latestDate - 이번 동기화에서 조회된 가장 늦은 커밋 날짜.
+     * 4. return: 없음.
+     */
+    private void saveCommitCheckpoint(GithubSyncCheckpoint checkpoint, int userId, int repoId, String headSha, LocalDateTime latestDate) {
+        GithubSyncCheckpoint target = checkpoint != null ? checkpoint : GithubSyncCheckpoint.builder()
+                .userId(userId)
+                .repoId(repoId)
+                .build();
+        if (target.getLastCommitDate() == null || (latestDate != null && latestDate.isAfter(target.getLastCommitDate()))) {
+            target.setLastCommitDate(latestDate);
+        }
+        target.setHeadSha(headSha);
+        target.setSyncedAt(LocalDateTime.now());
+        githubSyncCheckpointRepository.save(target);
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub commit 응답 payload를 Commit 객체로 변환하는 메서드.
+     * 2. 로직:
+     *    - payload로부터 SHA, 메시지, 작성자, 작성 날짜를 추출한다.
+     *    - 파일 변경 내역은 신규 커밋으로 판별된 경우에만 fillCommitDetails()로 별도 조회하므로 여기서는 채우지 않는다.
+     *    - 빌더 패턴을 활용하여 Commit 객체를 생성한다.
+     * 3. param:
+     *      payload - GitHub commit API 응답 payload.
+     * 4. return: 변환된 Commit 객체.
+     */
+    private Commit parseCommit(GithubCommitPayload payload) {
+        GithubCommitPayload.CommitInfo commitInfo = payload.getCommit();
+        GithubCommitPayload.CommitAuthor author = commitInfo.getAuthor();
         Map<String, String> authorMap = Map.of(
-                "name", (String) authorInfo.get("name"),
-                "email", (String) authorInfo.get("email")
+                "name", author.getName(),
+                "email", author.getEmail()
         );
-        List<String> filesChanged = fetchFilesChanged(githubName, repositoryName, sha, detailRequest);
         return Commit.builder()
-                .commitSha(sha)
-                .commitMessage(message)
-                .commitDate(commitDate)
+                .commitSha(payload.getSha())
+                .commitMessage(commitInfo.getMessage())
+                .commitDate(toLocalDateTime(author.getDate()))
                 .author(authorMap)
-                .filesChanged(filesChanged)
                 .build();
     }
 
+    /**
+     * 1. 메서드 설명: 신규 커밋들의 변경 파일(코드 파일만)과 추가/삭제 라인 수를 채우는 헬퍼 메서드.
+     * 2. 로직:
+     *    - commitDetailSource가 CLONE이면 로컬 클론을 GitHistoryMiner로 한 번에 분석한다. (API quota를 사용하지 않는다.)
+     *      repository마다 하나의 Session을 사용하므로 페이지가 늘어나도 이력은 한 번만 순회한다.
+     *    - 클론/분석에 실패했거나 클론에서 찾지 못한 커밋(기본 브랜치 밖의 커밋 등)은 상세 commit API로 조회한다.
+     * 3. param:
+     *      accessToken    - GitHub API 접근에 사용되는 access token.
+     *      githubName     - GitHub 사용자 이름.
+     *      repositoryName - repository 이름.
+     *      localClone     - repository의 로컬 클론 (처음 사용할 때 클론 또는 fetch 한다).
+     *      commits        - 상세 정보를 채울 커밋 목록.
+     * 4. return: 없음.
+     */
+    private void fillCommitDetails(String accessToken, String githubName, String repositoryName, LocalClone localClone, List<Commit> commits) {
+        Map<String, CommitChanges> minedChanges = Collections.emptyMap();
+        if (githubIngestionProperties.getCommitDetailSource() == GithubIngestionProperties.CommitDetailSource.CLONE) {
+            GitHistoryMiner.Session history = localClone.history();
+            if (history != null) {
+                try {
+                    minedChanges = history.mine(commits.stream().map(Commit::getCommitSha).toList());
+                } catch (RuntimeException e) {
+                    log.warn("Falling back to commit API for {}: {}", repositoryName, e.getMessage());
+                }
+            }
+        }
+
+        for (Commit commit : commits) {
+            CommitChanges changes = minedChanges.get(commit.getCommitSha());
+            if (changes != null) {
+                commit.setFilesChanged(changes.getFiles().stream().filter(this::isCodeFile).toList());
+                commit.setAdditions(changes.getAdditions());
+                commit.setDeletions(changes.getDeletions());
+            } else {
+                fetchCommitDetail(accessToken, githubName, repositoryName, commit);
+            }
+        }
+    }
+
     /**
      * 1. 메서드 설명: GitHub 상세 commit API를 호출하여 commit의 파일 변경 내역에서,
-     *    코드 파일(주 언어 파일)에 해당하는 파일의 filename을 추출하여 반환하는 헬퍼 메서드.
+     *    코드 파일(주 언어 파일)에 해당하는 파일의 filename과 추가/삭제 라인 수를 채우는 헬퍼 메서드.
      * 2. 로직:
-     *    - commit SHA를 이용해 상세 commit API를 호출하고, 응답 상태가 2xx가 아니면 예외를 발생시킨다.
-     *    - 응답 데이터의 "files" 항목을 순회하면서, isCodeFile()을 통해 코드 파일로 판단되면 filename을 추출한다.
-     *    - 코드 파일이 아닌 경우는 제외하고, 해당 filename들의 List를 반환한다.
+     *    - commit SHA를 이용해 상세 commit API를 호출한다. (커밋 상세는 변하지 않으므로 조건부 캐시를 사용하지 않는다.)
+     *    - 응답 payload의 files 항목을 순회하면서, isCodeFile()을 통해 코드 파일로 판단되면 filename을 추출한다.
+     *    - 추가/삭제 라인 수는 전체 파일의 additions / deletions 합계로 계산한다.
      * 3. param:
+     *      accessToken    - GitHub API 접근에 사용되는 access token.
      *      githubName     - GitHub 사용자 이름.
      *      repositoryName - repository 이름.
-     *      sha            - commit SHA.
-     *      detailRequest  - 상세 commit API 호출을 위한 HttpEntity.
-     * 4. return: 코드 파일에 해당하는 filename들을 포함한 List<String> 객체.
+     *      commit         - 상세 정보를 채울 커밋.
+     * 4. return: 없음.
      */
-    @SuppressWarnings("unchecked")
-    private List<String> fetchFilesChanged(String githubName, String repositoryName, String sha, HttpEntity<String> detailRequest) {
-        ResponseEntity<Map<String, Object>> detailResponse = restTemplate.exchange(
-                "https://api.github.com/repos/{githubName}/{repositoryName}/commits/{sha}",
-                HttpMethod.GET,
-                detailRequest,
-                new ParameterizedTypeReference<Map<String, Object>>() {},
+    private void fetchCommitDetail(String accessToken, String githubName, String repositoryName, Commit commit) {
+        GithubCommitDetailPayload detail = githubApiClient.get(
+                accessToken,
+                MediaType.valueOf("application/vnd.github.v3+json"),
+                new ParameterizedTypeReference<GithubCommitDetailPayload>() {},
+                "/repos/{githubName}/{repositoryName}/commits/{sha}",
                 githubName,
                 repositoryName,
-                sha
-        );
-        if (!detailResponse.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch commit details for sha: " + sha + " - HTTP " + detailResponse.getStatusCode());
+                commit.getCommitSha()
+        ).getBody();
+        List<GithubCommitDetailPayload.FileChange> files = (detail == null || detail.getFiles() == null)
+                ? Collections.emptyList()
+                : detail.getFiles();
+        commit.setFilesChanged(files.stream()
+                .map(GithubCommitDetailPayload.FileChange::getFilename)
+                .filter(this::isCodeFile)
+                .toList());
+        commit.setAdditions(files.stream().mapToInt(GithubCommitDetailPayload.FileChange::getAdditions).sum());
+        commit.setDeletions(files.stream().mapToInt(GithubCommitDetailPayload.FileChange::getDeletions).sum());
+    }
+
+    /**
+     * repository 동기화 동안 로컬 클론을 처음 필요할 때 한 번만 클론 또는 fetch 하고, 커밋 이력 Session을 한 번만 여는 holder.
+     * 실패하면 null을 반환하여 API 조회로 대체한다. 동기화가 끝나면 close() 하여 Session을 닫고 클론 사용권을 반납한다.
+     */
+    private class LocalClone implements AutoCloseable {
+        private final String fullName;
+        private final String accessToken;
+        private CloneLease lease;
+        private boolean resolved;
+        private GitHistoryMiner.Session history;
+        private boolean historyOpened;
+
+        private LocalClone(String fullName, String accessToken) {
+            this.fullName = fullName;
+            this.accessToken = accessToken;
+        }
+
+        private File get() {
+            if (!resolved) {
+                resolved = true;
+                try {
+                    lease = gitRepositoryService.cloneOrFetch(fullName, accessToken);
+                } catch (RuntimeException e) {
+                    log.warn("Local clone unavailable for {}: {}", fullName, e.getMessage());
+                }
+            }
+            return lease == null ? null : lease.directory();
         }
-        Map<String, Object> detailBody = detailResponse.getBody();
-        if (detailBody == null) {
-            return Collections.emptyList();
+
+        private GitHistoryMiner.Session history() {
+            if (!historyOpened) {
+                historyOpened = true;
+                File repoDir = get();
+                if (repoDir != null) {
+                    try {
+                        history = gitHistoryMiner.open(repoDir);
+                    } catch (RuntimeException e) {
+                        log.warn("Commit history unavailable for {}: {}", fullName, e.getMessage());
+                    }
+                }
+            }
+            return history;
         }
-        List<Map<String, Object>> filesList = (List<Map<String, Object>>) detailBody.get("files");
-        if (filesList == null) {
-            return Collections.emptyList();
+
+        @Override
+        public void close() {
+            if (history != null) {
+                history.close();
+            }
+            if (lease != null) {
+                lease.close();
+            }
         }
-        return filesList.stream()
-                .filter(fileMap -> {
-                    String fullFilename = (String) fileMap.get("filename");
-                    return isCodeFile(fullFilename);
-                })
-                .map(fileMap -> (String) fileMap.get("filename"))
-                .toList();
     }
 
     /**
@@ -330,6 +524,7 @@ public class GithubRestApiService {
      *    존재하지 않으면 신규 Document를 삽입하는 메서드.
      * 2. 로직:
      *    - accessToken과 githubName을 사용하여 "https://api.github.com/repos/{githubName}/{repositoryName}/languages" 엔드포인트에서 언어 정보를 조회한다.
+     *      (repository 단위 작업은 GithubIngestionRunner를 통해 병렬로 실행되며, 실패한 repository는 건너뛴다.)
      *    - 응답 상태가 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 Map으로 처리한다.
      *    - 각 repository에 대해 DB에서 userId와 repoId로 GithubLanguage Document를 조회한다.
      *         * 존재하면, 응답으로 받은 언어 정보를 기존 Document의 languages 필드에 업데이트한 후 저장한다.
@@ -341,29 +536,32 @@ public class GithubRestApiService {
      * 4. return: 없음.
      */
     public void saveUserRepositoryLanguage(String accessToken, String githubName, int userId) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
+        saveUserRepositoryLanguage(accessToken, githubName, userId, findRepositories(userId));
+    }
 
-        repositories.forEach(repository -> {
+    /**
+     * 1. 메서드 설명: 주어진 repository 목록에 대해서만 언어 정보를 동기화한다.
+     *    (GithubSyncPipeline이 repository 목록을 페이지 단위로 전달할 때 사용하며, 로직은 위 메서드와 같다.)
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      githubName   - GitHub 사용자 이름.
+     *      userId       - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repositories - 동기화할 repository 목록.
+     * 4. return: 없음.
+     */
+    public void saveUserRepositoryLanguage(String accessToken, String githubName, int userId, List<Repository> repositories) {
+        githubIngestionRunner.forEachRepository(accessToken, repositories, "language", repository -> {
             String repositoryName = repository.getRepoName();
             int repoId = repository.getRepoId();
 
-            ResponseEntity<Map<String, Long>> response = restTemplate.exchange(
-                    "https://api.github.com/repos/{githubName}/{repositoryName}/languages",
-                    HttpMethod.GET,
-                    request,
+            Map<String, Long> languageMap = githubApiClient.getConditional(
+                    accessToken,
+                    MediaType.APPLICATION_JSON,
                     new ParameterizedTypeReference<Map<String, Long>>() {},
+                    "/repos/{githubName}/{repositoryName}/languages",
                     githubName,
                     repositoryName
-            );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch languages for repository: " + repositoryName
-                        + " - HTTP " + response.getStatusCode());
-            }
-            Map<String, Long> languageMap = response.getBody();
+            ).getBody();
             languageMap = (languageMap == null) ? Collections.emptyMap() : languageMap;
 
             Optional<GithubLanguage> existingLanguageOpt = githubLanguageRepository.findByUserIdAndRepoId(userId, repoId);
@@ -390,10 +588,11 @@ public class GithubRestApiService {
      * 1. 메서드 설명: GitHub API를 호출하여 사용자의 각 repository에 대한 이슈 정보를 조회하고,
      *    각 repository별로 기존 DB에 저장된 이슈(issueId 기준)와 비교하여 중복되지 않는 신규 이슈만을 DB에 저장하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 "https://api.github.com/repos/{userName}/{repositoryName}/issues?state=all" 엔드포인트에서 이슈 정보를 조회한다.
-     *    - 응답 상태가 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
+     *    - accessToken과 githubName을 사용하여 "/repos/{userName}/{repositoryName}/issues?state=all" 엔드포인트에서
+     *      이슈 정보를 페이지 단위(per_page=100)로 조회하며, 아래 과정은 페이지마다 수행한다.
+     *      (repository 단위 작업은 GithubIngestionRunner를 통해 병렬로 실행되며, 실패한 repository는 건너뛴다.)
      *    - 조회된 이슈 데이터를 GithubIssue 객체로 매핑한다.
-     *    - 각 이슈에 대해 issueId를 기준으로 DB에 이미 존재하는지 확인한다.
+     *    - 페이지의 issueId 목록으로 한 번의 $in 쿼리를 보내 DB에 이미 존재하는 issueId를 조회한다.
      *         * 존재하지 않는 경우에만 신규 이슈 목록에 포함시킨다.
      *    - 신규 이슈가 있을 경우, 이를 DB에 저장한다.
      * 3. param:
@@ -403,204 +602,124 @@ public class GithubRestApiService {
      * 4. return: 없음.
      */
     public void saveGithubIssues(String accessToken, String githubName, int userId) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.valueOf("application/vnd.github.v3+json")));
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
+        saveGithubIssues(accessToken, githubName, userId, findRepositories(userId));
+    }
 
-        for (Repository repository : repositories) {
+    /**
+     * 1. 메서드 설명: 주어진 repository 목록에 대해서만 이슈를 동기화한다.
+     *    (GithubSyncPipeline이 repository 목록을 페이지 단위로 전달할 때 사용하며, 로직은 위 메서드와 같다.)
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      githubName   - GitHub 사용자 이름.
+     *      userId       - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repositories - 동기화할 repository 목록.
+     * 4. return: 없음.
+     */
+    public void saveGithubIssues(String accessToken, String githubName, int userId, List<Repository> repositories) {
+        githubIngestionRunner.forEachRepository(accessToken, repositories, "issue", repository -> {
             String repositoryName = repository.getRepoName();
+            int repoId = repository.getRepoId();
 
-            String url = "https://api.github.com/repos/{userName}/{repositoryName}/issues?state=all";
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {},
+            githubApiClient.forEachPage(
+                    accessToken,
+                    MediaType.valueOf("application/vnd.github.v3+json"),
+                    new ParameterizedTypeReference<List<GithubIssuePayload>>() {},
+                    issuesData -> {
+                        List<GithubIssue> parsedIssues = issuesData.stream()
+                                .filter(Objects::nonNull)
+                                .map(issue -> parseIssue(issue, repoId))
+                                .toList();
+
+                        Set<Long> existingIssueIds = githubIssueRepository.findIssueIdsByRepoIdAndIssueIdIn(repoId,
+                                        parsedIssues.stream().map(GithubIssue::getIssueId).toList())
+                                .stream()
+                                .map(GithubIssue::getIssueId)
+                                .collect(Collectors.toSet());
+                        List<GithubIssue> newIssues = parsedIssues.stream()
+                                .filter(issue -> !existingIssueIds.contains(issue.getIssueId()))
+                                .toList();
+
+                        if (!newIssues.isEmpty()) {
+                            githubIssueRepository.saveAll(newIssues);
+                        }
+                    },
+                    "/repos/{userName}/{repositoryName}/issues?state=all",
                     githubName,
                     repositoryName
             );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch issues for repository: " + repositoryName + " - HTTP " + response.getStatusCode());
-            }
-            List<Map<String, Object>> issuesData = Optional.ofNullable(response.getBody())
-                    .orElse(Collections.emptyList());
-
-            List<GithubIssue> parsedIssues = issuesData.stream()
-                    .filter(Objects::nonNull) // issueMap 자체가 null인 경우 건너뛰기
-                    .map(issueMap -> {
-                        try {
-                            return parseIssue(issueMap);
-                        } catch (NullPointerException e) {
-                            throw new NullPointerException("Failed to parse issue: " + issueMap.toString());
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-
-            List<GithubIssue> newIssues = parsedIssues.stream()
-                    .filter(issue -> !githubIssueRepository.existsByIssueId(issue.getIssueId()))
-                    .toList();
-
-            if (!newIssues.isEmpty()) {
-                githubIssueRepository.saveAll(newIssues);
-            }
-        }
+        });
     }
 
     /**
-     * 1. 메서드 설명: API 응답 데이터의 개별 이슈 정보를 파싱하여 GithubIssue 객체로 변환하는 헬퍼 메서드.
+     * 1. 메서드 설명: GitHub 이슈 응답 payload를 GithubIssue 객체로 변환하는 헬퍼 메서드.
      * 2. 로직:
-     *    - 기본 필드(repo_id, issue_id, url, comments_url, title, body, comments)를 추출하고,
-     *      중첩 객체(user, labels, assignee, assignees)는 각각 파싱한다.
+     *    - issueId는 GitHub 전역 이슈 id를 사용하고, repoId는 조회 중인 repository의 id를 사용한다.
+     *      (이슈 응답에는 repo_id / issue_id 필드가 없다.)
+     *    - 중첩 객체(user, labels, assignee, assignees)는 각각 변환하며, null 항목은 건너뛴다.
      * 3. param:
-     *      issueMap - GitHub 이슈 API 응답 데이터의 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubIssue 객체.
+     *      payload - GitHub 이슈 API 응답 payload.
+     *      repoId  - 이슈가 속한 repository 식별자.
+     * 4. return: 변환된 GithubIssue 객체.
      */
-    private GithubIssue parseIssue(Map<String, Object> issueMap) {
-        if (issueMap == null) {
-            throw new IllegalArgumentException("issueMap cannot be null");
-        }
-
-        int repoId = Optional.ofNullable(issueMap.get("repo_id"))
-                .filter(Number.class::isInstance)
-                .map(val -> ((Number) val).intValue())
-                .orElse(0);
-        long issueId = Optional.ofNullable(issueMap.get("issue_id"))
-                .filter(Number.class::isInstance)
-                .map(val -> ((Number) val).longValue())
-                .orElse(0L);
-        String url = Optional.ofNullable(issueMap.get("url"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        String commentsUrl = Optional.ofNullable(issueMap.get("comments_url"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        String title = Optional.ofNullable(issueMap.get("title"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        String body = Optional.ofNullable(issueMap.get("body"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        int comments = Optional.ofNullable(issueMap.get("comments"))
-                .filter(Number.class::isInstance)
-                .map(val -> ((Number) val).intValue())
-                .orElse(0);
-
-        IssueUser user = null;
-        Object userObj = issueMap.get("user");
-        if (userObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> userMap = (Map<String, Object>) userObj;
-            try {
-                user = parseIssueUser(userMap);
-            } catch (NullPointerException e) {
-                throw new NullPointerException("Failed to parse user: " + userMap);
-            }
-        }
-
-        List<IssueLabel> labels = Collections.emptyList();
-        Object labelsObj = issueMap.get("labels");
-        if (labelsObj instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> labelsList = (List<Map<String, Object>>) labelsObj;
-            labels = labelsList.stream()
-                    .filter(Objects::nonNull)
-                    .map(labelMap -> {
-                        try {
-                            return parseLabel(labelMap);
-                        } catch (Exception e) {
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-        }
-
-        IssueUser assignee = null;
-        Object assigneeObj = issueMap.get("assignee");
-        if (assigneeObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> assigneeMap = (Map<String, Object>) assigneeObj;
-            try {
-                assignee = parseIssueUser(assigneeMap);
-            } catch (NullPointerException e) {
-                throw new NullPointerException("Failed to parse assignee: " + assigneeMap);
-            }
-        }
-
-        List<IssueUser> assignees = Collections.emptyList();
-        Object assigneesObj = issueMap.get("assignees");
-        if (assigneesObj instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> assigneesList = (List<Map<String, Object>>) assigneesObj;
-            assignees = assigneesList.stream()
-                    .filter(Objects::nonNull)
-                    .map(item -> {
-                        try {
-                            return parseIssueUser(item);
-                        } catch (Exception e) {
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-        }
+    private GithubIssue parseIssue(GithubIssuePayload payload, int repoId) {
+        List<IssueLabel> labels = Optional.ofNullable(payload.getLabels()).orElse(Collections.emptyList())
+                .stream()
+                .filter(Objects::nonNull)
+                .map(this::parseLabel)
+                .toList();
+        List<IssueUser> assignees = Optional.ofNullable(payload.getAssignees()).orElse(Collections.emptyList())
+                .stream()
+                .filter(Objects::nonNull)
+                .map(this::parseIssueUser)
+                .toList();
 
         return GithubIssue.builder()
                 .repoId(repoId)
-                .issueId(issueId)
-                .url(url)
-                .commentsUrl(commentsUrl)
-                .title(title)
-                .body(body)
-                .user(user)
+                .issueId(payload.getId())
+                .url(Objects.requireNonNullElse(payload.getUrl(), ""))
+                .commentsUrl(Objects.requireNonNullElse(payload.getCommentsUrl(), ""))
+                .title(Objects.requireNonNullElse(payload.getTitle(), ""))
+                .body(Objects.requireNonNullElse(payload.getBody(), ""))
+                .user(parseIssueUser(payload.getUser()))
                 .labels(labels)
-                .assignee(assignee)
+                .assignee(parseIssueUser(payload.getAssignee()))
                 .assignees(assignees)
-                .comments(comments)
+                .comments(payload.getComments())
                 .build();
     }
 
     /**
-     * 1. 메서드 설명: GitHub 이슈의 사용자 정보를 파싱하여 GithubIssueUser 객체로 변환하는 헬퍼 메서드.
+     * 1. 메서드 설명: GitHub 사용자 payload를 IssueUser 객체로 변환하는 헬퍼 메서드.
      * 2. 로직:
-     *    - userMap으로부터 login과 id 값을 추출한다.
+     *    - login과 id 값을 옮겨 담는다. payload가 null이면 null을 반환한다.
      * 3. param:
-     *      userMap - GitHub 이슈 API 응답의 user 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubIssueUser 객체.
+     *      user - GitHub 이슈 API 응답의 user payload.
+     * 4. return: 변환된 IssueUser 객체.
      */
-    private IssueUser parseIssueUser(Map<String, Object> userMap) {
-        String login = (String) userMap.get("login");
-        int id = ((Number) userMap.get("id")).intValue();
+    private IssueUser parseIssueUser(GithubUserPayload user) {
+        if (user == null) {
+            return null;
+        }
         return IssueUser.builder()
-                .login(login)
-                .id(id)
+                .login(user.getLogin())
+                .id(user.getId())
                 .build();
     }
 
     /**
-     * 1. 메서드 설명: GitHub 이슈의 레이블 정보를 파싱하여 GithubIssueLabel 객체로 변환하는 헬퍼 메서드.
+     * 1. 메서드 설명: GitHub 레이블 payload를 IssueLabel 객체로 변환하는 헬퍼 메서드.
      * 2. 로직:
-     *    - labelMap에서 id, name, color, description 값을 추출한다.
+     *    - id, name, color, description 값을 옮겨 담는다.
      * 3. param:
-     *      labelMap - GitHub 이슈 API 응답의 레이블 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubIssueLabel 객체.
+     *      label - GitHub 이슈 API 응답의 레이블 payload.
+     * 4. return: 변환된 IssueLabel 객체.
      */
-    private IssueLabel parseLabel(Map<String, Object> labelMap) {
-        int id = ((Number) labelMap.get("id")).intValue();
-        String name = (String) labelMap.get("name");
-        String color = (String) labelMap.get("color");
-        String description = (String) labelMap.get("description");
+    private IssueLabel parseLabel(GithubLabelPayload label) {
         return IssueLabel.builder()
-                .id(id)
-                .name(name)
-                .color(color)
-                .description(description)
+                .id(label.getId())
+                .name(label.getName())
+                .color(label.getColor())
+                .description(label.getDescription())
                 .build();
     }
 
@@ -612,10 +731,12 @@ public class GithubRestApiService {
      * 1. 메서드 설명: GitHub API를 호출하여 사용자의 각 repository에 대한 pull request 정보를 조회하고,
      *    각 repository별로 기존 DB에 저장된 pull request(prId 기준)와 비교하여 중복되지 않는 신규 pull request만을 DB에 저장하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 "https://api.github.com/repos/{userName}/{repositoryName}/pulls?state=all" 엔드포인트에서 pull request 정보를 조회한다.
-     *    - 응답 상태가 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
+     *    - accessToken과 githubName을 사용하여 "/repos/{userName}/{repositoryName}/pulls?state=all" 엔드포인트에서
+     *      pull request 정보를 페이지 단위(per_page=100)로 조회하며, 아래 과정은 페이지마다 수행한다.
+     *      (repository 단위 작업은 GithubIngestionRunner를 통해 병렬로 실행되며, 실패한 repository는 건너뛴다.)
      *    - 조회된 pull request 데이터를 GithubPullRequest 객체로 매핑한다.
-     *    - 각 pull request에 대해 prId를 기준으로 DB에 이미 존재하는지 확인한다.
+     *    - 페이지의 prId 목록으로 repository 단위의 $in 쿼리를 한 번 보내 DB에 이미 존재하는 prId를 조회한다.
+     *      (prId는 repository 내 번호이므로 repoId와 함께 비교한다.)
      *         * 존재하지 않는 경우에만 신규 pull request 목록에 포함시킨다.
      *    - 신규 pull request가 있을 경우, 이를 DB에 저장한다.
      * 3. param:
@@ -625,216 +746,122 @@ public class GithubRestApiService {
      * 4. return: 없음.
      */
     public void saveGithubPullRequests(String accessToken, String githubName, int userId) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.valueOf("application/vnd.github.v3+json")));
-
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
+        saveGithubPullRequests(accessToken, githubName, userId, findRepositories(userId));
+    }
 
-        for (Repository repository : repositories) {
+    /**
+     * 1. 메서드 설명: 주어진 repository 목록에 대해서만 pull request를 동기화한다.
+     *    (GithubSyncPipeline이 repository 목록을 페이지 단위로 전달할 때 사용하며, 로직은 위 메서드와 같다.)
+     * 3. param:
+     *      accessToken  - GitHub API 접근에 사용되는 access token.
+     *      githubName   - GitHub 사용자 이름.
+     *      userId       - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repositories - 동기화할 repository 목록.
+     * 4. return: 없음.
+     */
+    public void saveGithubPullRequests(String accessToken, String githubName, int userId, List<Repository> repositories) {
+        githubIngestionRunner.forEachRepository(accessToken, repositories, "pull request", repository -> {
             String repositoryName = repository.getRepoName();
+            int repoId = repository.getRepoId();
 
-            String url = "https://api.github.com/repos/{userName}/{repositoryName}/pulls?state=all";
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {},
+            githubApiClient.forEachPage(
+                    accessToken,
+                    MediaType.valueOf("application/vnd.github.v3+json"),
+                    new ParameterizedTypeReference<List<GithubPullRequestPayload>>() {},
+                    prList -> {
+                        List<GithubPullRequest> parsedPRs = prList.stream()
+                                .map(pr -> parsePullRequest(pr, repoId))
+                                .toList();
+
+                        Set<Integer> existingPrIds = githubPullRequestRepository.findPrIdsByRepoIdAndPrIdIn(repoId,
+                                        parsedPRs.stream().map(GithubPullRequest::getPrId).toList())
+                                .stream()
+                                .map(GithubPullRequest::getPrId)
+                                .collect(Collectors.toSet());
+                        List<GithubPullRequest> newPRs = parsedPRs.stream()
+                                .filter(pr -> !existingPrIds.contains(pr.getPrId()))
+                                .toList();
+
+                        if (!newPRs.isEmpty()) {
+                            githubPullRequestRepository.saveAll(newPRs);
+                        }
+                    },
+                    "/repos/{userName}/{repositoryName}/pulls?state=all",
                     githubName,
                     repositoryName
             );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch pull requests - HTTP " + response.getStatusCode());
-            }
-            List<Map<String, Object>> prList = Optional.ofNullable(response.getBody())
-                    .orElse(Collections.emptyList());
-
-            List<GithubPullRequest> parsedPRs = prList.stream()
-                    .map(this::parsePullRequest)
-                    .toList();
-
-            List<GithubPullRequest> newPRs = parsedPRs.stream()
-                    .filter(pr -> !githubPullRequestRepository.existsByPrId(pr.getPrId()))
-                    .toList();
-
-            if (!newPRs.isEmpty()) {
-                githubPullRequestRepository.saveAll(newPRs);
-            }
-        }
+        });
     }
 
     /**
-     * 1. 메서드 설명: 주어진 Pull Request 정보를 담은 Map을 파싱하여 GithubPullRequest 객체로 변환한다.
+     * 1. 메서드 설명: GitHub Pull Request 응답 payload를 GithubPullRequest 객체로 변환한다.
      * 2. 로직:
-     *    - prMap이 null이면 IllegalArgumentException을 발생시킨다.
-     *    - "base", "repo", "user", "head" 등의 Map 데이터를 추출하여 각각 적절한 값으로 파싱한다.
-     *    - 숫자 값은 parseIntValue()를 사용해 파싱하며, 문자열 값은 getStringValue()를 사용한다.
-     *    - PR 사용자와 브랜치는 tryParse() 메서드를 통해 안전하게 파싱한다.
+     *    - repoId는 base 브랜치의 repository id를 사용하며, 없으면 조회 중인 repository의 id를 사용한다.
+     *    - prId는 repository 내 pull request 번호(number)를 사용한다.
+     *    - 문자열 필드가 null이면 빈 문자열로 저장한다.
+     *    - PR 사용자와 head / base 브랜치는 각각 변환한다.
      * 3. param:
-     *      Map<String, Object> prMap - Pull Request 데이터를 포함한 Map.
+     *      payload       - GitHub Pull Request API 응답 payload.
+     *      defaultRepoId - 조회 중인 repository 식별자.
      * 4. return: GithubPullRequest 객체.
      */
-    private GithubPullRequest parsePullRequest(Map<String, Object> prMap) {
-        if (prMap == null) {
-            throw new IllegalArgumentException("prMap cannot be null");
-        }
-
-        // "base"와 "repo" Map 추출
-        Map<String, Object> baseMap = getMap(prMap.get("base"));
-        Map<String, Object> baseRepo = getMap(baseMap.get("repo"));
-
-        int repoId = parseIntValue(baseRepo.get("full_name"));
-        int prId = parseIntValue(prMap.get("number"));
-
-        // URL, title, body 등 문자열 필드 파싱
-        String url = getStringValue(prMap.get("url"));
-        String htmlUrl = getStringValue(prMap.get("html_url"));
-        String diffUrl = getStringValue(prMap.get("diff_url"));
-        String patchUrl = getStringValue(prMap.get("patch_url"));
-        String title = getStringValue(prMap.get("title"));
-        String body = getStringValue(prMap.get("body"));
-
-        // 댓글 및 커밋 등 카운트 값 파싱
-        int commentsCount = parseIntValue(prMap.get("comments"));
-        int reviewCommentsCount = parseIntValue(prMap.get("review_comments"));
-        int commitsCount = parseIntValue(prMap.get("commits"));
-
-        // 사용자, head, base 브랜치 파싱 (에러 발생 시 로그 기록 후 null 반환)
-        Map<String, Object> userMap = getMap(prMap.get("user"));
-        PullRequestUser user = tryParse(() -> parsePRUser(userMap), "Error parsing user in pull request");
-
-        Map<String, Object> headMap = getMap(prMap.get("head"));
-        PullRequestBranch head = tryParse(() -> parsePRBranch(headMap), "Error parsing head branch in pull request");
-
-        PullRequestBranch base = tryParse(() -> parsePRBranch(baseMap), "Error parsing base branch in pull request");
+    private GithubPullRequest parsePullRequest(GithubPullRequestPayload payload, int defaultRepoId) {
+        GithubPullRequestPayload.Branch base = payload.getBase();
+        int repoId = (base != null && base.getRepo() != null) ? base.getRepo().getId() : defaultRepoId;
 
         return GithubPullRequest.builder()
                 .repoId(repoId)
-                .prId(prId)
-                .url(url)
-                .htmlUrl(htmlUrl)
-                .diffUrl(diffUrl)
-                .patchUrl(patchUrl)
-                .title(title)
-                .body(body)
-                .commentsCount(commentsCount)
-                .reviewCommentsCount(reviewCommentsCount)
-                .commitsCount(commitsCount)
-                .user(user)
-                .head(head)
-                .base(base)
+                .prId(payload.getNumber())
+                .url(Objects.requireNonNullElse(payload.getUrl(), ""))
+                .htmlUrl(Objects.requireNonNullElse(payload.getHtmlUrl(), ""))
+                .diffUrl(Objects.requireNonNullElse(payload.getDiffUrl(), ""))
+                .patchUrl(Objects.requireNonNullElse(payload.getPatchUrl(), ""))
+                .title(Objects.requireNonNullElse(payload.getTitle(), ""))
+                .body(Objects.requireNonNullElse(payload.getBody(), ""))
+                .commentsCount(payload.getComments())
+                .reviewCommentsCount(payload.getReviewComments())
+                .commitsCount(payload.getCommits())
+                .user(parsePRUser(payload.getUser()))
+                .head(parsePRBranch(payload.getHead()))
+                .base(parsePRBranch(base))
                 .build();
     }
 
     /**
-     * 1. 메서드 설명: 주어진 객체를 Map<String, Object>로 안전하게 캐스팅하여 반환한다.
-     *    만약 캐스팅할 수 없으면 빈 Map을 반환한다.
+     * 1. 메서드 설명: GitHub 사용자 payload를 PullRequestUser 객체로 변환하는 헬퍼 메서드.
      * 2. 로직:
-     *    - 객체가 Map 타입이면 해당 Map으로 캐스팅하고, 그렇지 않으면 Collections.emptyMap()을 반환한다.
+     *    - login과 id 값을 옮겨 담는다. payload가 null이면 null을 반환한다.
      * 3. param:
-     *      Object obj - 캐스팅할 대상 객체.
-     * 4. return: Map<String, Object> 객체 또는 빈 Map.
+     *      user - GitHub Pull Request API 응답의 user payload.
+     * 4. return: 변환된 PullRequestUser 객체.
      */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> getMap(Object obj) {
-        return (obj instanceof Map) ? (Map<String, Object>) obj : Collections.emptyMap();
-    }
-
-    /**
-     * 1. 메서드 설명: 주어진 객체를 정수 값으로 파싱한다.
-     *    객체가 Number이면 intValue()를 사용하고, String이면 Integer.parseInt()를 사용한다.
-     *    파싱에 실패하면 0을 반환한다.
-     * 2. 로직:
-     *    - 객체 타입에 따라 적절한 파싱 로직을 적용한다.
-     * 3. param:
-     *      Object value - 파싱할 객체.
-     * 4. return: 파싱된 정수 값 또는 실패 시 0.
-     */
-    private int parseIntValue(Object value) {
-        if (value instanceof Number number) {
-            return number.intValue();
-        } else if (value instanceof String string) {
-            try {
-                return Integer.parseInt(string);
-            } catch (NumberFormatException e) {
-                log.warn("Number format exception: {}", string);
-                throw new NumberFormatException("Number format exception: " + string);
-            }
-        }
-        return 0;
-    }
-
-    /**
-     * 1. 메서드 설명: 주어진 객체가 String이면 해당 문자열을 반환하고, 그렇지 않으면 빈 문자열을 반환한다.
-     * 2. 로직:
-     *    - 객체가 String 타입인지 확인 후 반환한다.
-     * 3. param:
-     *      Object value - 문자열로 변환할 객체.
-     * 4. return: 문자열 또는 빈 문자열.
-     */
-    private String getStringValue(Object value) {
-        return value instanceof String string ? string : "";
-    }
-
-    /**
-     * 1. 메서드 설명: Supplier를 사용하여 파싱 작업을 수행하며, 예외 발생 시 로그를 기록하고 null을 반환한다.
-     * 2. 로직:
-     *    - Supplier의 get() 메서드를 호출하여 값을 파싱한다.
-     *    - 예외가 발생하면 지정된 에러 메시지와 함께 로그를 남기고 null을 반환한다.
-     * 3. param:
-     *      Supplier<T> parser - 파싱 작업을 수행하는 람다 함수.
-     *      String errorMessage - 에러 발생 시 출력할 메시지.
-     * 4. return: 파싱된 값 T 또는 예외 발생 시 null.
-     */
-    private <T> T tryParse(Supplier<T> parser, String errorMessage) {
-        try {
-            return parser.get();
-        } catch (Exception e) {
-            log.error("{}: {}", errorMessage, e.getMessage());
+    private PullRequestUser parsePRUser(GithubUserPayload user) {
+        if (user == null) {
             return null;
         }
-    }
-
-    /**
-     * 1. 메서드 설명: GitHub Pull Request의 사용자 정보를 파싱하여 GithubPullRequestUser 객체로 변환하는 헬퍼 메서드.
-     * 2. 로직:
-     *    - userMap으로부터 login과 id 값을 추출하며, id는 int 타입으로 처리한다.
-     * 3. param:
-     *      userMap - GitHub Pull Request API 응답의 user 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubPullRequestUser 객체.
-     */
-    private PullRequestUser parsePRUser(Map<String, Object> userMap) {
-        String login = (String) userMap.get("login");
-        int id = ((Number) userMap.get("id")).intValue();
         return PullRequestUser.builder()
-                .login(login)
-                .id(id)
+                .login(user.getLogin())
+                .id(user.getId())
                 .build();
     }
 
     /**
-     * 1. 메서드 설명: Pull Request 응답 데이터의 브랜치(head/base) 정보를 파싱하여 GithubPullRequestBranch 객체로 변환하는 헬퍼 메서드.
+     * 1. 메서드 설명: Pull Request 응답의 브랜치(head/base) payload를 PullRequestBranch 객체로 변환하는 헬퍼 메서드.
      * 2. 로직:
-     *    - branchMap으로부터 label, ref, sha 값을 추출하고, 내부의 user 객체는 parsePRUser()를 통해 파싱한다.
+     *    - label, ref, sha 값을 옮겨 담고, 내부의 user 객체는 parsePRUser()를 통해 변환한다.
      * 3. param:
-     *      branchMap - GitHub Pull Request API 응답의 head/base 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubPullRequestBranch 객체.
+     *      branch - GitHub Pull Request API 응답의 head/base payload.
+     * 4. return: 변환된 PullRequestBranch 객체.
      */
-    private PullRequestBranch parsePRBranch(Map<String, Object> branchMap) {
-        String label = (String) branchMap.get("label");
-        String ref = (String) branchMap.get("ref");
-        String sha = (String) branchMap.get("sha");
-        PullRequestUser user = null;
-        if (branchMap.get("user") != null) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> userMap = (Map<String, Object>) branchMap.get("user");
-            user = parsePRUser(userMap);
+    private PullRequestBranch parsePRBranch(GithubPullRequestPayload.Branch branch) {
+        if (branch == null) {
+            return null;
         }
         return PullRequestBranch.builder()
-                .label(label)
-                .ref(ref)
-                .sha(sha)
-                .user(user)
+                .label(branch.getLabel())
+                .ref(branch.getRef())
+                .sha(branch.getSha())
+                .user(parsePRUser(branch.getUser()))
                 .build();
     }
 
@@ -843,56 +870,39 @@ public class GithubRestApiService {
     // ============================================================
 
     /**
-     * 1. 메서드 설명: 주어진 GitHub 이벤트를 확인하여 새로운 이벤트가 있는지 또는 최신 이벤트가 90일 이상 오래되었는지 확인한다.
+     * 1. 메서드 설명: repository 조합의 마지막 분석 이후 새로운 이벤트가 있는지 또는 최신 이벤트가 90일 이상 오래되었는지 확인한다.
      * 2. 로직:
-     *    - GitHub API를 호출하여 사용자의 이벤트 리스트를 가져온다.
-     *    - API 응답이 성공적이지 않으면 예외를 발생시킨다.
-     *    - 응답에서 가져온 이벤트 중, 주어진 repoNames에 포함된 이벤트만 필터링한다.
-     *    - 필터링된 이벤트가 없으면 각 repository에 대해 최신 이벤트가 90일 이전인지 확인한다.
-     *    - 필터링된 이벤트가 있으면, 저장된 이벤트와 비교하여 새로운 이벤트를 추출하고,
-     *      새로운 이벤트 중 허용된 이벤트 타입(PushEvent, IssuesEvent, PullRequestEvent)이 있는지 검사한다.
-     *    - 새로운 이벤트가 없으면 전체 최신 이벤트가 90일 이상 오래되었는지 확인한다.
+     *    - GithubEventPoller로 저장된 이벤트를 최신 상태로 갱신한다.
+     *      (X-Poll-Interval 간격 이전이거나 304 응답이면 API 호출 없이 저장된 이벤트를 그대로 사용한다.)
+     *    - 조합을 한 번도 분석하지 않았으면 true를 반환한다.
+     *    - 저장된 이벤트 중, 주어진 repoNames에 포함된 repository의 허용된 이벤트 타입(PushEvent, IssuesEvent, PullRequestEvent)이
+     *      마지막 분석 이후에 있으면 true를 반환한다. (이벤트의 repo 이름은 "owner/name" 형식이므로 userName/repoName으로 비교한다.)
+     *      polling 결과가 아닌 저장된 이벤트로 판단하므로, 다른 호출자가 먼저 polling 했더라도 결과가 달라지지 않는다.
+     *    - 없으면 각 repository에 대해 저장된 최신 이벤트가 없거나 90일 이전인지 확인한다.
      * 3. param:
      *      String accessToken - GitHub API 접근 토큰.
      *      String userName - GitHub 사용자 이름.
      *      int userId - 내부 사용자 ID.
      *      List<String> repoNames - 확인할 repository 이름 리스트.
+     *      LocalDateTime analyzedAt - 조합의 마지막 분석 시각 (분석한 적이 없으면 null).
      * 4. return: 새로운 이벤트가 있거나 최신 이벤트가 90일 이상 오래되었으면 true, 그렇지 않으면 false.
      */
-    public boolean checkNewGithubEvents(String accessToken, String userName, int userId, List<String> repoNames) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                "https://api.github.com/users/{userName}/events",
-                HttpMethod.GET,
-                request,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                userName
-        );
-
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch events - HTTP " + response.getStatusCode());
+    public boolean checkNewGithubEvents(String accessToken, String userName, int userId, List<String> repoNames,
+                                        LocalDateTime analyzedAt) {
+        githubEventPoller.refresh(accessToken, userName, userId);
+        if (analyzedAt == null) {
+            return true;
         }
-
-        List<Map<String, Object>> apiEvents = response.getBody();
-        apiEvents = (apiEvents == null ? Collections.emptyList() : apiEvents);
-        Set<String> allowedTypes = Set.of("PushEvent", "IssuesEvent", "PullRequestEvent");
-
-        List<Map<String, Object>> filteredApiEvents = apiEvents.stream()
-                .filter(event -> {
-                    Map<String, Object> repoMap = getMap(event.get("repo"));
-                    String repoName = (String) repoMap.get("name");
-                    return repoNames.contains(repoName);
-                })
+        List<String> repoFullNames = repoNames.stream()
+                .map(repoName -> userName + "/" + repoName)
                 .toList();
 
-        if (filteredApiEvents.isEmpty()) {
-            return shouldNotifyForMissingOrOldEvent(userId, repoNames);
-        } else {
-            if (processNewEvents(userId, filteredApiEvents, allowedTypes)) {
-                return true;
-            }
-            return isLatestEventOlderThan90Days(userId);
+        boolean hasNewActivity = githubEventRepository.existsByUserIdAndEvents_RepoInAndEvents_EventTypeInAndEvents_CreatedAtAfter(
+                userId, repoFullNames, List.of("PushEvent", "IssuesEvent", "PullRequestEvent"), analyzedAt);
+        if (hasNewActivity) {
+            return true;
         }
+        return shouldNotifyForMissingOrOldEvent(userId, repoFullNames);
     }
 
     /**
@@ -902,7 +912,7 @@ public class GithubRestApiService {
      *    - 최신 이벤트가 없거나, 최신 이벤트의 생성일이 현재 시간 기준 90일 이전이면 true를 반환한다.
      * 3. param:
      *      int userId - 내부 사용자 ID.
-     *      List<String> repoNames - repository 이름 리스트.
+     *      List<String> repoNames - "owner/name" 형식의 repository 이름 리스트.
      * 4. return: 하나라도 조건을 만족하면 true, 그렇지 않으면 false.
      */
     private boolean shouldNotifyForMissingOrOldEvent(int userId, List<String> repoNames) {
@@ -918,51 +928,27 @@ public class GithubRestApiService {
     }
 
     /**
-     * 1. 메서드 설명: 필터링된 API 이벤트 리스트에서 기존에 저장된 이벤트와 비교하여 새로운 이벤트를 추출하고,
-     *    새로운 이벤트 중 허용된 이벤트 타입(PushEvent, IssuesEvent, PullRequestEvent)이 존재하는지 검사한다.
-     * 2. 로직:
-     *    - 사용자(userId)에 대해 저장된 모든 이벤트 ID를 조회한다.
-     *    - 필터링된 API 이벤트 중, 저장되지 않은 이벤트만 추출하여 GithubEvent 객체로 변환한다.
-     *    - 새로운 이벤트가 존재하면 저장한 후, 허용된 이벤트 타입이 포함되어 있는지 확인하여 결과를 반환한다.
+     * 1. 메서드 설명: 사용자의 저장된 GitHub 이벤트를 최신 상태로 갱신한다. (야간 재동기화 등 판단이 필요 없는 호출자용)
      * 3. param:
-     *      int userId - 내부 사용자 ID.
-     *      List<Map<String, Object>> filteredApiEvents - 필터링된 API 이벤트 리스트.
-     *      Set<String> allowedTypes - 허용된 이벤트 타입 집합.
-     * 4. return: 허용된 이벤트 타입을 가진 새로운 이벤트가 있으면 true, 그렇지 않으면 false.
+     *      String accessToken - GitHub API 접근에 사용되는 access token.
+     *      String userName - GitHub 사용자 이름.
+     *      int userId - 로컬 사용자 식별자.
+     * 4. return: 없음.
      */
-    private boolean processNewEvents(int userId, List<Map<String, Object>> filteredApiEvents, Set<String> allowedTypes) {
-        Set<String> existingEventIds = githubEventRepository.findAllByUserId(userId)
-                .stream()
-                .map(GithubEvent::getGithubEventId)
-                .collect(Collectors.toSet());
-
-        List<GithubEvent> newEvents = filteredApiEvents.stream()
-                .filter(eventMap -> {
-                    String eventId = (String) eventMap.get("id");
-                    return !existingEventIds.contains(eventId);
-                })
-                .map(eventMap -> convertToGithubEvent(eventMap, userId))
-                .toList();
-
-        if (!newEvents.isEmpty()) {
-            githubEventRepository.saveAll(newEvents);
-            return newEvents.stream()
-                    .map(githubEvent -> githubEvent.getEvents().getEventType())
-                    .anyMatch(allowedTypes::contains);
-        }
-        return false;
+    public void refreshGithubEvents(String accessToken, String userName, int userId) {
+        githubEventPoller.refresh(accessToken, userName, userId);
     }
 
     /**
-     * 1. 메서드 설명: GitHub Events API를 호출하여 사용자의 새 repository 생성(CreateEvent) 이벤트가 발생했는지 확인한다.
-     *    신규 이벤트가 있을 경우 DB에 저장한 후, 새 repository 생성 이벤트가 감지되면 true를 반환하고,
+     * 1. 메서드 설명: 사용자의 공개 repository 생성(CreateEvent) 이벤트 중 아직 저장되지 않은 repository가 있는지 확인한다.
      *    이벤트가 없거나 최신 이벤트가 90일 이상 오래된 경우에도 true를 반환한다.
      * 2. 로직:
-     *    - GitHub API를 호출하여 이벤트 리스트를 가져온다.
-     *    - 이벤트 리스트에서 "CreateEvent" 타입 중 payload.ref_type이 "repository"인 이벤트만 필터링한다.
-     *    - 필터링된 이벤트가 없으면 최신 이벤트 생성 시간이 90일 이상 오래되었는지 확인하여 결과를 반환한다.
-     *    - 필터링된 이벤트가 있으면 DB에 저장된 repository 이름과 비교하여, DB에 없는 새 이벤트가 있으면 저장 후 true를 반환한다.
-     *    - 새 이벤트가 없으면 최신 이벤트 생성 시간이 90일 이상 오래되었는지 확인하여 결과를 반환한다.
+     *    - GithubEventPoller로 저장된 이벤트를 최신 상태로 갱신한다.
+     *    - 저장된 이벤트 중 "CreateEvent" 타입이며 ref_type이 "repository"인 공개 이벤트를 조회한다.
+     *      (비공개 repository는 동기화 대상이 아니므로 제외한다.)
+     *    - DB에 저장된 repository 이름과 비교하여, DB에 없는 repository의 이벤트가 있으면 true를 반환한다.
+     *      repository 목록이 동기화되면 더 이상 감지되지 않으므로 polling 결과를 소비하지 않아도 된다.
+     *    - 없으면 최신 이벤트 생성 시간이 90일 이상 오래되었는지 확인하여 결과를 반환한다.
      * 3. param:
      *      String accessToken - GitHub API 접근에 사용되는 access token.
      *      String userName - GitHub 사용자 이름.
@@ -970,70 +956,16 @@ public class GithubRestApiService {
      * 4. return: boolean - 새 repository 생성 이벤트가 감지되었거나 최신 이벤트가 90일 이상 오래되었으면 true, 그렇지 않으면 false.
      */
     public boolean checkNewRepositoryCreationEvents(String accessToken, String userName, int userId) {
-        List<Map<String, Object>> apiEvents = fetchApiEvents(accessToken, userName);
-        List<Map<String, Object>> createEvents = filterCreateEvents(apiEvents);
+        githubEventPoller.refresh(accessToken, userName, userId);
+        List<GithubEvent> createEvents = githubEventRepository
+                .findAllByUserIdAndEvents_EventTypeAndEvents_RefTypeAndEvents_PublicEventTrue(userId, "CreateEvent", "repository");
 
-        if (createEvents.isEmpty()) {
-            return isLatestEventOlderThan90Days(userId);
-        }
-
-        Set<String> storedRepoNames = getStoredRepositoryNames(userId);
-        List<GithubEvent> newEvents = extractNewEvents(createEvents, userId, storedRepoNames);
-
-        if (!newEvents.isEmpty()) {
-            githubEventRepository.saveAll(newEvents);
+        if (!createEvents.isEmpty() && hasUnknownRepository(createEvents, getStoredRepositoryNames(userId))) {
             return true;
         }
-
         return isLatestEventOlderThan90Days(userId);
     }
 
-    /**
-     * 1. 메서드 설명: GitHub API를 호출하여 사용자의 이벤트 리스트를 가져온다.
-     * 2. 로직:
-     *    - accessToken과 userName을 이용하여 API 요청을 보내고, 응답 코드가 200번대가 아니면 예외를 발생시킨다.
-     *    - 응답 본문이 null이면 빈 리스트를 반환한다.
-     * 3. param:
-     *      String accessToken - GitHub API 접근 토큰.
-     *      String userName - GitHub 사용자 이름.
-     * 4. return: List<Map<String, Object>> - GitHub Events API에서 반환된 이벤트 리스트.
-     */
-    private List<Map<String, Object>> fetchApiEvents(String accessToken, String userName) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                "https://api.github.com/users/{userName}/events",
-                HttpMethod.GET,
-                request,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                userName
-        );
-
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch events - HTTP " + response.getStatusCode());
-        }
-
-        return Optional.ofNullable(response.getBody()).orElse(Collections.emptyList());
-    }
-
-    /**
-     * 1. 메서드 설명: API에서 가져온 이벤트 리스트 중 "CreateEvent" 타입이며, payload.ref_type이 "repository"인 이벤트만 필터링한다.
-     * 2. 로직:
-     *    - 이벤트의 type이 "CreateEvent"인지 확인하고, payload가 존재하며 ref_type이 "repository"인지 검사한다.
-     * 3. param:
-     *      List<Map<String, Object>> apiEvents - API에서 받아온 전체 이벤트 리스트.
-     * 4. return: List<Map<String, Object>> - 필터링된 repository 생성 이벤트 리스트.
-     */
-    private List<Map<String, Object>> filterCreateEvents(List<Map<String, Object>> apiEvents) {
-        return apiEvents.stream()
-                .filter(event -> "CreateEvent".equals(event.get("type")))
-                .filter(event -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> payload = (Map<String, Object>) event.get("payload");
-                    return payload != null && "repository".equals(payload.get("ref_type"));
-                })
-                .toList();
-    }
-
     /**
      * 1. 메서드 설명: 사용자 ID를 기반으로 DB에서 해당 사용자의 저장된 repository 이름 목록을 조회한다.
      * 2. 로직:
@@ -1051,28 +983,20 @@ public class GithubRestApiService {
     }
 
     /**
-     * 1. 메서드 설명: 필터링된 CreateEvent 리스트에서 DB에 저장되지 않은 새 repository 생성 이벤트를 추출한다.
+     * 1. 메서드 설명: 저장된 CreateEvent 리스트에 DB에 저장되지 않은 repository의 생성 이벤트가 있는지 확인한다.
      * 2. 로직:
-     *    - 각 이벤트에서 repository 이름을 추출하고, DB에 저장된 이름과 비교하여 새 이벤트만 선택한다.
-     *    - 선택된 이벤트를 GithubEvent 객체로 변환하여 리스트로 반환한다.
+     *    - 각 이벤트의 "owner/name" 형식 repository 이름에서 name을 추출하고, DB에 저장된 이름과 비교한다.
      * 3. param:
-     *      List<Map<String, Object>> createEvents - 필터링된 CreateEvent 이벤트 리스트.
-     *      int userId - 로컬 사용자 식별자.
+     *      List<GithubEvent> createEvents - 저장된 repository 생성 이벤트 리스트.
      *      Set<String> storedRepoNames - DB에 저장된 repository 이름 집합.
-     * 4. return: List<GithubEvent> - 새로 감지된 GithubEvent 객체 리스트.
+     * 4. return: boolean - 저장되지 않은 repository의 생성 이벤트가 있으면 true.
      */
-    private List<GithubEvent> extractNewEvents(List<Map<String, Object>> createEvents, int userId, Set<String> storedRepoNames) {
+    private boolean hasUnknownRepository(List<GithubEvent> createEvents, Set<String> storedRepoNames) {
         return createEvents.stream()
-                .map(event -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> repoMap = (Map<String, Object>) event.get("repo");
-                    String repoName = repoMap != null ? (String) repoMap.get("name") : null;
-                    return repoName != null ? new AbstractMap.SimpleEntry<>(repoName, event) : null;
-                })
-                .filter(Objects::nonNull)
-                .filter(entry -> !storedRepoNames.contains(entry.getKey()))
-                .map(entry -> convertToGithubEvent(entry.getValue(), userId))
-                .toList();
+                .map(GithubEvent::getEvents)
+                .filter(event -> event != null && event.getRepo() != null)
+                .map(event -> event.getRepo().substring(event.getRepo().indexOf('/') + 1))
+                .anyMatch(repoName -> !storedRepoNames.contains(repoName));
     }
 
     /**
@@ -1091,58 +1015,227 @@ public class GithubRestApiService {
                 .orElse(true);
     }
 
+    // ============================================================
+    // 8. Webhook 관련 메서드
+    // ============================================================
+
     /**
-     * 1. 메서드 설명: API 이벤트 데이터(Map<String, Object>)를 GithubEvent 객체로 변환하는 메서드.
+     * 1. 메서드 설명: push webhook의 커밋을 GithubCommit bucket에 반영한다.
      * 2. 로직:
-     *    - 이벤트 맵에서 이벤트 ID, 이벤트 타입, repo 객체, 생성 시간 문자열(created_at)을 추출한다.
-     *    - repo 객체에서 repository 이름을 추출한다.
-     *    - 생성 시간 문자열을 OffsetDateTime을 통해 LocalDateTime으로 변환한다.
-     *    - Event 객체와 GithubEvent 객체를 빌더 패턴으로 생성하여 반환한다.
+     *    - private repository이거나 사용자의 저장된 repository가 아니면 반영하지 않는다. (클론도 하지 않는다.)
+     *    - 기본 브랜치에 대한 push만 반영한다. (REST 동기화도 기본 브랜치의 커밋만 조회한다.)
+     *    - push에 포함된 SHA 중 이미 저장된 SHA를 한 번의 쿼리로 제외한 뒤,
+     *      신규 커밋의 변경 파일과 추가/삭제 라인 수를 fillCommitDetails로 채워 추가한다.
+     *    - 동기화 checkpoint가 이미 있으면, push가 checkpoint의 head SHA에서 바로 이어지고(before가 같고 강제 push가 아님)
+     *      커밋 목록이 잘리지 않았을 때(MAX_PUSH_COMMITS 이하)만 head SHA와 마지막 커밋 날짜를 갱신한다.
+     *      그렇지 않으면 중간 커밋이 빠졌을 수 있으므로 checkpoint를 그대로 두고 false를 반환하여 REST 동기화로 보정하게 한다.
+     *      (초기 동기화 전에 checkpoint를 만들면 이전 커밋이 조회되지 않으므로 새로 생성하지 않는다.)
      * 3. param:
-     *      Map<String, Object> event - GitHub Events API에서 반환된 이벤트 데이터가 담긴 Map.
-     *      int userId - 사용자의 로컬 식별자.
-     * 4. return: GithubEvent - 변환된 GithubEvent 객체.
+     *      accessToken - repository 소유자의 GitHub access token.
+     *      userId      - repository 소유자의 로컬 식별자.
+     *      payload     - push webhook payload.
+     * 4. return: push가 저장된 이력에 빠짐없이 반영되었으면 true, REST 동기화가 필요하면 false.
      */
-    private GithubEvent convertToGithubEvent(Map<String, Object> event, int userId) {
-        String eventId = (String) event.get("id");
-        String eventType = (String) event.get("type");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> repoMap = (Map<String, Object>) event.get("repo");
-        String repoName = repoMap != null ? (String) repoMap.get("name") : null;
-        String createdAtStr = (String) event.get("created_at");
-        LocalDateTime createdAt = OffsetDateTime.parse(createdAtStr).toLocalDateTime();
-
-        Event eventObj = Event.builder()
-                .eventType(eventType)
-                .repo(repoName)
-                .createdAt(createdAt)
-                .build();
+    public boolean applyPushEvent(String accessToken, int userId, GithubWebhookPayload payload) {
+        GithubRepositoryPayload repositoryPayload = payload.getRepository();
+        if (repositoryPayload == null || repositoryPayload.getDefaultBranch() == null
+                || !("refs/heads/" + repositoryPayload.getDefaultBranch()).equals(payload.getRef())
+                || !isTrackedRepository(userId, repositoryPayload)) {
+            return true;
+        }
+        int repoId = repositoryPayload.getId();
+        List<Commit> pushedCommits = Optional.ofNullable(payload.getCommits()).orElse(Collections.emptyList())
+                .stream()
+                .filter(commit -> commit.getId() != null)
+                .map(this::parsePushCommit)
+                .toList();
+        Optional<GithubSyncCheckpoint> checkpointOpt = githubSyncCheckpointRepository.findByUserIdAndRepoId(userId, repoId);
+        boolean contiguous = checkpointOpt
+                .map(checkpoint -> !payload.isForced()
+                        && payload.getBefore() != null
+                        && payload.getBefore().equals(checkpoint.getHeadSha())
+                        && Optional.ofNullable(payload.getCommits()).map(List::size).orElse(0) <= MAX_PUSH_COMMITS)
+                .orElse(true);
+        if (pushedCommits.isEmpty()) {
+            return contiguous;
+        }
 
-        return GithubEvent.builder()
-                .githubEventId(eventId)
-                .userId(userId)
-                .events(eventObj)
+        Set<String> existingShas = githubCommitRepository.findExistingShas(userId, repoId,
+                pushedCommits.stream().map(Commit::getCommitSha).toList());
+        List<Commit> newCommits = pushedCommits.stream()
+                .filter(commit -> !existingShas.contains(commit.getCommitSha()))
+                .toList();
+        if (!newCommits.isEmpty()) {
+            String owner = repositoryPayload.getFullName().substring(0, repositoryPayload.getFullName().indexOf('/'));
+            try (LocalClone localClone = new LocalClone(repositoryPayload.getFullName(), accessToken)) {
+                fillCommitDetails(accessToken, owner, repositoryPayload.getName(), localClone, newCommits);
+            }
+            githubCommitRepository.appendCommits(userId, repoId, newCommits);
+        }
+
+        LocalDateTime latestDate = pushedCommits.stream()
+                .map(Commit::getCommitDate)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (!contiguous) {
+            log.info("Push to {} does not continue from the sync checkpoint, leaving it for a REST sync",
+                    repositoryPayload.getFullName());
+            return false;
+        }
+        checkpointOpt.ifPresent(checkpoint -> saveCommitCheckpoint(checkpoint, userId, repoId,
+                Objects.requireNonNullElse(payload.getAfter(), checkpoint.getHeadSha()), latestDate));
+        return true;
+    }
+
+    /**
+     * 1. 메서드 설명: push webhook의 커밋 항목을 Commit 객체로 변환하는 메서드.
+     * 2. 로직:
+     *    - SHA, 메시지, 작성자, 작성 날짜를 추출한다. 파일 변경 내역은 fillCommitDetails()로 채운다.
+     * 3. param:
+     *      pushCommit - push webhook payload의 커밋 항목.
+     * 4. return: 변환된 Commit 객체.
+     */
+    private Commit parsePushCommit(GithubWebhookPayload.PushCommit pushCommit) {
+        GithubWebhookPayload.PushAuthor author = pushCommit.getAuthor();
+        Map<String, String> authorMap = author == null ? Collections.emptyMap() : Map.of(
+                "name", Objects.requireNonNullElse(author.getName(), ""),
+                "email", Objects.requireNonNullElse(author.getEmail(), "")
+        );
+        return Commit.builder()
+                .commitSha(pushCommit.getId())
+                .commitMessage(pushCommit.getMessage())
+                .commitDate(toLocalDateTime(pushCommit.getTimestamp()))
+                .author(authorMap)
                 .build();
     }
 
+    /**
+     * 1. 메서드 설명: issues webhook을 GithubIssue Document에 반영한다.
+     * 2. 로직:
+     *    - private repository이거나 사용자의 저장된 repository가 아니면 반영하지 않는다.
+     *    - deleted 이벤트이면 (repoId, issueId)에 해당하는 Document를 삭제한다.
+     *    - 그 외 이벤트(opened, edited, closed, labeled 등)는 기존 Document가 있으면 최신 값으로 덮어쓰고, 없으면 새로 저장한다.
+     * 3. param:
+     *      userId  - repository 소유자의 로컬 식별자.
+     *      payload - issues webhook payload.
+     * 4. return: 없음.
+     */
+    public void applyIssueEvent(int userId, GithubWebhookPayload payload) {
+        if (payload.getIssue() == null || payload.getRepository() == null
+                || !isTrackedRepository(userId, payload.getRepository())) {
+            return;
+        }
+        int repoId = payload.getRepository().getId();
+        GithubIssue issue = parseIssue(payload.getIssue(), repoId);
+        if ("deleted".equals(payload.getAction())) {
+            githubIssueRepository.deleteByRepoIdAndIssueId(repoId, issue.getIssueId());
+            return;
+        }
+        githubIssueRepository.findByRepoIdAndIssueId(repoId, issue.getIssueId())
+                .ifPresent(existing -> issue.setGithubIssueId(existing.getGithubIssueId()));
+        githubIssueRepository.save(issue);
+    }
+
+    /**
+     * 1. 메서드 설명: pull_request webhook을 GithubPullRequest Document에 반영한다.
+     * 2. 로직:
+     *    - private repository이거나 사용자의 저장된 repository가 아니면 반영하지 않는다.
+     *    - (repoId, prId)에 해당하는 기존 Document가 있으면 최신 값으로 덮어쓰고, 없으면 새로 저장한다.
+     * 3. param:
+     *      userId  - repository 소유자의 로컬 식별자.
+     *      payload - pull_request webhook payload.
+     * 4. return: 없음.
+     */
+    public void applyPullRequestEvent(int userId, GithubWebhookPayload payload) {
+        if (payload.getPullRequest() == null || payload.getRepository() == null
+                || !isTrackedRepository(userId, payload.getRepository())) {
+            return;
+        }
+        GithubPullRequest pullRequest = parsePullRequest(payload.getPullRequest(), payload.getRepository().getId());
+        githubPullRequestRepository.findByRepoIdAndPrId(pullRequest.getRepoId(), pullRequest.getPrId())
+                .ifPresent(existing -> pullRequest.setGithubPullRequestId(existing.getGithubPullRequestId()));
+        githubPullRequestRepository.save(pullRequest);
+    }
+
+    /**
+     * 1. 메서드 설명: repository webhook을 사용자의 GithubRepository Document에 반영한다.
+     * 2. 로직:
+     *    - deleted / privatized 이벤트이거나 private repository이면 repoId에 해당하는 repository를 목록에서 제거한다.
+     *      (REST 동기화는 public repository만 조회하므로 private repository는 저장하지 않는다.)
+     *    - 그 외 이벤트(created, edited, renamed, publicized 등)는 저장된 값과 비교하여
+     *      applyRepositoryChanges로 신규 repository는 $push, 바뀐 필드만 "repositories.$.필드" $set 한다.
+     * 3. param:
+     *      userId  - repository 소유자의 로컬 식별자.
+     *      payload - repository webhook payload.
+     * 4. return: 없음.
+     */
+    public void applyRepositoryEvent(int userId, GithubWebhookPayload payload) {
+        GithubRepositoryPayload repositoryPayload = payload.getRepository();
+        if (repositoryPayload == null) {
+            return;
+        }
+        boolean removed = "deleted".equals(payload.getAction())
+                || "privatized".equals(payload.getAction())
+                || repositoryPayload.isPrivateRepository();
+        if (removed) {
+            githubRepoRepository.removeRepository(userId, repositoryPayload.getId());
+            return;
+        }
+
+        List<Repository> storedRepositories = githubRepoRepository.findByUserId(userId)
+                .map(GithubRepository::getRepositories)
+                .orElseGet(List::of);
+        RepositoryMetadataDiff.Changes changes = new RepositoryMetadataDiff(storedRepositories)
+                .apply(List.of(parseRepository(repositoryPayload)));
+        if (!changes.isEmpty()) {
+            githubRepoRepository.applyRepositoryChanges(userId, changes.added(), changes.changedFields());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: webhook 이벤트의 repository가 동기화 대상인지 확인한다.
+     * 2. 로직:
+     *    - REST 동기화는 public repository만 저장하므로 private repository는 대상이 아니다.
+     *    - 사용자의 GithubRepository Document에 저장된 repository만 대상이다.
+     * 3. param:
+     *      userId            - repository 소유자의 로컬 식별자.
+     *      repositoryPayload - webhook payload의 repository.
+     * 4. return: 동기화 대상이면 true.
+     */
+    private boolean isTrackedRepository(int userId, GithubRepositoryPayload repositoryPayload) {
+        return !repositoryPayload.isPrivateRepository()
+                && githubRepoRepository.containsRepository(userId, repositoryPayload.getId());
+    }
+
     // ============================================================
-    // 8. 공통 헬퍼 메서드
+    // 9. 공통 헬퍼 메서드
     // ============================================================
 
     /**
-     * 1. 메서드 설명: 주어진 access token과 mediaType을 기반으로 HTTP 헤더를 생성하는 헬퍼 메서드.
+     * 1. 메서드 설명: userId에 해당하는 GithubRepository Document의 repository 목록을 조회한다.
      * 2. 로직:
-     *    - HttpHeaders 객체를 생성한 후, Bearer 인증 방식으로 access token을 설정하고,
-     *      JSON 형식의 응답을 수락하도록 Accept 헤더를 추가한다.
+     *    - Document가 없으면 GithubRepositoryNotFoundException을 발생시킨다.
      * 3. param:
-     *      accessToken - GitHub API 접근에 사용되는 access token.
-     *      mediaType   - 응답으로 수락할 미디어 타입.
-     * 4. return: 설정된 HttpHeaders 객체.
+     *      int userId - 현재 애플리케이션 사용자의 로컬 식별자.
+     * 4. return: repository 목록.
+     */
+    private List<Repository> findRepositories(int userId) {
+        return githubRepoRepository.findByUserId(userId)
+                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
+                .getRepositories();
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub 응답의 ISO-8601 시각을 LocalDateTime으로 변환한다.
+     * 2. 로직:
+     *    - 값이 null이면 null을 반환하고, 그렇지 않으면 UTC로 변환한 LocalDateTime을 반환한다.
+     *      (push webhook의 timestamp는 커밋 작성자의 offset을 가지므로, 변환하지 않으면 checkpoint와 since 조건이 어긋난다.)
+     * 3. param:
+     *      OffsetDateTime dateTime - GitHub 응답의 시각.
+     * 4. return: LocalDateTime 또는 null.
      */
-    private HttpHeaders createHeaders(String accessToken, MediaType mediaType) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        headers.setAccept(Collections.singletonList(mediaType));
-        return headers;
+    private LocalDateTime toLocalDateTime(OffsetDateTime dateTime) {
+        return dateTime != null ? dateTime.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime() : null;
     }
 }
@@ -0,0 +1,122 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.entity.GithubRepository;
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.global.properties.GithubApiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 사용자의 GitHub 데이터(repository, commit, language, issue, pull request, event)를 의존 관계에 따라 동기화하는 pipeline.
+ * <p>
+ * repository 목록 조회가 유일한 선행 단계이며, 목록의 각 페이지가 저장되는 즉시 해당 repository들에 대한
+ * commit / language / issue / pull request 단계를 시작할 수 있다. event 단계는 전체 repository 이름이 필요하므로
+ * 목록 조회가 끝난 뒤 시작한다. repository 목록은 각 단계에 직접 전달되므로 GithubRepository Document를 다시 조회하지 않는다.
+ * 각 단계는 호출 스레드에서 실행되며, 단계 사이의 병렬 실행과 재시도는 GithubIngestionQueue가 작업 단위로 담당한다.
+ * 단계별 소요 시간은 github.sync.stage 타이머(stage 태그)로 기록한다.
+ * </p>
+ */
+@Component
+public class GithubSyncPipeline {
+
+    private final GithubRestApiService githubRestApiService;
+    private final GithubGraphqlService githubGraphqlService;
+    private final GithubApiProperties githubApiProperties;
+    private final MeterRegistry meterRegistry;
+
+    public GithubSyncPipeline(GithubRestApiService githubRestApiService,
+                              GithubGraphqlService githubGraphqlService,
+                              GithubApiProperties githubApiProperties,
+                              MeterRegistry meterRegistry) {
+        this.githubRestApiService = githubRestApiService;
+        this.githubGraphqlService = githubGraphqlService;
+        this.githubApiProperties = githubApiProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 1. 메서드 설명: repository 단계만 실행한다. 페이지마다 저장된 repository 목록을 onRepositoryPage에 전달한다.
+     *    (GithubIngestionQueue가 repository별 작업을 등록하는 데 사용한다.)
+     * 3. param:
+     *      accessToken      - GitHub API 접근에 사용되는 access token.
+     *      userName         - GitHub 사용자 이름.
+     *      userId           - 로컬 사용자 식별자.
+     *      onRepositoryPage - 페이지 단위로 조회된 repository 목록을 받는 함수.
+     * 4. return: 저장된 GithubRepository Document.
+     */
+    public GithubRepository syncRepositoryList(String accessToken, String userName, int userId,
+                                               Consumer<List<Repository>> onRepositoryPage) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return githubApiProperties.getFetchMode() == GithubApiProperties.FetchMode.GRAPHQL
+                    ? githubGraphqlService.saveUserGithubRepositoryOverview(accessToken, userName, userId, onRepositoryPage)
+                    : githubRestApiService.saveUserGithubRepository(accessToken, userName, userId, onRepositoryPage);
+        } finally {
+            sample.stop(stageTimer("repository"));
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: repository 하나에 대한 후속 단계를 호출 스레드에서 차례로 실행한다.
+     * 2. 로직:
+     *    - REST 모드: commit, language, issue, pull request
+     *    - GRAPHQL 모드: commit, issue, pull request (language는 repository 단계에서 함께 저장된다.)
+     *      github.api.graphql.store-issues-and-pull-requests가 false이면 issue / pull request 단계를 생략한다.
+     *    - 단계에서 발생한 예외는 호출한 쪽으로 전달하여 작업을 다시 실행할 수 있도록 한다.
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      userName    - GitHub 사용자 이름.
+     *      userId      - 로컬 사용자 식별자.
+     *      repository  - 대상 repository.
+     * 4. return: 없음.
+     */
+    public void syncRepository(String accessToken, String userName, int userId, Repository repository) {
+        List<Repository> repositories = List.of(repository);
+        timed("commit", () -> githubRestApiService.saveUserGithubCommits(accessToken, userName, userId, repositories));
+        if (githubApiProperties.getFetchMode() != GithubApiProperties.FetchMode.GRAPHQL) {
+            timed("language", () -> githubRestApiService.saveUserRepositoryLanguage(accessToken, userName, userId, repositories));
+        }
+        if (storesIssuesAndPullRequests()) {
+            timed("issue", () -> githubRestApiService.saveGithubIssues(accessToken, userName, userId, repositories));
+            timed("pull_request", () -> githubRestApiService.saveGithubPullRequests(accessToken, userName, userId, repositories));
+        }
+    }
+
+    private boolean storesIssuesAndPullRequests() {
+        return githubApiProperties.getFetchMode() != GithubApiProperties.FetchMode.GRAPHQL
+                || githubApiProperties.getGraphql().isStoreIssuesAndPullRequests();
+    }
+
+    /**
+     * 1. 메서드 설명: event 단계만 호출 스레드에서 실행한다.
+     *    (저장된 이벤트만 갱신하며, 분석 / 신규 repository 판단은 저장된 이벤트로 하므로 그 결과에 영향을 주지 않는다.)
+     * 3. param:
+     *      accessToken - GitHub API 접근에 사용되는 access token.
+     *      userName    - GitHub 사용자 이름.
+     *      userId      - 로컬 사용자 식별자.
+     * 4. return: 없음.
+     */
+    public void syncEvents(String accessToken, String userName, int userId) {
+        timed("event", () -> githubRestApiService.refreshGithubEvents(accessToken, userName, userId));
+    }
+
+    private void timed(String stage, Runnable task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            task.run();
+        } finally {
+            sample.stop(stageTimer(stage));
+        }
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("github.sync.stage")
+                .tag("stage", stage)
+                .description("GitHub 동기화 pipeline 단계별 소요 시간")
+                .register(meterRegistry);
+    }
+}
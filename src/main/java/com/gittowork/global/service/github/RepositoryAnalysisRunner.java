@@ -0,0 +1,159 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.global.properties.GithubAnalysisProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * repository 조합 안의 repository들을 동시에 분석하는 컴포넌트.
+ * <p>
+ * repository 단위 분석(클론, 스캐너 실행, Sonar API 조회, 통계 집계)을 공유 worker pool에서 동시에 실행하며,
+ * SonarQube compute engine 작업을 기다리는 동안에는 worker 스레드를 반납한다.
+ * PMD / sonar-scanner 프로세스 실행은 서버 전체에서 scannerSlots개까지만 허용하며,
+ * 같은 repository의 스캐너는 로컬 클론과 SonarQube 프로젝트를 공유하므로 한 번에 하나씩만 실행한다.
+ * 스캐너 slot을 기다린 시간은 github.analysis.scanner.wait 지표로 노출한다.
+ * </p>
+ */
+@Component
+public class RepositoryAnalysisRunner {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore scannerSlots;
+    private final Timer scannerWaitTimer;
+    private final Map<String, RepositoryLock> repositoryLocks = new ConcurrentHashMap<>();
+
+    public RepositoryAnalysisRunner(GithubAnalysisProperties properties, MeterRegistry meterRegistry) {
+        this.scannerSlots = new Semaphore(Math.max(1, properties.getScannerSlots()), true);
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(properties.getPoolSize());
+        this.executor.setMaxPoolSize(properties.getPoolSize());
+        this.executor.setThreadNamePrefix("github-analysis-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+
+        this.scannerWaitTimer = Timer.builder("github.analysis.scanner.wait")
+                .description("PMD / sonar-scanner 실행 slot을 기다린 시간")
+                .register(meterRegistry);
+        Gauge.builder("github.analysis.scanner.available", scannerSlots, Semaphore::availablePermits)
+                .description("사용 가능한 PMD / sonar-scanner 실행 slot 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 메서드 설명: repository마다 task를 worker pool에서 시작하고, 모든 작업이 끝나면 입력 순서대로 결과를 담아 완료되는 future를 반환한다.
+     * 2. 로직:
+     *    - task는 worker 스레드에서 시작되며, 반환한 future가 끝날 때까지 worker 스레드를 점유하지 않아도 된다.
+     *      (SonarQube compute engine 대기처럼 외부 완료를 기다리는 구간)
+     *    - 작업 중 하나라도 실패하면 나머지 작업이 끝날 때까지 기다린 뒤 실패한 작업의 예외로 완료한다.
+     *      (이미 실행 중인 스캐너 프로세스를 중간에 끊지 않기 위함)
+     * 3. param:
+     *      repositories - 분석 대상 repository 목록.
+     *      task         - repository 하나의 분석을 시작하고 결과 future를 반환하는 함수.
+     * 4. return: repository 순서와 같은 분석 결과 목록으로 완료되는 CompletableFuture.
+     */
+    public <T> CompletableFuture<List<T>> mapAsync(List<Repository> repositories, Function<Repository, CompletableFuture<T>> task) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(repositories.size());
+        for (Repository repository : repositories) {
+            futures.add(CompletableFuture.supplyAsync(() -> task.apply(repository), executor)
+                    .thenCompose(Function.identity()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 1. 메서드 설명: 이전 단계가 끝나면 다음 단계를 worker pool에서 실행한다.
+     * 2. 로직:
+     *    - webhook 요청 스레드나 상태 조회 scheduler가 완료시킨 future의 후속 작업(Sonar API 조회, 점수 계산 등)을
+     *      해당 스레드에서 실행하지 않기 위해 사용한다.
+     * 3. param:
+     *      stage - 이전 단계.
+     *      next  - 이전 단계의 결과로 실행할 작업.
+     * 4. return: next의 결과로 완료되는 CompletableFuture.
+     */
+    public <T, R> CompletableFuture<R> thenOnWorker(CompletableFuture<T> stage, Function<T, R> next) {
+        return stage.thenApplyAsync(next, executor);
+    }
+
+    /**
+     * 1. 메서드 설명: future의 예외에서 CompletionException 포장을 벗겨 원래 예외를 반환한다.
+     * 3. param:
+     *      throwable - future가 완료된 예외.
+     * 4. return: 원래 예외.
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * 1. 메서드 설명: 스캐너 slot을 얻은 뒤 스캐너 실행 작업을 수행하고 slot을 반납한다.
+     * 2. 로직:
+     *    - 같은 repository의 스캐너가 실행 중이면 끝날 때까지 기다린 뒤 slot을 얻는다. (기다리는 동안 slot은 점유하지 않는다.)
+     *    - repository lock은 기다리거나 실행 중인 스캐너가 없으면 정리한다.
+     * 3. param:
+     *      projectKey - 스캔 대상 repository의 SonarQube 프로젝트 키.
+     *      scan       - PMD / sonar-scanner 프로세스를 실행하고 종료 코드를 반환하는 작업.
+     * 4. return: scan의 반환값.
+     */
+    public int withScannerSlot(String projectKey, ScannerTask scan) throws InterruptedException, IOException {
+        long waitStarted = System.nanoTime();
+        RepositoryLock repositoryLock = repositoryLocks.compute(projectKey, (key, current) -> {
+            RepositoryLock acquired = current == null ? new RepositoryLock() : current;
+            acquired.holders++;
+            return acquired;
+        });
+        try {
+            repositoryLock.lock.lockInterruptibly();
+            try {
+                scannerSlots.acquire();
+                scannerWaitTimer.record(System.nanoTime() - waitStarted, TimeUnit.NANOSECONDS);
+                try {
+                    return scan.run();
+                } finally {
+                    scannerSlots.release();
+                }
+            } finally {
+                repositoryLock.lock.unlock();
+            }
+        } finally {
+            repositoryLocks.computeIfPresent(projectKey, (key, current) -> --current.holders == 0 ? null : current);
+        }
+    }
+
+    // holders는 repositoryLocks.compute 안에서만 변경한다.
+    private static final class RepositoryLock {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int holders;
+    }
+
+    @FunctionalInterface
+    public interface ScannerTask {
+        int run() throws InterruptedException, IOException;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
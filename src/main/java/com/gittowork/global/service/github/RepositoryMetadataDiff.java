@@ -0,0 +1,121 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.model.repository.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 저장된 repository 메타데이터와 GitHub에서 조회한 메타데이터를 repoId 기준으로 비교하는 클래스.
+ * <p>
+ * 페이지마다 apply()를 호출하면 신규 repository와, 기존 repository 중 값이 바뀐 필드만 담은 변경 목록을 반환하며
+ * 내부의 repository 목록도 조회한 값으로 갱신한다. 동기화 한 번 동안 추가 / 변경 / 유지된 repository 수를 누적한다.
+ * </p>
+ */
+class RepositoryMetadataDiff {
+
+    private static final Map<String, Function<Repository, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("repoName", Repository::getRepoName);
+        FIELDS.put("fullName", Repository::getFullName);
+        FIELDS.put("language", Repository::getLanguage);
+        FIELDS.put("stargazersCount", Repository::getStargazersCount);
+        FIELDS.put("forksCount", Repository::getForksCount);
+        FIELDS.put("createdAt", Repository::getCreatedAt);
+        FIELDS.put("updatedAt", Repository::getUpdatedAt);
+        FIELDS.put("pushedAt", Repository::getPushedAt);
+        FIELDS.put("description", Repository::getDescription);
+    }
+
+    private final Map<Integer, Repository> repositoriesById = new LinkedHashMap<>();
+    private int added;
+    private int updated;
+    private int unchanged;
+
+    RepositoryMetadataDiff(List<Repository> storedRepositories) {
+        storedRepositories.forEach(repository -> repositoriesById.putIfAbsent(repository.getRepoId(), repository));
+    }
+
+    /**
+     * 1. 메서드 설명: 조회한 repository 목록을 저장된 값과 비교하여 변경 목록을 만든다.
+     * 2. 로직:
+     *    - repoId가 없는 repository는 신규로, 있는 repository는 필드별로 비교하여 다른 필드만 변경 목록에 담는다.
+     *    - 신규 또는 변경된 repository는 내부 목록에서도 조회한 값으로 교체한다.
+     * 3. param:
+     *      fetched - GitHub에서 조회한 repository 목록.
+     * 4. return: 신규 repository 목록과 repoId별 변경 필드.
+     */
+    Changes apply(List<Repository> fetched) {
+        List<Repository> addedRepositories = new ArrayList<>();
+        Map<Integer, Map<String, Object>> changedFields = new LinkedHashMap<>();
+        for (Repository repository : fetched) {
+            Repository stored = repositoriesById.put(repository.getRepoId(), repository);
+            if (stored == null) {
+                addedRepositories.add(repository);
+                added++;
+                continue;
+            }
+            Map<String, Object> fields = changedFields(stored, repository);
+            if (fields.isEmpty()) {
+                repositoriesById.put(repository.getRepoId(), stored);
+                unchanged++;
+            } else {
+                changedFields.computeIfAbsent(repository.getRepoId(), repoId -> new LinkedHashMap<>()).putAll(fields);
+                updated++;
+            }
+        }
+        return new Changes(addedRepositories, changedFields);
+    }
+
+    List<Repository> repositories() {
+        return new ArrayList<>(repositoriesById.values());
+    }
+
+    int added() {
+        return added;
+    }
+
+    int updated() {
+        return updated;
+    }
+
+    int unchanged() {
+        return unchanged;
+    }
+
+    private static Map<String, Object> changedFields(Repository stored, Repository fetched) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        FIELDS.forEach((field, getter) -> {
+            Object before = getter.apply(stored);
+            Object after = getter.apply(fetched);
+            if (!sameValue(before, after)) {
+                fields.put(field, after);
+            }
+        });
+        return fields;
+    }
+
+    /**
+     * MongoDB에 저장된 시각은 밀리초 단위로 잘리므로 시각 필드는 밀리초까지만 비교한다.
+     */
+    private static boolean sameValue(Object before, Object after) {
+        if (before instanceof LocalDateTime beforeTime && after instanceof LocalDateTime afterTime) {
+            return beforeTime.withNano(beforeTime.getNano() / 1_000_000 * 1_000_000)
+                    .equals(afterTime.withNano(afterTime.getNano() / 1_000_000 * 1_000_000));
+        }
+        return Objects.equals(before, after);
+    }
+
+    record Changes(List<Repository> added, Map<Integer, Map<String, Object>> changedFields) {
+
+        boolean isEmpty() {
+            return added.isEmpty() && changedFields.isEmpty();
+        }
+    }
+}
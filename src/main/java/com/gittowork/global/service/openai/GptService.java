@@ -9,10 +9,14 @@ import com.gittowork.domain.fortune.model.SajuResult;
 import com.gittowork.domain.github.entity.GithubAnalysisResult;
 import com.gittowork.global.config.openai.GptConfig;
 import com.gittowork.global.exception.coverletter.CoverLetterAnalysisException;
+import com.gittowork.global.exception.common.ExternalServiceUnavailableException;
 import com.gittowork.global.exception.common.JsonParsingException;
 import com.gittowork.global.properties.OpenAIProperties;
+import com.gittowork.global.service.resilience.OutboundCallGuard;
+import com.gittowork.global.service.resilience.OutboundDependency;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -27,8 +31,10 @@ import java.util.Map;
 public class GptService {
 
     private final GptConfig gptConfig;
+    @Qualifier("openAiRestTemplate")
     private final RestTemplate restTemplate;
     private final OpenAIProperties openAIProperties;
+    private final OutboundCallGuard outboundCallGuard;
 
     private ObjectMapper objectMapper;
 
@@ -97,6 +103,7 @@ public class GptService {
      *    - 모델, 온도, 최대 토큰 수 등의 정보를 포함하여 요청 본문(Map<String, Object>)을 구성한다.
      *    - messages 필드에는 시스템 메시지와 사용자 메시지를 순서대로 배열로 포함시킨다.
      *    - restTemplate을 사용하여 GPT API에 POST 요청을 전송하고, 응답 본문을 반환한다.
+     *      (OpenAI bulkhead / circuit breaker를 거치며, 거부되면 ExternalServiceUnavailableException을 그대로 던진다.)
      * 3. param:
      *      systemMessageContent - 시스템 메시지 내용.
      *      prompt - 사용자 메시지 내용 (분석에 사용할 텍스트와 지침 포함).
@@ -126,7 +133,8 @@ public class GptService {
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
         try {
             String url = openAIProperties.getUrl();
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
+            ResponseEntity<String> response = outboundCallGuard.call(OutboundDependency.OPENAI,
+                    () -> restTemplate.exchange(url, HttpMethod.POST, entity, String.class));
             String responseBody = response.getBody();
             log.info("GPT API response: {}", responseBody);
 
@@ -137,6 +145,8 @@ public class GptService {
             log.info("Extracted GPT Content: {}", content);
 
             return content;
+        } catch (ExternalServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             throw new CoverLetterAnalysisException("Error calling GPT API");
         }
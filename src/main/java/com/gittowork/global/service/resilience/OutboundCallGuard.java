@@ -0,0 +1,224 @@
+package com.gittowork.global.service.resilience;
+
+import com.gittowork.global.exception.common.ExternalServiceUnavailableException;
+import com.gittowork.global.properties.ResilienceProperties;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성 호출을 bulkhead, circuit breaker, (멱등 호출만) retry로 감싸는 컴포넌트.
+ * <p>
+ * 의존성마다 동시 호출 수를 제한하여 한 서버의 지연이 비동기 스레드 전체를 묶어 두지 않도록 하고,
+ * 실패 또는 느린 호출이 누적되면 circuit을 열어 호출하지 않고 즉시 ExternalServiceUnavailableException을 발생시킨다.
+ * 연결 오류와 5xx 응답만 실패로 집계하며, 4xx 응답(rate limit 포함)은 호출한 쪽에서 처리한다.
+ * 상태와 호출 결과는 resilience4j.circuitbreaker.* / resilience4j.bulkhead.* / resilience4j.retry.* 지표로,
+ * 거부된 호출 수는 outbound.calls.rejected 지표(dependency, reason 태그)로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboundCallGuard {
+
+    private static final Set<MessagingErrorCode> TRANSIENT_FCM_ERRORS = Set.of(
+            MessagingErrorCode.UNAVAILABLE, MessagingErrorCode.INTERNAL, MessagingErrorCode.QUOTA_EXCEEDED);
+
+    private static final Runnable NO_OP = () -> {
+    };
+
+    private final Map<OutboundDependency, Guard> guards = new EnumMap<>(OutboundDependency.class);
+
+    public OutboundCallGuard(ResilienceProperties resilienceProperties, MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        RetryRegistry retryRegistry = RetryRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+
+        for (OutboundDependency dependency : OutboundDependency.values()) {
+            ResilienceProperties.Dependency settings = resilienceProperties.get(dependency);
+            String name = dependency.key();
+
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name, CircuitBreakerConfig.custom()
+                    .failureRateThreshold(settings.getFailureRateThreshold())
+                    .slowCallRateThreshold(settings.getFailureRateThreshold())
+                    .slowCallDurationThreshold(Duration.ofMillis(settings.getSlowCallDurationMillis()))
+                    .slidingWindowSize(settings.getSlidingWindowSize())
+                    .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+                    .waitDurationInOpenState(Duration.ofMillis(settings.getWaitInOpenStateMillis()))
+                    .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+                    .recordException(OutboundCallGuard::isTransient)
+                    .ignoreExceptions(BulkheadFullException.class)
+                    .build());
+            circuitBreaker.getEventPublisher().onStateTransition(event ->
+                    log.warn("Circuit breaker {} changed: {}", name, event.getStateTransition()));
+
+            Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                    .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                    .maxWaitDuration(Duration.ofMillis(settings.getMaxWaitMillis()))
+                    .build());
+
+            Retry retry = retryRegistry.retry(name, RetryConfig.custom()
+                    .maxAttempts(Math.max(1, settings.getRetryMaxAttempts()))
+                    .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                            Duration.ofMillis(settings.getRetryInitialIntervalMillis()), 2.0, 0.5))
+                    .retryOnException(OutboundCallGuard::isTransient)
+                    .build());
+
+            guards.put(dependency, new Guard(circuitBreaker, bulkhead, retry,
+                    rejectedCounter(meterRegistry, name, "circuit_open"),
+                    rejectedCounter(meterRegistry, name, "bulkhead_full")));
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 외부 의존성을 bulkhead와 circuit breaker 안에서 한 번 호출한다. (POST 등 멱등이 아닌 호출)
+     * 3. param:
+     *      dependency - 호출 대상 의존성.
+     *      call       - 실제 호출.
+     * 4. return: 호출 결과.
+     */
+    public <T> T call(OutboundDependency dependency, Supplier<T> call) {
+        return call(dependency, NO_OP, call);
+    }
+
+    /**
+     * 1. 메서드 설명: call과 같으나, bulkhead 자리를 얻기 전에 beforeAttempt를 실행한다. (rate limiter 대기 등)
+     * 3. param:
+     *      dependency    - 호출 대상 의존성.
+     *      beforeAttempt - 호출 직전에 실행할 작업. 대기 시간이 slow call로 집계되거나 bulkhead 자리를 점유하지 않는다.
+     *      call          - 실제 호출.
+     * 4. return: 호출 결과.
+     */
+    public <T> T call(OutboundDependency dependency, Runnable beforeAttempt, Supplier<T> call) {
+        return execute(dependency, beforeAttempt, call::get, false);
+    }
+
+    /**
+     * 1. 메서드 설명: 멱등 호출(GET)을 bulkhead와 circuit breaker 안에서 호출하고, 일시적 실패는 jitter가 적용된 지수 backoff로 재시도한다.
+     * 3. param:
+     *      dependency - 호출 대상 의존성.
+     *      call       - 실제 호출.
+     * 4. return: 호출 결과.
+     */
+    public <T> T callIdempotent(OutboundDependency dependency, Supplier<T> call) {
+        return callIdempotent(dependency, NO_OP, call);
+    }
+
+    /**
+     * 1. 메서드 설명: callIdempotent와 같으나, 재시도를 포함한 매 시도마다 bulkhead 자리를 얻기 전에 beforeAttempt를 실행한다.
+     * 3. param:
+     *      dependency    - 호출 대상 의존성.
+     *      beforeAttempt - 매 시도 직전에 실행할 작업. 대기 시간이 slow call로 집계되거나 bulkhead 자리를 점유하지 않는다.
+     *      call          - 실제 호출.
+     * 4. return: 호출 결과.
+     */
+    public <T> T callIdempotent(OutboundDependency dependency, Runnable beforeAttempt, Supplier<T> call) {
+        return execute(dependency, beforeAttempt, call::get, true);
+    }
+
+    /**
+     * 1. 메서드 설명: checked exception을 던지는 호출(FCM 전송 등)을 bulkhead와 circuit breaker 안에서 한 번 호출한다.
+     * 3. param:
+     *      dependency - 호출 대상 의존성.
+     *      call       - 실제 호출.
+     * 4. return: 호출 결과.
+     */
+    public <T, E extends Exception> T callChecked(OutboundDependency dependency, CheckedCall<T, E> call) throws E {
+        return execute(dependency, NO_OP, call::call, false);
+    }
+
+    /**
+     * 1. 메서드 설명: retry(선택) → circuit breaker → bulkhead 순서로 호출을 감싸 실행한다.
+     * 2. 로직:
+     *    - 매 시도마다 circuit breaker에 들어가기 전에 beforeAttempt를 실행한다.
+     *    - circuit이 열려 있거나 bulkhead 자리를 얻지 못하면 호출하지 않고 ExternalServiceUnavailableException을 발생시킨다.
+     *    - 그 외 예외는 원래 타입 그대로 다시 던진다.
+     * 3. param:
+     *      dependency    - 호출 대상 의존성.
+     *      beforeAttempt - 매 시도 직전에 실행할 작업.
+     *      call          - 실제 호출.
+     *      retryable     - 일시적 실패를 재시도할지 여부.
+     * 4. return: 호출 결과.
+     */
+    @SuppressWarnings("unchecked")
+    private <T, E extends Exception> T execute(OutboundDependency dependency, Runnable beforeAttempt, CheckedSupplier<T> call,
+                                               boolean retryable) throws E {
+        Guard guard = guards.get(dependency);
+        CheckedSupplier<T> guarded = CircuitBreaker.decorateCheckedSupplier(guard.circuitBreaker(),
+                Bulkhead.decorateCheckedSupplier(guard.bulkhead(), call));
+        CheckedSupplier<T> decorated = () -> {
+            beforeAttempt.run();
+            return guarded.get();
+        };
+        if (retryable) {
+            decorated = Retry.decorateCheckedSupplier(guard.retry(), decorated);
+        }
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException e) {
+            guard.circuitOpenRejections().increment();
+            throw new ExternalServiceUnavailableException(dependency.key() + " circuit is open");
+        } catch (BulkheadFullException e) {
+            guard.bulkheadFullRejections().increment();
+            throw new ExternalServiceUnavailableException(dependency.key() + " has too many concurrent calls");
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw (E) e;
+        }
+    }
+
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof ResourceAccessException || e instanceof HttpServerErrorException) {
+            return true;
+        }
+        return e instanceof FirebaseMessagingException fcmException
+                && TRANSIENT_FCM_ERRORS.contains(fcmException.getMessagingErrorCode());
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String dependency, String reason) {
+        return Counter.builder("outbound.calls.rejected")
+                .tag("dependency", dependency)
+                .tag("reason", reason)
+                .description("circuit breaker 또는 bulkhead가 거부한 외부 호출 수")
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface CheckedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private record Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead, Retry retry,
+                         Counter circuitOpenRejections, Counter bulkheadFullRejections) {
+    }
+}
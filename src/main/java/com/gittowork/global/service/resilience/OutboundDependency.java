@@ -0,0 +1,21 @@
+package com.gittowork.global.service.resilience;
+
+/**
+ * bulkhead와 circuit breaker를 따로 두는 외부 의존성.
+ */
+public enum OutboundDependency {
+    GITHUB("github"),
+    SONAR("sonar"),
+    OPENAI("openai"),
+    FCM("fcm");
+
+    private final String key;
+
+    OutboundDependency(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+}
@@ -0,0 +1,191 @@
+package com.gittowork.global.service.sonar;
+
+import com.gittowork.domain.github.model.sonar.SonarCeTaskResponse;
+import com.gittowork.global.exception.github.SonarAnalysisException;
+import com.gittowork.global.properties.SonarComputeEngineProperties;
+import com.gittowork.global.service.resilience.OutboundCallGuard;
+import com.gittowork.global.service.resilience.OutboundDependency;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sonar-scanner가 제출한 SonarQube compute engine(CE) 작업의 완료를 기다리는 컴포넌트.
+ * <p>
+ * 스캐너가 종료된 시점에는 CE가 아직 리포트를 처리 중일 수 있으므로, 측정값 조회는 CE 작업이 끝난 뒤에 해야 한다.
+ * 작업마다 CompletableFuture를 반환하고, scheduler에서 /api/ce/task를 지수 backoff 간격으로 조회하여 완료시킨다.
+ * SonarQube webhook이 먼저 도착하면 조회를 기다리지 않고 바로 완료시킨다.
+ * 기다리는 동안 스레드를 점유하지 않으며, 대기 시간은 sonar.ce.wait, 대기 중인 작업 수는 sonar.ce.pending 지표로 노출한다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SonarTaskTracker {
+
+    private static final String STATUS_SUCCESS = "SUCCESS";
+    private static final Set<String> UNFINISHED_STATUSES = Set.of("PENDING", "IN_PROGRESS");
+
+    private final SonarComputeEngineProperties properties;
+    private final RestTemplate restTemplate;
+    private final OutboundCallGuard outboundCallGuard;
+    private final MeterRegistry meterRegistry;
+    private final String sonarHostUrl;
+    private final String sonarUserToken;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final Map<String, PendingTask> pendingTasks = new ConcurrentHashMap<>();
+
+    public SonarTaskTracker(SonarComputeEngineProperties properties,
+                            @Qualifier("sonarRestTemplate") RestTemplate restTemplate,
+                            OutboundCallGuard outboundCallGuard,
+                            MeterRegistry meterRegistry,
+                            @Value("${sonar.host.url}") String sonarHostUrl,
+                            @Value("${sonar.user.token}") String sonarUserToken) {
+        this.properties = properties;
+        this.restTemplate = restTemplate;
+        this.outboundCallGuard = outboundCallGuard;
+        this.meterRegistry = meterRegistry;
+        this.sonarHostUrl = sonarHostUrl;
+        this.sonarUserToken = sonarUserToken;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(Math.max(1, properties.getPollerPoolSize()));
+        this.scheduler.setThreadNamePrefix("sonar-ce-poller-");
+        this.scheduler.initialize();
+
+        Gauge.builder("sonar.ce.pending", pendingTasks, Map::size)
+                .description("완료를 기다리는 SonarQube compute engine 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 1. 메서드 설명: CE 작업의 완료를 기다리는 CompletableFuture를 반환한다.
+     * 2. 로직:
+     *    - initialPollInterval 뒤부터 /api/ce/task를 조회하며, 작업이 끝나지 않았으면 조회 간격을 maxPollInterval까지 두 배씩 늘린다.
+     *    - 작업이 SUCCESS로 끝나면 정상 완료하고, FAILED / CANCELED로 끝나거나 timeout을 넘기면 SonarAnalysisException으로 완료한다.
+     *    - 같은 작업을 이미 기다리는 중이면 같은 future를 반환한다.
+     * 3. param:
+     *      ceTaskId - report-task.txt의 ceTaskId.
+     * 4. return: CE 작업이 성공하면 완료되는 CompletableFuture.
+     */
+    public CompletableFuture<Void> awaitCompletion(String ceTaskId) {
+        PendingTask created = new PendingTask(ceTaskId);
+        PendingTask pending = pendingTasks.putIfAbsent(ceTaskId, created);
+        if (pending != null) {
+            return pending.future;
+        }
+        schedulePoll(created, properties.getInitialPollInterval());
+        return created.future;
+    }
+
+    /**
+     * 1. 메서드 설명: SonarQube webhook으로 받은 CE 작업 결과를 반영한다.
+     * 3. param:
+     *      ceTaskId - webhook payload의 taskId.
+     *      status   - webhook payload의 status.
+     * 4. return: 기다리던 작업이면 true, 아니면 false.
+     */
+    public boolean onTaskFinished(String ceTaskId, String status) {
+        if (ceTaskId == null || status == null || UNFINISHED_STATUSES.contains(status)) {
+            return false;
+        }
+        return finish(ceTaskId, status, null, "webhook");
+    }
+
+    private void schedulePoll(PendingTask pending, Duration delay) {
+        scheduler.schedule(() -> poll(pending, delay), Instant.now().plus(delay));
+    }
+
+    private void poll(PendingTask pending, Duration interval) {
+        if (pending.future.isDone()) {
+            return;
+        }
+        if (System.nanoTime() - pending.startedAt > properties.getTimeout().toNanos()) {
+            finish(pending.ceTaskId, "TIMEOUT", "no result after " + properties.getTimeout(), "poll");
+            return;
+        }
+        try {
+            String url = sonarHostUrl + "/api/ce/task?id=" + pending.ceTaskId;
+            SonarCeTaskResponse response = outboundCallGuard.call(OutboundDependency.SONAR,
+                    () -> restTemplate.exchange(url, HttpMethod.GET, authorizedRequest(), SonarCeTaskResponse.class))
+                    .getBody();
+            SonarCeTaskResponse.Task task = response == null ? null : response.getTask();
+            if (task != null && task.getStatus() != null && !UNFINISHED_STATUSES.contains(task.getStatus())) {
+                finish(pending.ceTaskId, task.getStatus(), task.getErrorMessage(), "poll");
+                return;
+            }
+        } catch (RuntimeException e) {
+            // 일시적인 조회 실패는 다음 조회에서 다시 확인한다.
+            log.warn("Failed to poll SonarQube compute engine task {}: {}", pending.ceTaskId, e.getMessage());
+        }
+        Duration next = interval.multipliedBy(2);
+        if (next.compareTo(properties.getMaxPollInterval()) > 0) {
+            next = properties.getMaxPollInterval();
+        }
+        schedulePoll(pending, next);
+    }
+
+    private boolean finish(String ceTaskId, String status, String errorMessage, String source) {
+        PendingTask pending = pendingTasks.remove(ceTaskId);
+        if (pending == null) {
+            return false;
+        }
+        boolean success = STATUS_SUCCESS.equals(status);
+        Timer.builder("sonar.ce.wait")
+                .tag("outcome", status.toLowerCase())
+                .tag("source", source)
+                .description("sonar-scanner 종료 후 compute engine 작업이 끝나기까지 기다린 시간")
+                .register(meterRegistry)
+                .record(System.nanoTime() - pending.startedAt, TimeUnit.NANOSECONDS);
+        if (success) {
+            log.info("SonarQube compute engine task {} finished ({})", ceTaskId, source);
+            pending.future.complete(null);
+        } else {
+            pending.future.completeExceptionally(new SonarAnalysisException(
+                    "SonarQube compute engine task " + ceTaskId + " ended with " + status
+                            + (errorMessage != null ? ": " + errorMessage : "")));
+        }
+        return true;
+    }
+
+    private HttpEntity<String> authorizedRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Basic " +
+                Base64.getEncoder().encodeToString((sonarUserToken + ":").getBytes(StandardCharsets.UTF_8)));
+        return new HttpEntity<>(headers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        pendingTasks.keySet().forEach(ceTaskId -> finish(ceTaskId, "SHUTDOWN", null, "shutdown"));
+    }
+
+    private static final class PendingTask {
+        private final String ceTaskId;
+        private final long startedAt = System.nanoTime();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingTask(String ceTaskId) {
+            this.ceTaskId = ceTaskId;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.gittowork.global.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 40자리 hex 커밋 SHA를 20바이트 값으로 압축하여 저장하는 open addressing(linear probing) 집합.
+ * <p>
+ * SHA 하나를 long 3개(8 + 8 + 4바이트) slot에 저장하므로 부하율 0.5 기준 원소당 약 48바이트를 사용한다.
+ * HashSet&lt;String&gt;은 원소마다 String, byte[], HashMap.Node 객체를 유지하여 원소당 약 120바이트를 사용하므로,
+ * 커밋이 많은 repository의 저장된 SHA를 모두 올려 두는 동기화 중복 확인에서 할당량을 크게 줄인다.
+ * 40자리 hex가 아닌 값은 별도의 HashSet에 그대로 저장한다.
+ * 삭제는 지원하지 않으며 스레드에 안전하지 않다.
+ * </p>
+ */
+public final class ShaSet {
+
+    private static final int SHA_LENGTH = 40;
+    private static final int STRIDE = 3;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    // 모든 값이 0인 SHA는 빈 slot과 구분할 수 없으므로 별도로 기록한다.
+    private boolean containsZero;
+    private Set<String> others;
+
+    public ShaSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    public ShaSet(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(MIN_CAPACITY, expectedSize * 2));
+        this.slots = new long[capacity * STRIDE];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 1. 메서드 설명: SHA를 추가한다.
+     * 2. 로직:
+     *    - 40자리 hex이면 상위 16자리, 중간 16자리, 하위 8자리를 각각 long으로 변환하여 저장한다. (대소문자 구분 없음)
+     *    - 그 외 값(null 제외)은 별도의 HashSet에 저장한다.
+     * 3. param:
+     *      sha - 추가할 커밋 SHA.
+     * 4. return: 새로 추가되었으면 true, 이미 있던 값이면 false.
+     */
+    public boolean add(String sha) {
+        if (sha == null) {
+            return false;
+        }
+        if (!isHexSha(sha)) {
+            if (others == null) {
+                others = new HashSet<>();
+            }
+            if (!others.add(sha)) {
+                return false;
+            }
+            size++;
+            return true;
+        }
+        long high = parseHex(sha, 0, 16);
+        long middle = parseHex(sha, 16, 32);
+        long low = parseHex(sha, 32, 40);
+        if ((high | middle | low) == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = find(high, middle, low);
+        if (!isEmpty(slot)) {
+            return false;
+        }
+        put(slots, slot, high, middle, low);
+        if (++size * 2 > capacity()) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(String sha) {
+        if (sha == null) {
+            return false;
+        }
+        if (!isHexSha(sha)) {
+            return others != null && others.contains(sha);
+        }
+        long high = parseHex(sha, 0, 16);
+        long middle = parseHex(sha, 16, 32);
+        long low = parseHex(sha, 32, 40);
+        if ((high | middle | low) == 0) {
+            return containsZero;
+        }
+        return !isEmpty(find(high, middle, low));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 같은 값이 있는 slot 또는 값을 넣을 빈 slot의 시작 위치를 반환한다.
+     */
+    private int find(long high, long middle, long low) {
+        int index = mix(high ^ middle * 31 ^ low) & mask;
+        while (true) {
+            int slot = index * STRIDE;
+            if (isEmpty(slot) || (slots[slot] == high && slots[slot + 1] == middle && slots[slot + 2] == low)) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private boolean isEmpty(int slot) {
+        return (slots[slot] | slots[slot + 1] | slots[slot + 2]) == 0;
+    }
+
+    private int capacity() {
+        return mask + 1;
+    }
+
+    private void resize() {
+        long[] previous = slots;
+        slots = new long[previous.length * 2];
+        mask = capacity() * 2 - 1;
+        for (int slot = 0; slot < previous.length; slot += STRIDE) {
+            long high = previous[slot];
+            long middle = previous[slot + 1];
+            long low = previous[slot + 2];
+            if ((high | middle | low) != 0) {
+                put(slots, find(high, middle, low), high, middle, low);
+            }
+        }
+    }
+
+    private static void put(long[] target, int slot, long high, long middle, long low) {
+        target[slot] = high;
+        target[slot + 1] = middle;
+        target[slot + 2] = low;
+    }
+
+    /**
+     * 연속된 값도 table 전체에 고르게 퍼지도록 64비트 값을 섞는다. (MurmurHash3 finalizer)
+     */
+    private static int mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int highest = Integer.highestOneBit(Math.max(1, capacity - 1));
+        if (highest >= 1 << 30) {
+            return 1 << 30;
+        }
+        return highest << 1;
+    }
+
+    private static boolean isHexSha(String value) {
+        if (value.length() != SHA_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < SHA_LENGTH; i++) {
+            if (hexValue(value.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = (result << 4) | hexValue(value.charAt(i));
+        }
+        return result;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.gittowork.domain.github.model.payload;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GithubPayloadDecodingTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void decodesIssueAndSkipsUnknownFields() throws Exception {
+        String json = """
+                [{"id":2147483648,"number":7,"title":"Crash on start","body":"stack trace",
+                  "comments_url":"https://api.github.com/repos/octocat/hello/issues/7/comments",
+                  "user":{"login":"octocat","id":583231,"site_admin":false},
+                  "labels":[{"id":5000000001,"name":"bug","color":"d73a4a","description":"Something isn't working","default":true}],
+                  "assignees":[],"comments":3,
+                  "reactions":{"total_count":1,"+1":1},"milestone":null}]""";
+
+        List<GithubIssuePayload> issues = objectMapper.readValue(json, new TypeReference<>() {});
+
+        assertThat(issues).hasSize(1);
+        GithubIssuePayload issue = issues.get(0);
+        assertThat(issue.getId()).isEqualTo(2_147_483_648L);
+        assertThat(issue.getNumber()).isEqualTo(7);
+        assertThat(issue.getCommentsUrl()).endsWith("/issues/7/comments");
+        assertThat(issue.getUser().getLogin()).isEqualTo("octocat");
+        assertThat(issue.getLabels()).singleElement()
+                .satisfies(label -> assertThat(label.getId()).isEqualTo(5_000_000_001L));
+        assertThat(issue.getComments()).isEqualTo(3);
+    }
+
+    @Test
+    void decodesPullRequestBaseRepositoryId() throws Exception {
+        String json = """
+                {"id":42,"number":12,"title":"Add feature","review_comments":2,"commits":4,
+                 "head":{"ref":"feature","sha":"a94a8fe5ccb19ba61c4c0873d391e987982fbbd3","repo":{"id":99,"full_name":"fork/hello"}},
+                 "base":{"ref":"main","sha":"de9f2c7fd25e1b3afad3e85a0bd17d9b100db4b3","repo":{"id":1296269,"full_name":"octocat/hello"}}}""";
+
+        GithubPullRequestPayload pullRequest = objectMapper.readValue(json, GithubPullRequestPayload.class);
+
+        assertThat(pullRequest.getReviewComments()).isEqualTo(2);
+        assertThat(pullRequest.getBase().getRepo().getId()).isEqualTo(1_296_269);
+        assertThat(pullRequest.getBase().getRepo().getFullName()).isEqualTo("octocat/hello");
+        assertThat(pullRequest.getHead().getRef()).isEqualTo("feature");
+    }
+
+    @Test
+    void decodesCommitAuthorDate() throws Exception {
+        String json = """
+                [{"sha":"a94a8fe5ccb19ba61c4c0873d391e987982fbbd3","node_id":"C_kwDO",
+                  "commit":{"message":"Initial commit","tree":{"sha":"abc"},
+                            "author":{"name":"Mona","email":"mona@example.com","date":"2024-03-01T09:30:00Z"}},
+                  "parents":[]}]""";
+
+        List<GithubCommitPayload> commits = objectMapper.readValue(json, new TypeReference<>() {});
+
+        GithubCommitPayload.CommitAuthor author = commits.get(0).getCommit().getAuthor();
+        assertThat(commits.get(0).getSha()).isEqualTo("a94a8fe5ccb19ba61c4c0873d391e987982fbbd3");
+        assertThat(author.getName()).isEqualTo("Mona");
+        assertThat(author.getDate()).isEqualTo(OffsetDateTime.parse("2024-03-01T09:30:00Z"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.gittowork.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * github-replay / github-benchmark 프로파일에서 사용하는 로컬 GitHub API stand-in 설정. (테스트 소스 전용)
+ */
+@Component
+@ConfigurationProperties(prefix = "github.replay")
+@Getter
+@Setter
+public class GithubReplayProperties {
+    private int port = 18080;
+    private int threads = 32;
+
+    /**
+     * 모든 응답에 추가하는 지연 시간과, 그 위에 무작위로 더하는 최대 jitter.
+     */
+    private long latencyMillis = 0;
+    private long latencyJitterMillis = 0;
+
+    /**
+     * 기록된 fixture 디렉터리. "{fixtureDir}/{요청 경로}.json" 파일이 있으면 합성 데이터 대신 사용한다.
+     */
+    private String fixtureDir;
+
+    /**
+     * 설정하면 fixture가 없는 요청을 이 주소(예: https://api.github.com)에서 모든 페이지를 받아 fixtureDir에 기록한 뒤 응답한다.
+     */
+    private String recordFrom;
+
+    /**
+     * access token별 시간당 요청 한도. X-RateLimit-* 헤더로 전달하며, 소진되면 403을 반환한다.
+     */
+    private int rateLimit = 5000;
+
+    /**
+     * "bench-{N}" 형식이 아닌 사용자에게 생성하는 repository 수. ("bench-100"은 repository 100개)
+     */
+    private int defaultRepositories = 10;
+    private int commitsPerRepository = 50;
+    private int issuesPerRepository = 10;
+    private int pullRequestsPerRepository = 5;
+    private int eventsPerUser = 30;
+
+    private Benchmark benchmark = new Benchmark();
+
+    @Getter
+    @Setter
+    public static class Benchmark {
+        /**
+         * 합성 사용자별 repository 수. 각 크기마다 "bench-{N}" 사용자로 전체 onboarding을 한 번 실행한다.
+         */
+        private List<Integer> sizes = new ArrayList<>(List.of(10, 100, 1000));
+    }
+}
@@ -0,0 +1,140 @@
+package com.gittowork.global.service.github;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.domain.github.entity.GithubLanguage;
+import com.gittowork.domain.github.entity.GithubRepository;
+import com.gittowork.domain.github.entity.GithubRepositoryStats;
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.domain.github.repository.GithubLanguageRepository;
+import com.gittowork.domain.github.repository.GithubRepoRepository;
+import com.gittowork.domain.github.repository.GithubRepositoryStatsRepository;
+import com.gittowork.global.properties.GithubApiProperties;
+import com.gittowork.global.properties.ResilienceProperties;
+import com.gittowork.global.service.resilience.OutboundCallGuard;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GithubGraphqlServiceTest {
+
+    private static final String FIRST_PAGE = """
+            {"data":{"user":{"repositories":{
+              "pageInfo":{"hasNextPage":true,"endCursor":"cursor-1"},
+              "nodes":[{"databaseId":101,"name":"alpha","nameWithOwner":"octocat/alpha","description":null,
+                        "stargazerCount":3,"forkCount":1,"createdAt":"2024-01-01T00:00:00Z","updatedAt":"2024-02-01T00:00:00Z",
+                        "pushedAt":"2024-02-01T00:00:00Z","primaryLanguage":{"name":"Java"},
+                        "languages":{"edges":[{"size":1200,"node":{"name":"Java"}},{"size":300,"node":{"name":"Shell"}}]},
+                        "issues":{"totalCount":4},"pullRequests":{"totalCount":2},
+                        "defaultBranchRef":{"target":{"history":{"totalCount":57}}}}]}}}}""";
+
+    private static final String SECOND_PAGE = """
+            {"data":{"user":{"repositories":{
+              "pageInfo":{"hasNextPage":false,"endCursor":null},
+              "nodes":[{"databaseId":102,"name":"empty","nameWithOwner":"octocat/empty","description":"no commits yet",
+                        "stargazerCount":0,"forkCount":0,"createdAt":"2024-03-01T00:00:00Z","updatedAt":"2024-03-01T00:00:00Z",
+                        "pushedAt":null,"primaryLanguage":null,"languages":{"edges":[]},
+                        "issues":{"totalCount":0},"pullRequests":{"totalCount":0},"defaultBranchRef":null}]}}}}""";
+
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    private GithubRepoRepository githubRepoRepository;
+    private GithubLanguageRepository githubLanguageRepository;
+    private GithubRepositoryStatsRepository githubRepositoryStatsRepository;
+    private GithubGraphqlService githubGraphqlService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/graphql", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requestBodies.add(body);
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+            byte[] response = (body.contains("\"cursor-1\"") ? SECOND_PAGE : FIRST_PAGE).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        GithubApiProperties properties = new GithubApiProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setFetchMode(GithubApiProperties.FetchMode.GRAPHQL);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GithubApiClient githubApiClient = new GithubApiClient(new RestTemplate(), properties,
+                new GithubRateLimiter(properties, meterRegistry),
+                new OutboundCallGuard(new ResilienceProperties(), meterRegistry),
+                new GithubBackgroundRequestCounter(), new ObjectMapper(), meterRegistry);
+
+        githubRepoRepository = mock(GithubRepoRepository.class);
+        githubLanguageRepository = mock(GithubLanguageRepository.class);
+        githubRepositoryStatsRepository = mock(GithubRepositoryStatsRepository.class);
+        githubGraphqlService = new GithubGraphqlService(githubApiClient, properties, githubRepoRepository,
+                githubLanguageRepository, githubRepositoryStatsRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void savesRepositoriesLanguagesAndCountsPageByPage() {
+        List<List<Repository>> pages = new ArrayList<>();
+
+        GithubRepository githubRepository = githubGraphqlService.saveUserGithubRepositoryOverview("token", "octocat", 7, pages::add);
+
+        assertThat(requestBodies).hasSize(2);
+        assertThat(requestBodies.get(0)).contains("\"login\":\"octocat\"").doesNotContain("cursor-1");
+        assertThat(requestBodies.get(1)).contains("\"after\":\"cursor-1\"");
+        assertThat(authorizations).allMatch(header -> header != null && header.endsWith("token"));
+
+        assertThat(pages).hasSize(2);
+        assertThat(githubRepository.getRepositories()).extracting(Repository::getRepoId).containsExactly(101, 102);
+        Repository alpha = githubRepository.getRepositories().get(0);
+        assertThat(alpha.getFullName()).isEqualTo("octocat/alpha");
+        assertThat(alpha.getLanguage()).isEqualTo("Java");
+        assertThat(alpha.getDescription()).isEmpty();
+        assertThat(githubRepository.getRepositories().get(1).getPushedAt()).isNull();
+
+        ArgumentCaptor<List<Repository>> added = ArgumentCaptor.forClass(List.class);
+        verify(githubRepoRepository, times(2)).applyRepositoryChanges(eq(7), added.capture(), anyMap());
+        assertThat(added.getAllValues()).flatExtracting(page -> page).extracting(Repository::getRepoId)
+                .containsExactly(101, 102);
+
+        ArgumentCaptor<List<GithubLanguage>> languages = ArgumentCaptor.forClass(List.class);
+        verify(githubLanguageRepository, times(2)).saveAll(languages.capture());
+        assertThat(languages.getAllValues().get(0).get(0).getLanguages())
+                .containsExactly(entry("Java", 1200L), entry("Shell", 300L));
+        assertThat(languages.getAllValues().get(1).get(0).getLanguages()).isEmpty();
+
+        ArgumentCaptor<List<GithubRepositoryStats>> stats = ArgumentCaptor.forClass(List.class);
+        verify(githubRepositoryStatsRepository, times(2)).saveAll(stats.capture());
+        GithubRepositoryStats alphaStats = stats.getAllValues().get(0).get(0);
+        assertThat(alphaStats.getIssueCount()).isEqualTo(4);
+        assertThat(alphaStats.getPrCount()).isEqualTo(2);
+        assertThat(alphaStats.getCommitCount()).isEqualTo(57);
+        assertThat(stats.getAllValues().get(1).get(0).getCommitCount()).isZero();
+    }
+}
@@ -0,0 +1,117 @@
+package com.gittowork.global.service.github;
+
+import com.gittowork.domain.github.entity.GithubSyncCheckpoint;
+import com.gittowork.domain.github.model.payload.GithubRepositoryPayload;
+import com.gittowork.domain.github.model.payload.GithubWebhookPayload;
+import com.gittowork.domain.github.repository.*;
+import com.gittowork.global.properties.GithubIngestionProperties;
+import com.gittowork.global.service.git.GitHistoryMiner;
+import com.gittowork.global.service.git.GitRepositoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GithubRestApiService의 webhook 반영 로직을 저장소 mock으로 검증한다.
+ */
+class GithubRestApiServiceTest {
+
+    private static final int USER_ID = 7;
+    private static final int REPO_ID = 101;
+
+    private GithubRepoRepository githubRepoRepository;
+    private GithubCommitRepository githubCommitRepository;
+    private GithubSyncCheckpointRepository githubSyncCheckpointRepository;
+    private GithubRestApiService githubRestApiService;
+
+    @BeforeEach
+    void setUp() {
+        githubRepoRepository = mock(GithubRepoRepository.class);
+        githubCommitRepository = mock(GithubCommitRepository.class);
+        githubSyncCheckpointRepository = mock(GithubSyncCheckpointRepository.class);
+        githubRestApiService = new GithubRestApiService(
+                mock(GithubApiClient.class),
+                githubRepoRepository,
+                githubCommitRepository,
+                mock(GithubLanguageRepository.class),
+                mock(GithubIssueRepository.class),
+                mock(GithubPullRequestRepository.class),
+                mock(GithubEventRepository.class),
+                mock(GithubEventPoller.class),
+                githubSyncCheckpointRepository,
+                mock(GithubIngestionRunner.class),
+                new GithubIngestionProperties(),
+                mock(GitRepositoryService.class),
+                mock(GitHistoryMiner.class));
+    }
+
+    @Test
+    void pushTimestampWithOffsetIsStoredAsUtc() {
+        GithubSyncCheckpoint checkpoint = GithubSyncCheckpoint.builder()
+                .userId(USER_ID)
+                .repoId(REPO_ID)
+                .headSha("before-sha")
+                .lastCommitDate(LocalDateTime.of(2024, 5, 1, 0, 0))
+                .build();
+        when(githubRepoRepository.containsRepository(USER_ID, REPO_ID)).thenReturn(true);
+        when(githubSyncCheckpointRepository.findByUserIdAndRepoId(USER_ID, REPO_ID)).thenReturn(Optional.of(checkpoint));
+        when(githubCommitRepository.findExistingShas(eq(USER_ID), eq(REPO_ID), anyCollection())).thenReturn(Set.of("after-sha"));
+
+        GithubWebhookPayload payload = pushPayload(false, "2024-05-02T09:30:00+09:00");
+
+        assertThat(githubRestApiService.applyPushEvent("token", USER_ID, payload)).isTrue();
+
+        ArgumentCaptor<GithubSyncCheckpoint> saved = ArgumentCaptor.forClass(GithubSyncCheckpoint.class);
+        verify(githubSyncCheckpointRepository).save(saved.capture());
+        assertThat(saved.getValue().getHeadSha()).isEqualTo("after-sha");
+        assertThat(saved.getValue().getLastCommitDate()).isEqualTo(LocalDateTime.of(2024, 5, 2, 0, 30));
+    }
+
+    @Test
+    void pushToPrivateRepositoryIsIgnored() {
+        when(githubRepoRepository.containsRepository(USER_ID, REPO_ID)).thenReturn(true);
+
+        assertThat(githubRestApiService.applyPushEvent("token", USER_ID, pushPayload(true, "2024-05-02T00:00:00Z"))).isTrue();
+
+        verifyNoInteractions(githubCommitRepository, githubSyncCheckpointRepository);
+    }
+
+    @Test
+    void pushToUnknownRepositoryIsIgnored() {
+        when(githubRepoRepository.containsRepository(USER_ID, REPO_ID)).thenReturn(false);
+
+        assertThat(githubRestApiService.applyPushEvent("token", USER_ID, pushPayload(false, "2024-05-02T00:00:00Z"))).isTrue();
+
+        verifyNoInteractions(githubCommitRepository, githubSyncCheckpointRepository);
+    }
+
+    private static GithubWebhookPayload pushPayload(boolean privateRepository, String timestamp) {
+        return GithubWebhookPayload.builder()
+                .ref("refs/heads/main")
+                .before("before-sha")
+                .after("after-sha")
+                .repository(GithubRepositoryPayload.builder()
+                        .id(REPO_ID)
+                        .name("alpha")
+                        .fullName("octocat/alpha")
+                        .defaultBranch("main")
+                        .privateRepository(privateRepository)
+                        .build())
+                .commits(List.of(GithubWebhookPayload.PushCommit.builder()
+                        .id("after-sha")
+                        .message("fix")
+                        .timestamp(OffsetDateTime.parse(timestamp))
+                        .build()))
+                .build();
+    }
+}
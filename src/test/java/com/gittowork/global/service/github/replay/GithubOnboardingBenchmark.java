@@ -0,0 +1,116 @@
+package com.gittowork.global.service.github.replay;
+
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.global.properties.GithubApiProperties;
+import com.gittowork.global.properties.GithubIngestionProperties;
+import com.gittowork.global.properties.GithubReplayProperties;
+import com.gittowork.global.service.github.GithubSyncPipeline;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GithubReplayServer를 대상으로 합성 사용자("bench-{N}")의 전체 onboarding을 실행하고
+ * 크기별 소요 시간, GitHub API 요청 수, 할당량을 로그로 보고하는 benchmark.
+ * <p>
+ * 테스트 소스에만 포함되며, GITHUB_BENCHMARK=true 환경 변수가 있을 때만 github-benchmark 프로파일로 실행된다.
+ * (예: GITHUB_BENCHMARK=true ./gradlew test --tests '*GithubOnboardingBenchmark')
+ * 실행 전 해당 사용자(userId = -N)의 MongoDB 데이터를 지우므로 반드시 별도의 MongoDB 데이터베이스를 대상으로 실행한다.
+ * GithubIngestionQueue가 작업 단위로 실행하는 단계(repository 목록 → repository별 동기화 → event)를 테스트 스레드에서 차례로 실행하므로,
+ * 소요 시간은 worker 간 병렬 실행을 제외한 값이다.
+ * 할당량은 측정 전후 살아 있는 스레드의 할당 바이트 차이로 계산하므로 근사치이다.
+ * 클라이언트 측 token bucket(github.api.rate-limit)도 그대로 적용되므로, 수집 로직만 측정하려면
+ * github.api.rate-limit.enabled=false로 실행한다.
+ * </p>
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("github-benchmark")
+@EnabledIfEnvironmentVariable(named = "GITHUB_BENCHMARK", matches = "true")
+class GithubOnboardingBenchmark {
+
+    private static final String BENCHMARK_TOKEN = "benchmark-token";
+
+    @Autowired
+    private GithubReplayServer githubReplayServer;
+
+    @Autowired
+    private GithubSyncPipeline githubSyncPipeline;
+
+    @Autowired
+    private GithubApiProperties githubApiProperties;
+
+    @Autowired
+    private GithubIngestionProperties githubIngestionProperties;
+
+    @Autowired
+    private GithubReplayProperties githubReplayProperties;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    /**
+     * 1. 메서드 설명: 설정된 크기마다 합성 사용자의 onboarding을 한 번씩 실행하고 결과를 보고한다.
+     * 2. 로직:
+     *    - GitHub API 주소를 replay 서버로 바꾸고, 클론을 만들 수 없으므로 커밋 상세는 API로 조회하도록 설정한다.
+     *    - 크기마다 이전 데이터를 지운 뒤 GithubSyncPipeline의 단계를 차례로 실행하고, 소요 시간 / route별 요청 수 / 할당량을 기록한다.
+     */
+    @Test
+    void onboarding() {
+        githubApiProperties.setBaseUrl(githubReplayServer.baseUrl());
+        githubIngestionProperties.setCommitDetailSource(GithubIngestionProperties.CommitDetailSource.API);
+
+        for (int size : githubReplayProperties.getBenchmark().getSizes()) {
+            String userName = "bench-" + size;
+            int userId = -size;
+            clearUserData(userId);
+            githubReplayServer.resetCounters();
+
+            long allocatedBefore = allocatedBytes();
+            long startedAt = System.nanoTime();
+            List<Repository> repositories = new ArrayList<>();
+            githubSyncPipeline.syncRepositoryList(BENCHMARK_TOKEN, userName, userId, repositories::addAll);
+            for (Repository repository : repositories) {
+                githubSyncPipeline.syncRepository(BENCHMARK_TOKEN, userName, userId, repository);
+            }
+            githubSyncPipeline.syncEvents(BENCHMARK_TOKEN, userName, userId);
+            long wallMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            long allocatedMegabytes = (allocatedBytes() - allocatedBefore) / (1024 * 1024);
+
+            Map<String, Long> requests = githubReplayServer.requestCounts();
+            long totalRequests = requests.values().stream().mapToLong(Long::longValue).sum();
+            log.info("[benchmark] repositories={} wall={}ms requests={} {} allocated={}MB",
+                    size, wallMillis, totalRequests, requests, allocatedMegabytes);
+        }
+    }
+
+    private void clearUserData(int userId) {
+        Query query = Query.query(Criteria.where("userId").is(userId));
+        for (String collection : mongoTemplate.getCollectionNames()) {
+            mongoTemplate.remove(query, collection);
+        }
+    }
+
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean)
+                || !threadMXBean.isThreadAllocatedMemorySupported()) {
+            return 0;
+        }
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        return Arrays.stream(threadMXBean.getThreadAllocatedBytes(threadIds))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+}
@@ -0,0 +1,428 @@
+package com.gittowork.global.service.github.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.global.properties.GithubReplayProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GitHub quota를 쓰지 않고 수집 로직을 측정하기 위한 로컬 GitHub REST API stand-in.
+ * <p>
+ * github-replay 또는 github-benchmark 프로파일에서만 활성화되며, 수집에 사용하는 엔드포인트
+ * (repository 목록, commit 목록 / 상세, language, issue, pull request, event)를 제공한다.
+ * 응답은 fixtureDir의 기록된 fixture를 우선 사용하고, 없으면 recordFrom에서 받아 기록하거나 합성 데이터를 생성한다.
+ * 실제 API와 같이 per_page / page 페이지네이션과 Link 헤더, ETag 조건부 요청(304는 quota 미차감),
+ * access token별 X-RateLimit-* 헤더와 한도 초과 시 403 응답을 재현하며, 설정된 지연 시간을 모든 응답에 더한다.
+ * github.api.base-url을 baseUrl()로 지정하면 애플리케이션이 이 서버를 호출한다.
+ * 테스트 소스에만 포함되므로, 애플리케이션을 이 서버와 함께 띄우려면
+ * ./gradlew bootTestRun --args='--spring.profiles.active=github-replay'로 실행한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile({"github-replay", "github-benchmark"})
+public class GithubReplayServer {
+
+    private static final int DEFAULT_PER_PAGE = 30;
+    private static final int MAX_PER_PAGE = 100;
+    private static final long RATE_LIMIT_WINDOW_SECONDS = 3600;
+
+    private static final Pattern USER_ROUTE = Pattern.compile("^/users/([^/]+)/(repos|events)$");
+    private static final Pattern COMMIT_ROUTE = Pattern.compile("^/repos/([^/]+)/([^/]+)/commits/([0-9a-fA-F]+)$");
+    private static final Pattern REPOSITORY_ROUTE = Pattern.compile("^/repos/([^/]+)/([^/]+)/(commits|languages|issues|pulls)$");
+
+    private final GithubReplayProperties properties;
+    private final ObjectMapper objectMapper;
+    private final SyntheticGithubData syntheticData;
+    private final Map<String, LongAdder> requestsByRoute = new ConcurrentHashMap<>();
+    private final Map<String, RateWindow> rateWindows = new ConcurrentHashMap<>();
+    private HttpClient recordClient;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public GithubReplayServer(GithubReplayProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.syntheticData = new SyntheticGithubData(properties);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        executor = Executors.newFixedThreadPool(properties.getThreads());
+        server = HttpServer.create(new InetSocketAddress("localhost", properties.getPort()), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        if (properties.getRecordFrom() != null) {
+            recordClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        }
+        log.info("GitHub replay server listening on {} (fixtures: {}, record from: {})",
+                baseUrl(), properties.getFixtureDir(), properties.getRecordFrom());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 1. 메서드 설명: 마지막 resetCounters() 이후 처리한 요청 수를 route별로 반환한다.
+     * 4. return: route 이름("repos", "commits", "commit", "languages", "issues", "pulls", "events", "unknown") → 요청 수.
+     */
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        requestsByRoute.forEach((route, adder) -> counts.put(route, adder.sum()));
+        return counts;
+    }
+
+    public void resetCounters() {
+        requestsByRoute.clear();
+        rateWindows.clear();
+    }
+
+    /**
+     * 1. 메서드 설명: 요청 하나를 처리한다.
+     * 2. 로직:
+     *    - 설정된 지연 시간(+ jitter)만큼 대기한 뒤 경로에 맞는 응답 데이터를 찾는다. 없는 경로는 404를 반환한다.
+     *    - 목록 응답은 since(커밋) 필터와 per_page / page 페이지네이션을 적용하고, 다음 페이지가 있으면 Link 헤더를 붙인다.
+     *    - If-None-Match가 응답 ETag와 같으면 quota를 차감하지 않고 304를 반환한다.
+     *    - quota를 차감하고, 소진된 경우 실제 API와 같은 형태의 403을 반환한다.
+     * 3. param:
+     *      exchange - HTTP 요청 / 응답.
+     * 4. return: 없음.
+     */
+    private void handle(HttpExchange exchange) {
+        try {
+            injectLatency();
+            URI uri = exchange.getRequestURI();
+            String path = uri.getPath();
+            Map<String, String> query = parseQuery(uri.getRawQuery());
+            String token = token(exchange.getRequestHeaders().getFirst("Authorization"));
+
+            Route route = resolve(path);
+            requestsByRoute.computeIfAbsent(route.name(), key -> new LongAdder()).increment();
+            Object data = route.name().equals("unknown") ? null : load(route, path, token);
+            if (data == null) {
+                send(exchange, 404, objectMapper.writeValueAsBytes(Map.of("message", "Not Found")));
+                return;
+            }
+
+            if (data instanceof List<?> list) {
+                List<?> filtered = route.name().equals("commits") ? filterSince(list, query.get("since")) : list;
+                int perPage = Math.min(MAX_PER_PAGE, Math.max(1, parseInt(query.get("per_page"), DEFAULT_PER_PAGE)));
+                int page = Math.max(1, parseInt(query.get("page"), 1));
+                int from = Math.min(filtered.size(), (page - 1) * perPage);
+                int to = Math.min(filtered.size(), from + perPage);
+                data = filtered.subList(from, to);
+                if (to < filtered.size()) {
+                    exchange.getResponseHeaders().set("Link", nextLink(path, query, page + 1));
+                }
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(data);
+            String etag = etag(body);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                applyRateLimitHeaders(exchange, token, false);
+                send(exchange, 304, null);
+                return;
+            }
+            if (!applyRateLimitHeaders(exchange, token, true)) {
+                send(exchange, 403, objectMapper.writeValueAsBytes(Map.of("message", "API rate limit exceeded")));
+                return;
+            }
+            send(exchange, 200, body);
+        } catch (Exception e) {
+            log.warn("GitHub replay server failed to handle {}: {}", exchange.getRequestURI(), e.getMessage());
+            try {
+                send(exchange, 500, objectMapper.writeValueAsBytes(Map.of("message", String.valueOf(e.getMessage()))));
+            } catch (IOException ignored) {
+                // 응답 헤더를 이미 보낸 경우에는 연결만 닫는다.
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Route resolve(String path) {
+        Matcher matcher = USER_ROUTE.matcher(path);
+        if (matcher.matches()) {
+            return new Route(matcher.group(2), matcher.group(1), null, null);
+        }
+        matcher = COMMIT_ROUTE.matcher(path);
+        if (matcher.matches()) {
+            return new Route("commit", matcher.group(1), matcher.group(2), matcher.group(3));
+        }
+        matcher = REPOSITORY_ROUTE.matcher(path);
+        if (matcher.matches()) {
+            return new Route(matcher.group(3), matcher.group(1), matcher.group(2), null);
+        }
+        return new Route("unknown", null, null, null);
+    }
+
+    /**
+     * 1. 메서드 설명: 요청 경로의 전체 응답 데이터(페이지네이션 전)를 반환한다.
+     * 2. 로직:
+     *    - fixtureDir에 "{path}.json"이 있으면 그 내용을 사용한다.
+     *    - 없고 recordFrom이 설정되어 있으면 upstream에서 모든 페이지를 받아 fixture로 기록한 뒤 사용한다.
+     *    - 그 외에는 합성 데이터를 생성한다.
+     * 3. param:
+     *      route - 해석된 route.
+     *      path  - 요청 경로.
+     *      token - 요청의 access token (기록 시 upstream에 그대로 전달).
+     * 4. return: List 또는 Map 형태의 응답 데이터.
+     */
+    private Object load(Route route, String path, String token) throws IOException, InterruptedException {
+        Path fixture = fixturePath(path);
+        if (fixture != null && Files.exists(fixture)) {
+            return objectMapper.readValue(fixture.toFile(), Object.class);
+        }
+        if (fixture != null && recordClient != null) {
+            Object recorded = record(path, token);
+            Files.createDirectories(fixture.getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(fixture.toFile(), recorded);
+            log.info("Recorded GitHub fixture {}", fixture);
+            return recorded;
+        }
+        return switch (route.name()) {
+            case "repos" -> syntheticData.repositories(route.owner());
+            case "events" -> syntheticData.events(route.owner());
+            case "commits" -> syntheticData.commits(route.owner(), route.repository());
+            case "commit" -> syntheticData.commitDetail(route.sha());
+            case "languages" -> syntheticData.languages(route.repository());
+            case "issues" -> syntheticData.issues(route.owner(), route.repository());
+            case "pulls" -> syntheticData.pullRequests(route.owner(), route.repository());
+            default -> null;
+        };
+    }
+
+    private Path fixturePath(String path) {
+        if (properties.getFixtureDir() == null) {
+            return null;
+        }
+        Path root = Path.of(properties.getFixtureDir()).toAbsolutePath().normalize();
+        Path fixture = root.resolve(path.substring(1) + ".json").normalize();
+        return fixture.startsWith(root) ? fixture : null;
+    }
+
+    /**
+     * 1. 메서드 설명: upstream GitHub API에서 경로의 모든 페이지를 받아 하나의 응답 데이터로 합친다.
+     * 2. 로직:
+     *    - 목록 응답이면 per_page=100으로 page를 늘려 가며 빈 페이지 또는 100개 미만 페이지가 나올 때까지 이어 붙인다.
+     *    - 객체 응답(commit 상세, language)은 첫 응답을 그대로 반환한다.
+     * 3. param:
+     *      path  - 요청 경로.
+     *      token - upstream 호출에 사용할 access token.
+     * 4. return: List 또는 Map 형태의 응답 데이터.
+     */
+    private Object record(String path, String token) throws IOException, InterruptedException {
+        List<Object> pages = new ArrayList<>();
+        for (int page = 1; ; page++) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(
+                            URI.create(properties.getRecordFrom() + path + "?per_page=" + MAX_PER_PAGE + "&page=" + page))
+                    .header("Accept", "application/vnd.github+json")
+                    .GET();
+            if (token != null) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            HttpResponse<byte[]> response = recordClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IOException("Upstream returned HTTP " + response.statusCode() + " for " + path);
+            }
+            Object body = objectMapper.readValue(response.body(), Object.class);
+            if (!(body instanceof List<?> list)) {
+                return body;
+            }
+            pages.addAll(list);
+            if (list.size() < MAX_PER_PAGE) {
+                return pages;
+            }
+        }
+    }
+
+    /**
+     * 커밋 목록에 since 쿼리 파라미터를 적용한다. (commit.author.date가 since 이후인 커밋만 남긴다.)
+     */
+    private List<?> filterSince(List<?> commits, String since) {
+        if (since == null) {
+            return commits;
+        }
+        OffsetDateTime threshold;
+        try {
+            threshold = OffsetDateTime.parse(since);
+        } catch (DateTimeParseException e) {
+            return commits;
+        }
+        List<Object> filtered = new ArrayList<>();
+        for (Object commit : commits) {
+            Object info = commit instanceof Map<?, ?> payload ? payload.get("commit") : null;
+            Object author = info instanceof Map<?, ?> infoMap ? infoMap.get("author") : null;
+            Object date = author instanceof Map<?, ?> authorMap ? authorMap.get("date") : null;
+            if (date == null || OffsetDateTime.parse(date.toString()).isAfter(threshold)) {
+                filtered.add(commit);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * 1. 메서드 설명: access token별 quota를 X-RateLimit-* 헤더로 응답에 설정한다.
+     * 2. 로직:
+     *    - token별로 한 시간 단위 window를 두며, window가 지나면 사용량을 초기화한다.
+     *    - consume이 true이면 quota를 1 차감하며, 이미 소진된 경우 false를 반환한다.
+     * 3. param:
+     *      exchange - HTTP 요청 / 응답.
+     *      token    - 요청의 access token.
+     *      consume  - quota 차감 여부. (304 응답은 차감하지 않는다.)
+     * 4. return: 요청을 허용하면 true, quota가 소진되었으면 false.
+     */
+    private boolean applyRateLimitHeaders(HttpExchange exchange, String token, boolean consume) {
+        RateWindow window = rateWindows.computeIfAbsent(String.valueOf(token), key -> new RateWindow());
+        long now = System.currentTimeMillis() / 1000;
+        boolean allowed;
+        int used;
+        long reset;
+        synchronized (window) {
+            if (window.resetEpochSeconds <= now) {
+                window.resetEpochSeconds = now + RATE_LIMIT_WINDOW_SECONDS;
+                window.used = 0;
+            }
+            allowed = window.used < properties.getRateLimit();
+            if (consume && allowed) {
+                window.used++;
+            }
+            used = window.used;
+            reset = window.resetEpochSeconds;
+        }
+        exchange.getResponseHeaders().set("X-RateLimit-Limit", String.valueOf(properties.getRateLimit()));
+        exchange.getResponseHeaders().set("X-RateLimit-Remaining", String.valueOf(Math.max(0, properties.getRateLimit() - used)));
+        exchange.getResponseHeaders().set("X-RateLimit-Used", String.valueOf(used));
+        exchange.getResponseHeaders().set("X-RateLimit-Reset", String.valueOf(reset));
+        exchange.getResponseHeaders().set("X-RateLimit-Resource", "core");
+        return allowed;
+    }
+
+    private String nextLink(String path, Map<String, String> query, int nextPage) {
+        Map<String, String> nextQuery = new LinkedHashMap<>(query);
+        nextQuery.put("page", String.valueOf(nextPage));
+        StringBuilder link = new StringBuilder("<").append(baseUrl()).append(path).append('?');
+        nextQuery.forEach((key, value) -> link.append(URLEncoder.encode(key, StandardCharsets.UTF_8))
+                .append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8)).append('&'));
+        link.setLength(link.length() - 1);
+        return link.append(">; rel=\"next\"").toString();
+    }
+
+    private void injectLatency() throws InterruptedException {
+        long delay = properties.getLatencyMillis();
+        if (properties.getLatencyJitterMillis() > 0) {
+            delay += ThreadLocalRandom.current().nextLong(properties.getLatencyJitterMillis() + 1);
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static String token(String authorization) {
+        if (authorization == null) {
+            return null;
+        }
+        int separator = authorization.indexOf(' ');
+        return separator < 0 ? authorization : authorization.substring(separator + 1);
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private record Route(String name, String owner, String repository, String sha) {
+    }
+
+    private static class RateWindow {
+        private long resetEpochSeconds;
+        private int used;
+    }
+}
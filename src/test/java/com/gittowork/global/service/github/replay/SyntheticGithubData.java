@@ -0,0 +1,212 @@
+package com.gittowork.global.service.github.replay;
+
+import com.gittowork.global.properties.GithubReplayProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * fixture가 없는 요청에 대해 GitHub REST API 응답 형태의 합성 데이터를 생성한다.
+ * 같은 입력에는 항상 같은 데이터를 생성하므로 반복 측정 결과를 비교할 수 있다.
+ */
+class SyntheticGithubData {
+
+    private static final String BENCH_USER_PREFIX = "bench-";
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final String[] LANGUAGES = {"Java", "Kotlin", "TypeScript", "Python", "Go"};
+    private static final String[] EVENT_TYPES = {"PushEvent", "IssuesEvent", "PullRequestEvent", "CreateEvent"};
+
+    private final GithubReplayProperties properties;
+
+    SyntheticGithubData(GithubReplayProperties properties) {
+        this.properties = properties;
+    }
+
+    List<Map<String, Object>> repositories(String owner) {
+        int count = repositoryCount(owner);
+        List<Map<String, Object>> repositories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = repositoryName(i);
+            Map<String, Object> repository = new LinkedHashMap<>();
+            repository.put("id", repositoryId(owner, name));
+            repository.put("name", name);
+            repository.put("full_name", owner + "/" + name);
+            repository.put("language", LANGUAGES[i % LANGUAGES.length]);
+            repository.put("stargazers_count", i % 17);
+            repository.put("forks_count", i % 5);
+            repository.put("created_at", BASE_TIME.minusDays(365L + i).toString());
+            repository.put("updated_at", BASE_TIME.minusDays(i).toString());
+            repository.put("pushed_at", BASE_TIME.minusDays(i).toString());
+            repository.put("description", "Synthetic repository " + i);
+            repository.put("default_branch", "main");
+            repository.put("owner", user(owner));
+            repositories.add(repository);
+        }
+        return repositories;
+    }
+
+    List<Map<String, Object>> commits(String owner, String repository) {
+        List<Map<String, Object>> commits = new ArrayList<>();
+        for (int i = 0; i < properties.getCommitsPerRepository(); i++) {
+            OffsetDateTime date = BASE_TIME.minusHours(i);
+            Map<String, Object> author = new LinkedHashMap<>();
+            author.put("name", owner);
+            author.put("email", owner + "@users.noreply.github.com");
+            author.put("date", date.toString());
+            Map<String, Object> commit = new LinkedHashMap<>();
+            commit.put("message", "Synthetic commit " + i + " on " + repository);
+            commit.put("author", author);
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("sha", sha(owner, repository, i));
+            payload.put("commit", commit);
+            commits.add(payload);
+        }
+        return commits;
+    }
+
+    Map<String, Object> commitDetail(String sha) {
+        int seed = sha.hashCode() & Integer.MAX_VALUE;
+        List<Map<String, Object>> files = new ArrayList<>();
+        for (int i = 0; i <= seed % 3; i++) {
+            Map<String, Object> file = new LinkedHashMap<>();
+            file.put("filename", "src/main/java/Synthetic" + i + ".java");
+            file.put("additions", 1 + (seed >> i) % 40);
+            file.put("deletions", (seed >> (i + 1)) % 20);
+            files.add(file);
+        }
+        Map<String, Object> detail = new LinkedHashMap<>();
+        detail.put("sha", sha);
+        detail.put("files", files);
+        return detail;
+    }
+
+    Map<String, Object> languages(String repository) {
+        int seed = repository.hashCode() & Integer.MAX_VALUE;
+        Map<String, Object> languages = new LinkedHashMap<>();
+        for (int i = 0; i <= seed % 3; i++) {
+            languages.put(LANGUAGES[(seed + i) % LANGUAGES.length], 1_000 + (seed >> i) % 50_000);
+        }
+        return languages;
+    }
+
+    List<Map<String, Object>> issues(String owner, String repository) {
+        List<Map<String, Object>> issues = new ArrayList<>();
+        for (int i = 1; i <= properties.getIssuesPerRepository(); i++) {
+            Map<String, Object> issue = new LinkedHashMap<>();
+            issue.put("id", (long) repositoryId(owner, repository) * 10_000 + i);
+            issue.put("number", i);
+            issue.put("url", "https://api.github.com/repos/" + owner + "/" + repository + "/issues/" + i);
+            issue.put("comments_url", "https://api.github.com/repos/" + owner + "/" + repository + "/issues/" + i + "/comments");
+            issue.put("title", "Synthetic issue " + i);
+            issue.put("body", "Synthetic issue body " + i);
+            issue.put("user", user(owner));
+            issue.put("labels", List.of());
+            issue.put("assignee", null);
+            issue.put("assignees", List.of());
+            issue.put("comments", i % 4);
+            issues.add(issue);
+        }
+        return issues;
+    }
+
+    List<Map<String, Object>> pullRequests(String owner, String repository) {
+        List<Map<String, Object>> pullRequests = new ArrayList<>();
+        for (int i = 1; i <= properties.getPullRequestsPerRepository(); i++) {
+            String base = "https://github.com/" + owner + "/" + repository + "/pull/" + i;
+            Map<String, Object> pullRequest = new LinkedHashMap<>();
+            pullRequest.put("id", (long) repositoryId(owner, repository) * 10_000 + 5_000 + i);
+            pullRequest.put("number", i);
+            pullRequest.put("url", "https://api.github.com/repos/" + owner + "/" + repository + "/pulls/" + i);
+            pullRequest.put("html_url", base);
+            pullRequest.put("diff_url", base + ".diff");
+            pullRequest.put("patch_url", base + ".patch");
+            pullRequest.put("title", "Synthetic pull request " + i);
+            pullRequest.put("body", "Synthetic pull request body " + i);
+            pullRequest.put("comments", i % 3);
+            pullRequest.put("review_comments", i % 2);
+            pullRequest.put("commits", 1 + i % 5);
+            pullRequest.put("user", user(owner));
+            pullRequest.put("head", branch(owner, repository, "feature-" + i, sha(owner, repository, i)));
+            pullRequest.put("base", branch(owner, repository, "main", sha(owner, repository, 0)));
+            pullRequests.add(pullRequest);
+        }
+        return pullRequests;
+    }
+
+    List<Map<String, Object>> events(String owner) {
+        int repositories = repositoryCount(owner);
+        List<Map<String, Object>> events = new ArrayList<>();
+        for (int i = 0; i < properties.getEventsPerUser() && repositories > 0; i++) {
+            String repository = repositoryName(i % repositories);
+            Map<String, Object> repo = new LinkedHashMap<>();
+            repo.put("id", repositoryId(owner, repository));
+            repo.put("name", owner + "/" + repository);
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("id", String.valueOf(40_000_000_000L - i));
+            event.put("type", EVENT_TYPES[i % EVENT_TYPES.length]);
+            event.put("repo", repo);
+            event.put("payload", Map.of());
+            event.put("created_at", BASE_TIME.minusHours(i).toString());
+            events.add(event);
+        }
+        return events;
+    }
+
+    private int repositoryCount(String owner) {
+        if (owner.startsWith(BENCH_USER_PREFIX)) {
+            try {
+                return Integer.parseInt(owner.substring(BENCH_USER_PREFIX.length()));
+            } catch (NumberFormatException ignored) {
+                // 일반 사용자 이름으로 처리한다.
+            }
+        }
+        return properties.getDefaultRepositories();
+    }
+
+    private Map<String, Object> branch(String owner, String repository, String ref, String sha) {
+        Map<String, Object> repo = new LinkedHashMap<>();
+        repo.put("id", repositoryId(owner, repository));
+        repo.put("full_name", owner + "/" + repository);
+        Map<String, Object> branch = new LinkedHashMap<>();
+        branch.put("label", owner + ":" + ref);
+        branch.put("ref", ref);
+        branch.put("sha", sha);
+        branch.put("user", user(owner));
+        branch.put("repo", repo);
+        return branch;
+    }
+
+    private static Map<String, Object> user(String login) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("login", login);
+        user.put("id", login.hashCode() & Integer.MAX_VALUE);
+        return user;
+    }
+
+    private static String repositoryName(int index) {
+        return String.format("repo-%04d", index);
+    }
+
+    private static int repositoryId(String owner, String repository) {
+        return (owner + "/" + repository).hashCode() & Integer.MAX_VALUE;
+    }
+
+    private static String sha(String owner, String repository, int index) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest((owner + "/" + repository + "#" + index).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 algorithm not available", e);
+        }
+    }
+}
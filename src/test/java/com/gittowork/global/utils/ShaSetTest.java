@@ -0,0 +1,91 @@
+package com.gittowork.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShaSetTest {
+
+    private static final String ZERO_SHA = "0".repeat(40);
+
+    @Test
+    void addReturnsFalseForDuplicates() {
+        ShaSet shas = new ShaSet();
+        String sha = "a94a8fe5ccb19ba61c4c0873d391e987982fbbd3";
+
+        assertThat(shas.add(sha)).isTrue();
+        assertThat(shas.add(sha)).isFalse();
+        assertThat(shas.add(sha.toUpperCase())).isFalse();
+        assertThat(shas.contains(sha)).isTrue();
+        assertThat(shas.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsShasThatShareLeadingDigits() {
+        ShaSet shas = new ShaSet();
+        String prefix = "a94a8fe5ccb19ba61c4c0873d391e987";
+
+        shas.add(prefix + "00000001");
+        shas.add(prefix + "00000002");
+
+        assertThat(shas.contains(prefix + "00000001")).isTrue();
+        assertThat(shas.contains(prefix + "00000002")).isTrue();
+        assertThat(shas.contains(prefix + "00000003")).isFalse();
+        assertThat(shas.size()).isEqualTo(2);
+    }
+
+    @Test
+    void findsEveryShaAfterProbingAndResizing() {
+        ShaSet shas = new ShaSet(1);
+        List<String> added = randomShas(10_000);
+
+        added.forEach(sha -> assertThat(shas.add(sha)).isTrue());
+
+        assertThat(shas.size()).isEqualTo(added.size());
+        assertThat(added).allMatch(shas::contains);
+        assertThat(randomShas(1_000).stream().filter(sha -> !added.contains(sha))).noneMatch(shas::contains);
+    }
+
+    @Test
+    void tracksZeroShaSeparatelyFromEmptySlots() {
+        ShaSet shas = new ShaSet();
+
+        assertThat(shas.contains(ZERO_SHA)).isFalse();
+        assertThat(shas.add(ZERO_SHA)).isTrue();
+        assertThat(shas.add(ZERO_SHA)).isFalse();
+        assertThat(shas.contains(ZERO_SHA)).isTrue();
+        assertThat(shas.size()).isEqualTo(1);
+    }
+
+    @Test
+    void storesNonShaValuesInFallbackSet() {
+        ShaSet shas = new ShaSet();
+
+        assertThat(shas.add("abc123")).isTrue();
+        assertThat(shas.add("not-a-sha-but-exactly-forty-characters!!")).isTrue();
+        assertThat(shas.add("abc123")).isFalse();
+        assertThat(shas.add(null)).isFalse();
+
+        assertThat(shas.contains("abc123")).isTrue();
+        assertThat(shas.contains("not-a-sha-but-exactly-forty-characters!!")).isTrue();
+        assertThat(shas.contains("abc124")).isFalse();
+        assertThat(shas.contains(null)).isFalse();
+        assertThat(shas.size()).isEqualTo(2);
+    }
+
+    private static List<String> randomShas(int count) {
+        Random random = new Random(count);
+        byte[] bytes = new byte[20];
+        List<String> shas = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            random.nextBytes(bytes);
+            shas.add(HexFormat.of().formatHex(bytes));
+        }
+        return shas;
+    }
+}